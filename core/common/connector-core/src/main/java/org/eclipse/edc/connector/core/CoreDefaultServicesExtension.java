@@ -34,6 +34,7 @@ import org.eclipse.edc.spi.security.VaultPrivateKeyResolver;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.system.StateMachineObserver;
 import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
 import org.eclipse.edc.transaction.datasource.spi.DefaultDataSourceRegistry;
 import org.eclipse.edc.transaction.spi.NoopTransactionContext;
@@ -79,6 +80,11 @@ public class CoreDefaultServicesExtension implements ServiceExtension {
         return ExecutorInstrumentation.noop();
     }
 
+    @Provider(isDefault = true)
+    public StateMachineObserver defaultStateMachineObserver() {
+        return StateMachineObserver.noop();
+    }
+
     @Provider(isDefault = true)
     public EventExecutorServiceContainer eventExecutorServiceContainer() {
         return new EventExecutorServiceContainer(Executors.newFixedThreadPool(1)); // TODO: make configurable
@@ -44,6 +44,7 @@ import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.Hostname;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.system.StateMachineObserver;
 import org.eclipse.edc.spi.system.health.HealthCheckService;
 import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
@@ -75,6 +76,25 @@ public class CoreServicesExtension implements ServiceExtension {
     @Setting
     public static final String IDENTITY_KEY = "edc.agent.identity.key";
 
+    /**
+     * How many events can wait for each asynchronous event subscriber.
+     */
+    @Setting
+    public static final String EVENT_SUBSCRIBER_QUEUE_SIZE = "edc.events.subscriber.queue.size";
+
+    /**
+     * What happens when the queue of an asynchronous event subscriber is full: BLOCK (the default) makes the publisher
+     * wait for room, at most for the block timeout, DROP discards the event for that subscriber right away.
+     */
+    @Setting
+    public static final String EVENT_SUBSCRIBER_QUEUE_POLICY = "edc.events.subscriber.queue.policy";
+
+    /**
+     * How long, in milliseconds, a publisher waits for room in the queue of a subscriber with the BLOCK policy.
+     */
+    @Setting
+    public static final String EVENT_SUBSCRIBER_QUEUE_BLOCK_TIMEOUT = "edc.events.subscriber.queue.block.timeout-millis";
+
     public static final String NAME = "Core Services";
     private static final long DEFAULT_DURATION = 60;
     private static final int DEFAULT_TP_SIZE = 3;
@@ -91,6 +111,9 @@ public class CoreServicesExtension implements ServiceExtension {
     @Inject
     private TypeManager typeManager;
 
+    @Inject
+    private StateMachineObserver stateMachineObserver;
+
     private HealthCheckServiceImpl healthCheckService;
     private RuleBindingRegistry ruleBindingRegistry;
 
@@ -164,7 +187,10 @@ public class CoreServicesExtension implements ServiceExtension {
 
     @Provider
     public EventRouter eventRouter(ServiceExtensionContext context) {
-        return new EventRouterImpl(context.getMonitor(), eventExecutorServiceContainer.getExecutorService());
+        var queueSize = context.getSetting(EVENT_SUBSCRIBER_QUEUE_SIZE, EventRouterImpl.DEFAULT_QUEUE_CAPACITY);
+        var policy = EventRouterImpl.BackpressurePolicy.valueOf(context.getSetting(EVENT_SUBSCRIBER_QUEUE_POLICY, EventRouterImpl.BackpressurePolicy.BLOCK.name()).toUpperCase());
+        var blockTimeout = context.getSetting(EVENT_SUBSCRIBER_QUEUE_BLOCK_TIMEOUT, EventRouterImpl.DEFAULT_BLOCK_TIMEOUT_MILLIS);
+        return new EventRouterImpl(context.getMonitor(), eventExecutorServiceContainer.getExecutorService(), queueSize, policy, blockTimeout, stateMachineObserver);
     }
 
     @Provider
@@ -21,6 +21,7 @@ import org.eclipse.edc.spi.persistence.StateEntityStore;
 import org.eclipse.edc.spi.retry.ExponentialWaitStrategy;
 import org.eclipse.edc.spi.retry.WaitStrategy;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.spi.system.StateMachineObserver;
 import org.eclipse.edc.spi.telemetry.Telemetry;
 import org.eclipse.edc.statemachine.StateMachineManager;
 import org.eclipse.edc.statemachine.retry.EntityRetryProcessConfiguration;
@@ -29,6 +30,7 @@ import org.jetbrains.annotations.NotNull;
 
 import java.time.Clock;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 /**
  * Abstraction that provides a common ground for state machine manager implementation.
@@ -40,13 +42,18 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
 
     public static final long DEFAULT_ITERATION_WAIT = 1000;
     public static final int DEFAULT_BATCH_SIZE = 20;
+    public static final int DEFAULT_WORKERS = 1;
+    public static final int DEFAULT_WORKERS_PER_STATE = 1;
     public static final int DEFAULT_SEND_RETRY_LIMIT = 7;
     public static final long DEFAULT_SEND_RETRY_BASE_DELAY = 1000L;
 
     protected Monitor monitor;
     protected int batchSize = DEFAULT_BATCH_SIZE;
-    protected WaitStrategy waitStrategy = () -> DEFAULT_ITERATION_WAIT;
+    protected int workers = DEFAULT_WORKERS;
+    protected int workersPerState = DEFAULT_WORKERS_PER_STATE;
+    protected Supplier<WaitStrategy> waitStrategy = () -> new ExponentialWaitStrategy(DEFAULT_ITERATION_WAIT);
     protected ExecutorInstrumentation executorInstrumentation = ExecutorInstrumentation.noop();
+    protected StateMachineObserver observer = StateMachineObserver.noop();
     protected Telemetry telemetry = new Telemetry();
     protected EntityRetryProcessConfiguration entityRetryProcessConfiguration = defaultEntityRetryProcessConfiguration();
     protected EntityRetryProcessFactory entityRetryProcessFactory;
@@ -56,9 +63,12 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
 
     @Override
     public void start() {
-        entityRetryProcessFactory = new EntityRetryProcessFactory(monitor, clock, entityRetryProcessConfiguration);
+        entityRetryProcessFactory = new EntityRetryProcessFactory(monitor, clock, entityRetryProcessConfiguration, observer);
         var stateMachineManagerBuilder = StateMachineManager.Builder
-                .newInstance(getClass().getSimpleName(), monitor, executorInstrumentation, waitStrategy);
+                .newInstance(getClass().getSimpleName(), monitor, executorInstrumentation, waitStrategy)
+                .observer(observer)
+                .workers(workers)
+                .workersPerProcessor(workersPerState);
         stateMachineManager = configureStateMachineManager(stateMachineManagerBuilder).build();
 
         stateMachineManager.start();
@@ -71,6 +81,28 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
         }
     }
 
+    /**
+     * Wakes up the state machine, so that entities that have been created or changed outside its loop get processed
+     * right away instead of after the next iteration wait.
+     */
+    public void wakeUp() {
+        if (stateMachineManager != null) {
+            stateMachineManager.wakeUp();
+        }
+    }
+
+    /**
+     * Wakes up only the loops that process the given state, so that a change does not make every loop of a
+     * multi-worker state machine query the store.
+     *
+     * @param state the state an entity has been moved to.
+     */
+    public void wakeUp(String state) {
+        if (stateMachineManager != null) {
+            stateMachineManager.wakeUp(state);
+        }
+    }
+
     /**
      * configures the State Machine Manager builder
      *
@@ -86,6 +118,7 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
 
     protected void update(E entity) {
         store.save(entity);
+        wakeUp(entity.stateAsString());
         monitor.debug(() -> "[%s] %s %s is now in state %s"
                 .formatted(this.getClass().getSimpleName(), entity.getClass().getSimpleName(),
                         entity.getId(), entity.stateAsString()));
@@ -115,8 +148,36 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
             return self();
         }
 
+        /**
+         * Number of threads on which the state processors run concurrently.
+         */
+        public B workers(int workers) {
+            manager.workers = workers;
+            return self();
+        }
+
+        /**
+         * Number of concurrent workers that process every state, each one leasing its own batch of entities.
+         */
+        public B workersPerState(int workersPerState) {
+            manager.workersPerState = workersPerState;
+            return self();
+        }
+
+        /**
+         * Wait strategy shared by all the loops of the state machine. Stateful strategies should be passed through
+         * {@link #waitStrategyFactory(Supplier)} instead, so that the backoff of one loop does not affect the others.
+         */
         public B waitStrategy(WaitStrategy waitStrategy) {
-            manager.waitStrategy = waitStrategy;
+            manager.waitStrategy = () -> waitStrategy;
+            return self();
+        }
+
+        /**
+         * Factory that provides a new wait strategy for every loop of the state machine.
+         */
+        public B waitStrategyFactory(Supplier<WaitStrategy> waitStrategyFactory) {
+            manager.waitStrategy = waitStrategyFactory;
             return self();
         }
 
@@ -135,6 +196,11 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
             return self();
         }
 
+        public B observer(StateMachineObserver observer) {
+            manager.observer = observer;
+            return self();
+        }
+
         public B entityRetryProcessConfiguration(EntityRetryProcessConfiguration entityRetryProcessConfiguration) {
             manager.entityRetryProcessConfiguration = entityRetryProcessConfiguration;
             return self();
@@ -149,7 +215,7 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
             Objects.requireNonNull(manager.store, "store");
             Objects.requireNonNull(manager.monitor, "monitor");
 
-            manager.entityRetryProcessFactory = new EntityRetryProcessFactory(manager.monitor, manager.clock, manager.entityRetryProcessConfiguration);
+            manager.entityRetryProcessFactory = new EntityRetryProcessFactory(manager.monitor, manager.clock, manager.entityRetryProcessConfiguration, manager.observer);
 
             return manager;
         }
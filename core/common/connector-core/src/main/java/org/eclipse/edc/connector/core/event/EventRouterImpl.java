@@ -15,73 +15,211 @@
 
 package org.eclipse.edc.connector.core.event;
 
+import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.event.Event;
 import org.eclipse.edc.spi.event.EventEnvelope;
 import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.event.EventSubscriber;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.StateMachineObserver;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
-import java.util.function.Supplier;
-import java.util.stream.Stream;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.lang.String.format;
-import static java.util.concurrent.CompletableFuture.runAsync;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
+/**
+ * Default {@link EventRouter}. Synchronous subscribers are called by the publishing thread. Every asynchronous
+ * subscriber has a bounded queue whose events it receives in publication order, on the shared executor. When the
+ * queue of a subscriber is full, the {@link BackpressurePolicy} decides whether the publisher waits for a bounded time
+ * or the event is dropped for that subscriber right away. By default the publisher waits, so that events are only lost
+ * when a subscriber stays saturated for longer than the timeout. The depth of every queue is registered as a gauge on
+ * the {@link StateMachineObserver}, tagged by a subscriber name that does not change between runs.
+ * <p>
+ * The subscribers of a concrete event class are resolved once and kept until a subscriber is registered.
+ */
 public class EventRouterImpl implements EventRouter {
 
+    public static final int DEFAULT_QUEUE_CAPACITY = 10_000;
+    public static final long DEFAULT_BLOCK_TIMEOUT_MILLIS = 1000;
+    public static final String QUEUE_DEPTH_GAUGE = "edc.events.subscriber.queue.depth";
+
+    /**
+     * Maximum number of events a subscriber handles before giving its executor thread to other subscribers.
+     */
+    private static final int DRAIN_BATCH_SIZE = 100;
+
     private final Map<Class<?>, List<EventSubscriber>> subscribers = new ConcurrentHashMap<>();
     private final Map<Class<?>, List<EventSubscriber>> syncSubscribers = new ConcurrentHashMap<>();
+    private final Map<EventSubscriber, SubscriberQueue> queues = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> subscriberNames = new ConcurrentHashMap<>();
+    private volatile Map<Class<?>, List<EventSubscriber>> subscriberIndex = new ConcurrentHashMap<>();
+    private volatile Map<Class<?>, List<EventSubscriber>> syncSubscriberIndex = new ConcurrentHashMap<>();
 
     private final Monitor monitor;
     private final ExecutorService executor;
+    private final int queueCapacity;
+    private final BackpressurePolicy backpressurePolicy;
+    private final long blockTimeoutMillis;
+    private final StateMachineObserver observer;
 
     public EventRouterImpl(Monitor monitor, ExecutorService executor) {
+        this(monitor, executor, DEFAULT_QUEUE_CAPACITY, BackpressurePolicy.BLOCK, DEFAULT_BLOCK_TIMEOUT_MILLIS, StateMachineObserver.noop());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param monitor            the monitor.
+     * @param executor           the executor on which asynchronous subscribers receive their events.
+     * @param queueCapacity      the maximum number of events waiting for each asynchronous subscriber.
+     * @param backpressurePolicy what happens when the queue of a subscriber is full.
+     * @param blockTimeoutMillis how long a publisher waits for room in a full queue with {@link BackpressurePolicy#BLOCK}.
+     * @param observer           the observer on which the queue depth gauges are registered.
+     */
+    public EventRouterImpl(Monitor monitor, ExecutorService executor, int queueCapacity, BackpressurePolicy backpressurePolicy,
+                           long blockTimeoutMillis, StateMachineObserver observer) {
         this.monitor = monitor;
         this.executor = executor;
+        this.queueCapacity = queueCapacity;
+        this.backpressurePolicy = backpressurePolicy;
+        this.blockTimeoutMillis = blockTimeoutMillis;
+        this.observer = observer;
     }
 
     @Override
     public <E extends Event> void registerSync(Class<E> eventKind, EventSubscriber subscriber) {
-        syncSubscribers.computeIfAbsent(eventKind, s -> new ArrayList<>()).add(subscriber);
+        syncSubscribers.computeIfAbsent(eventKind, s -> new CopyOnWriteArrayList<>()).add(subscriber);
+        syncSubscriberIndex = new ConcurrentHashMap<>();
     }
 
     @Override
     public <E extends Event> void register(Class<E> eventKind, EventSubscriber subscriber) {
-        subscribers.computeIfAbsent(eventKind, s -> new ArrayList<>()).add(subscriber);
+        queues.computeIfAbsent(subscriber, s -> createQueue(s, eventKind));
+        subscribers.computeIfAbsent(eventKind, s -> new CopyOnWriteArrayList<>()).add(subscriber);
+        subscriberIndex = new ConcurrentHashMap<>();
     }
-    
+
     @Override
     public <E extends Event> void publish(EventEnvelope<E> event) {
-        subscriberFor(event, this::getSyncSubscribers).forEach(subscriber -> subscriber.on(event));
-
-        subscriberFor(event, this::getSubscribers)
-                .map(subscriber -> runAsync(() -> subscriber.on(event), executor).thenApply(v -> subscriber))
-                .forEach(future -> future.whenComplete((subscriber, throwable) -> {
-                    if (throwable != null) {
-                        var subscriberName = subscriber.getClass().getSimpleName();
-                        var eventName = event.getClass().getSimpleName();
-                        monitor.severe(format("Subscriber %s failed to handle event %s", subscriberName, eventName), throwable);
-                    }
-                }));
+        var eventClass = event.getPayload().getClass();
+
+        syncSubscriberIndex.computeIfAbsent(eventClass, type -> resolve(type, syncSubscribers))
+                .forEach(subscriber -> subscriber.on(event));
+
+        subscriberIndex.computeIfAbsent(eventClass, type -> resolve(type, subscribers))
+                .forEach(subscriber -> queues.get(subscriber).enqueue(event));
     }
 
-    private Map<Class<?>, List<EventSubscriber>> getSubscribers() {
-        return subscribers;
+    private SubscriberQueue createQueue(EventSubscriber subscriber, Class<?> eventKind) {
+        var queue = new SubscriberQueue(subscriber);
+        observer.registerGauge(QUEUE_DEPTH_GAUGE, Map.of("subscriber", gaugeName(subscriber, eventKind)), queue.events::size);
+        return queue;
     }
 
-    private Map<Class<?>, List<EventSubscriber>> getSyncSubscribers() {
-        return syncSubscribers;
+    /**
+     * Names a subscriber after its class, or after the event kind it is first registered for when its class has no
+     * stable name, as for lambdas and anonymous classes. Subscribers with the same name are told apart by their
+     * registration order, which does not change between runs.
+     */
+    private String gaugeName(EventSubscriber subscriber, Class<?> eventKind) {
+        var type = subscriber.getClass();
+        var name = type.isHidden() || type.isSynthetic() || type.isAnonymousClass()
+                ? eventKind.getSimpleName() + "Subscriber"
+                : type.getSimpleName();
+        var index = subscriberNames.computeIfAbsent(name, n -> new AtomicInteger()).incrementAndGet();
+        return index == 1 ? name : name + "#" + index;
     }
 
-    private <E extends Event> Stream<EventSubscriber> subscriberFor(EventEnvelope<E> envelope, Supplier<Map<Class<?>, List<EventSubscriber>>> supplier) {
-        return supplier.get().entrySet()
+    private List<EventSubscriber> resolve(Class<?> eventClass, Map<Class<?>, List<EventSubscriber>> registrations) {
+        return registrations.entrySet()
                 .stream()
-                .filter(entry -> entry.getKey().isAssignableFrom(envelope.getPayload().getClass()))
-                .flatMap(entry -> entry.getValue().stream());
+                .filter(entry -> entry.getKey().isAssignableFrom(eventClass))
+                .flatMap(entry -> entry.getValue().stream())
+                .toList();
+    }
+
+    /**
+     * What happens to an event published while the queue of an asynchronous subscriber is full.
+     */
+    public enum BackpressurePolicy {
+        /**
+         * The publisher waits until the subscriber has room for the event, at most for the configured timeout after
+         * which the event is dropped. Bounding the wait avoids a deadlock when a subscriber publishes events itself.
+         */
+        BLOCK,
+        /**
+         * The event is not delivered to the subscriber.
+         */
+        DROP
+    }
+
+    private class SubscriberQueue {
+        private final EventSubscriber subscriber;
+        private final BlockingQueue<EventEnvelope<?>> events = new LinkedBlockingQueue<>(queueCapacity);
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        SubscriberQueue(EventSubscriber subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        void enqueue(EventEnvelope<?> event) {
+            if (!offer(event)) {
+                monitor.warning(format("Subscriber %s is too slow, event %s dropped", subscriberName(), event.getPayload().getClass().getSimpleName()));
+                return;
+            }
+            schedule();
+        }
+
+        private boolean offer(EventEnvelope<?> event) {
+            if (backpressurePolicy == BackpressurePolicy.DROP) {
+                return events.offer(event);
+            }
+            try {
+                return events.offer(event, blockTimeoutMillis, MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new EdcException(e);
+            }
+        }
+
+        private void schedule() {
+            if (draining.compareAndSet(false, true)) {
+                executor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                for (var i = 0; i < DRAIN_BATCH_SIZE; i++) {
+                    var event = events.poll();
+                    if (event == null) {
+                        break;
+                    }
+                    try {
+                        subscriber.on(event);
+                    } catch (Throwable throwable) {
+                        monitor.severe(format("Subscriber %s failed to handle event %s", subscriberName(), event.getPayload().getClass().getSimpleName()), throwable);
+                    }
+                }
+            } finally {
+                draining.set(false);
+                if (!events.isEmpty()) {
+                    schedule();
+                }
+            }
+        }
+
+        private String subscriberName() {
+            return subscriber.getClass().getSimpleName();
+        }
     }
 }
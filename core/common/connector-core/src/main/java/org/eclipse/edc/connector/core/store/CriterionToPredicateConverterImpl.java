@@ -17,7 +17,7 @@ package org.eclipse.edc.connector.core.store;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.CriterionToPredicateConverter;
 import org.eclipse.edc.util.reflection.ReflectionException;
-import org.eclipse.edc.util.reflection.ReflectionUtil;
+import org.eclipse.edc.util.reflection.PropertyPath;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.List;
@@ -46,8 +46,20 @@ public class CriterionToPredicateConverterImpl implements CriterionToPredicateCo
     }
 
     protected Object property(String key, Object object) {
+        return property(PropertyPath.parse(key), object);
+    }
+
+    /**
+     * Gets the value of a property of the object. The predicates call this method with the path of the criterion
+     * operand, parsed once when the predicate is created.
+     *
+     * @param path   the parsed property path.
+     * @param object the object.
+     * @return the value of the property, null if it does not exist.
+     */
+    protected Object property(PropertyPath path, Object object) {
         try {
-            return ReflectionUtil.getFieldValue(key, object);
+            return path.getValue(object);
         } catch (ReflectionException e) {
             return null;
         }
@@ -55,8 +67,8 @@ public class CriterionToPredicateConverterImpl implements CriterionToPredicateCo
 
     @NotNull
     private <T> Predicate<T> equalPredicate(Criterion criterion) {
+        var operandLeft = PropertyPath.parse((String) criterion.getOperandLeft());
         return t -> {
-            var operandLeft = (String) criterion.getOperandLeft();
             var property = property(operandLeft, t);
             if (property == null) {
                 return false;
@@ -82,8 +94,8 @@ public class CriterionToPredicateConverterImpl implements CriterionToPredicateCo
 
     @NotNull
     private <T> Predicate<T> inPredicate(Criterion criterion) {
+        var operandLeft = PropertyPath.parse((String) criterion.getOperandLeft());
         return t -> {
-            var operandLeft = (String) criterion.getOperandLeft();
             var property = property(operandLeft, t);
             if (property == null) {
                 return false;
@@ -106,24 +118,23 @@ public class CriterionToPredicateConverterImpl implements CriterionToPredicateCo
 
     @NotNull
     private <T> Predicate<T> likePredicate(Criterion criterion) {
+        if (!(criterion.getOperandRight() instanceof String operandRight)) {
+            return t -> false;
+        }
+        var operandLeft = PropertyPath.parse((String) criterion.getOperandLeft());
+
+        var regexPattern = Pattern.quote(operandRight)
+                .replace("%", "\\E.*\\Q")
+                .replace("_", "\\E.\\Q");
+        var pattern = Pattern.compile("^" + regexPattern + "$");
+
         return t -> {
-            var operandLeft = (String) criterion.getOperandLeft();
             var property = property(operandLeft, t);
             if (property == null) {
                 return false;
             }
 
-            if (criterion.getOperandRight() instanceof String operandRight) {
-                var regexPattern = Pattern.quote(operandRight)
-                        .replace("%", "\\E.*\\Q")
-                        .replace("_", "\\E.\\Q");
-
-                regexPattern = "^" + regexPattern + "$";
-
-                return Pattern.compile(regexPattern).matcher(property.toString()).matches();
-            }
-
-            return false;
+            return pattern.matcher(property.toString()).matches();
         };
     }
 
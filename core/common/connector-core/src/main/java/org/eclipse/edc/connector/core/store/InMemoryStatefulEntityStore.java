@@ -89,6 +89,7 @@ public class InMemoryStatefulEntityStore<T extends StatefulEntity<T>> {
             var entities = entitiesById.values().stream()
                     .filter(filterPredicate)
                     .filter(e -> !isLeased(e.getId()))
+                    .filter(e -> e.getNextAttemptAt() <= clock.millis())
                     .sorted(comparingLong(StatefulEntity::getStateTimestamp)) //order by state timestamp, oldest first
                     .limit(max)
                     .toList();
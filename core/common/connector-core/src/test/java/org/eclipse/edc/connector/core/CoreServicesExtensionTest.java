@@ -21,6 +21,7 @@ import org.eclipse.edc.policy.model.PolicyRegistrationTypes;
 import org.eclipse.edc.spi.security.PrivateKeyResolver;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.system.StateMachineObserver;
 import org.eclipse.edc.spi.system.injection.ObjectFactory;
 import org.eclipse.edc.spi.types.TypeManager;
 import org.junit.jupiter.api.BeforeEach;
@@ -51,6 +52,7 @@ class CoreServicesExtensionTest {
         context.registerService(PrivateKeyResolver.class, privateKeyResolverMock);
 
         context.registerService(ExecutorInstrumentation.class, mock(ExecutorInstrumentation.class));
+        context.registerService(StateMachineObserver.class, StateMachineObserver.noop());
 
         this.context = context;
         extension = factory.constructInstance(CoreServicesExtension.class);
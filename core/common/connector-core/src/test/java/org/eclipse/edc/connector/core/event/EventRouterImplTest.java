@@ -18,18 +18,30 @@ import org.eclipse.edc.spi.event.Event;
 import org.eclipse.edc.spi.event.EventEnvelope;
 import org.eclipse.edc.spi.event.EventSubscriber;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.StateMachineObserver;
 import org.junit.jupiter.api.Test;
 
 import java.time.Clock;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
@@ -149,6 +161,101 @@ class EventRouterImplTest {
         verifyNoInteractions(subscriberB);
     }
 
+    @Test
+    void shouldDeliverEventsInPublicationOrderToEachSubscriber() {
+        var router = new EventRouterImpl(monitor, Executors.newFixedThreadPool(4));
+        var received = new CopyOnWriteArrayList<EventEnvelope<?>>();
+        router.register(TestEvent.class, new EventSubscriber() {
+            @Override
+            public <E extends Event> void on(EventEnvelope<E> event) {
+                received.add(event);
+            }
+        });
+
+        var events = IntStream.range(0, 500)
+                .mapToObj(i -> EventEnvelope.Builder.newInstance().at(i).payload(TestEvent.Builder.newInstance().build()).build())
+                .toList();
+        events.forEach(router::publish);
+
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> assertThat(received).containsExactlyElementsOf(events));
+    }
+
+    @Test
+    void shouldDropEvents_whenSubscriberQueueIsFullAndPolicyIsDrop() {
+        var pending = new ArrayList<Runnable>();
+        var executor = mock(ExecutorService.class);
+        doAnswer(invocation -> pending.add(invocation.getArgument(0))).when(executor).execute(any());
+        var depths = new HashMap<Map<String, String>, Supplier<Number>>();
+        var observer = new StateMachineObserver() {
+            @Override
+            public void registerGauge(String name, Map<String, String> tags, Supplier<Number> value) {
+                depths.put(tags, value);
+            }
+        };
+        var router = new EventRouterImpl(monitor, executor, 2, EventRouterImpl.BackpressurePolicy.DROP, 0, observer);
+        var subscriber = mock(EventSubscriber.class);
+        router.register(TestEvent.class, subscriber);
+
+        IntStream.range(0, 3).forEach(i -> router.publish(testEvent()));
+
+        assertThat(depths).hasSize(1);
+        var depth = depths.values().iterator().next();
+        assertThat(depth.get()).isEqualTo(2);
+        verify(monitor).warning(anyString());
+
+        pending.forEach(Runnable::run);
+
+        verify(subscriber, times(2)).on(any());
+        assertThat(depth.get()).isEqualTo(0);
+    }
+
+    @Test
+    void shouldDropEventsAfterTimeout_whenSubscriberQueueIsFullAndPolicyIsBlock() {
+        var executor = mock(ExecutorService.class);
+        var router = new EventRouterImpl(monitor, executor, 1, EventRouterImpl.BackpressurePolicy.BLOCK, 10, StateMachineObserver.noop());
+        router.register(TestEvent.class, mock(EventSubscriber.class));
+
+        router.publish(testEvent());
+        router.publish(testEvent());
+
+        verify(monitor).warning(anyString());
+    }
+
+    @Test
+    void shouldTagQueueDepthGaugesWithStableSubscriberNames() {
+        var names = new ArrayList<String>();
+        var observer = new StateMachineObserver() {
+            @Override
+            public void registerGauge(String name, Map<String, String> tags, Supplier<Number> value) {
+                names.add(tags.get("subscriber"));
+            }
+        };
+        var router = new EventRouterImpl(monitor, mock(ExecutorService.class), 1, EventRouterImpl.BackpressurePolicy.BLOCK, 0, observer);
+
+        router.register(TestEvent.class, new NamedSubscriber());
+        router.register(TestEvent.class, new NamedSubscriber());
+        router.register(TestEvent.class, new EventSubscriber() {
+            @Override
+            public <E extends Event> void on(EventEnvelope<E> event) {
+            }
+        });
+
+        assertThat(names).containsExactly("NamedSubscriber", "NamedSubscriber#2", "TestEventSubscriber");
+    }
+
+    private EventEnvelope<TestEvent> testEvent() {
+        return EventEnvelope.Builder.newInstance()
+                .at(clock.millis())
+                .payload(TestEvent.Builder.newInstance().build())
+                .build();
+    }
+
+    private static class NamedSubscriber implements EventSubscriber {
+        @Override
+        public <E extends Event> void on(EventEnvelope<E> event) {
+        }
+    }
+
     private abstract static class TestEventBase extends Event {
     }
 
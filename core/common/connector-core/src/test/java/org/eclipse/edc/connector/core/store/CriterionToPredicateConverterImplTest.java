@@ -15,6 +15,7 @@
 package org.eclipse.edc.connector.core.store;
 
 import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.util.reflection.PropertyPath;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
@@ -129,6 +130,22 @@ class CriterionToPredicateConverterImplTest {
         assertThat(predicate).rejects(new TestObject(List.of(new NestedObject("any"))));
     }
 
+    @Test
+    void shouldResolvePropertiesThroughOverriddenPathLookup() {
+        var overridingConverter = new CriterionToPredicateConverterImpl() {
+            @Override
+            protected Object property(PropertyPath path, Object object) {
+                return path.toString().equals("alias") ? super.property(PropertyPath.parse("value"), object) : super.property(path, object);
+            }
+        };
+
+        var predicate = overridingConverter.convert(new Criterion("alias", "=", "any"));
+
+        assertThat(predicate)
+                .accepts(new TestObject("any"))
+                .rejects(new TestObject("other"));
+    }
+
     public enum TestEnum {
         ENTRY1, ENTRY2
     }
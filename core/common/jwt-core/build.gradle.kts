@@ -19,6 +19,7 @@ plugins {
 
 dependencies {
     api(project(":spi:common:jwt-spi"))
+    implementation(project(":core:common:util"))
 
     implementation(libs.nimbus.jwt)
 }
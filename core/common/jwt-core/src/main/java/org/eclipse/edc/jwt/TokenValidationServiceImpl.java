@@ -15,6 +15,7 @@
 package org.eclipse.edc.jwt;
 
 import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
 import com.nimbusds.jose.JWSHeader;
 import com.nimbusds.jose.JWSVerifier;
 import com.nimbusds.jose.crypto.factories.DefaultJWSVerifierFactory;
@@ -25,15 +26,22 @@ import org.eclipse.edc.spi.iam.ClaimToken;
 import org.eclipse.edc.spi.iam.PublicKeyResolver;
 import org.eclipse.edc.spi.iam.TokenRepresentation;
 import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.util.collection.LruCache;
 
+import java.security.PublicKey;
 import java.text.ParseException;
 import java.util.Collection;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 public class TokenValidationServiceImpl implements TokenValidationService {
 
+    private static final int VERIFIER_CACHE_SIZE = 64;
+
     private final PublicKeyResolver publicKeyResolver;
     private final TokenValidationRulesRegistry rulesRegistry;
+    private final DefaultJWSVerifierFactory verifierFactory = new DefaultJWSVerifierFactory();
+    private final Map<VerifierKey, JWSVerifier> verifiers = new LruCache<>(VERIFIER_CACHE_SIZE);
 
     public TokenValidationServiceImpl(PublicKeyResolver publicKeyResolver, TokenValidationRulesRegistry rulesRegistry) {
         this.publicKeyResolver = publicKeyResolver;
@@ -89,10 +97,25 @@ public class TokenValidationServiceImpl implements TokenValidationService {
         if (publicKey == null) {
             return Result.failure("Failed to resolve public key with id: " + publicKeyId);
         }
+        // verifiers are thread-safe and only depend on the key and the algorithm, so they can be reused across tokens
+        var verifierKey = new VerifierKey(publicKey, header.getAlgorithm());
+        synchronized (verifiers) {
+            var verifier = verifiers.get(verifierKey);
+            if (verifier != null) {
+                return Result.success(verifier);
+            }
+        }
         try {
-            return Result.success(new DefaultJWSVerifierFactory().createJWSVerifier(header, publicKey));
+            var verifier = verifierFactory.createJWSVerifier(header, publicKey);
+            synchronized (verifiers) {
+                verifiers.put(verifierKey, verifier);
+            }
+            return Result.success(verifier);
         } catch (JOSEException e) {
             return Result.failure("Failed to create verifier");
         }
     }
+
+    private record VerifierKey(PublicKey publicKey, JWSAlgorithm algorithm) {
+    }
 }
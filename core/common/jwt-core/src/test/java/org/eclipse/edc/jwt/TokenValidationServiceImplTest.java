@@ -82,6 +82,18 @@ class TokenValidationServiceImplTest {
                 .hasEntrySatisfying(EXPIRATION_TIME, value -> assertThat((Date) value).isCloseTo(now, 1000));
     }
 
+    @Test
+    void validationFailure_tokenSignedWithOtherKey_afterVerifierIsReused() throws JOSEException {
+        var claims = createClaims(now);
+        when(ruleMock.checkRule(any(), any())).thenReturn(Result.success());
+        tokenValidationService.validate(createJwt(publicKeyId, claims, key.toPrivateKey()));
+
+        var result = tokenValidationService.validate(createJwt(publicKeyId, claims, testKey().toPrivateKey()));
+
+        assertThat(result.failed()).isTrue();
+        assertThat(result.getFailureMessages()).containsExactly("Token verification failed");
+    }
+
     @Test
     void validationFailure_cannotResolvePublicKey() throws JOSEException {
         var claims = createClaims(now);
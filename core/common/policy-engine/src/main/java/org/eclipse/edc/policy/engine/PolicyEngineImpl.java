@@ -33,6 +33,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 
 import static java.util.stream.Collectors.toList;
@@ -41,6 +42,9 @@ import static org.eclipse.edc.spi.result.Result.success;
 
 /**
  * Default implementation of the policy engine.
+ * <p>
+ * The functions and validators that apply to a scope are resolved once and kept until a new function or validator gets
+ * registered, so that an evaluation only has to bind them to its {@link PolicyContext}.
  */
 public class PolicyEngineImpl implements PolicyEngine {
 
@@ -50,6 +54,7 @@ public class PolicyEngineImpl implements PolicyEngine {
     private final Map<String, List<RuleFunctionEntry<Rule>>> ruleFunctions = new TreeMap<>();
     private final Map<String, List<BiFunction<Policy, PolicyContext, Boolean>>> preValidators = new HashMap<>();
     private final Map<String, List<BiFunction<Policy, PolicyContext, Boolean>>> postValidators = new HashMap<>();
+    private final Map<String, ScopedFunctions> scopedFunctions = new ConcurrentHashMap<>();
     private final ScopeFilter scopeFilter;
 
     public PolicyEngineImpl(ScopeFilter scopeFilter) {
@@ -63,38 +68,15 @@ public class PolicyEngineImpl implements PolicyEngine {
 
     @Override
     public Result<Void> evaluate(String scope, Policy policy, PolicyContext context) {
-        var delimitedScope = scope + ".";
+        var functions = scopedFunctions.computeIfAbsent(scope, this::resolveFunctions);
 
-        var scopedPreValidators = preValidators.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(l -> l.getValue().stream()).toList();
-        for (var validator : scopedPreValidators) {
+        for (var validator : functions.preValidators) {
             if (!validator.apply(policy, context)) {
                 return failValidator("Pre-validator", validator, context);
             }
         }
 
-        var evalBuilder = PolicyEvaluator.Builder.newInstance();
-
-        ruleFunctions.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(entry -> entry.getValue().stream()).forEach(entry -> {
-            if (Duty.class.isAssignableFrom(entry.type)) {
-                evalBuilder.dutyRuleFunction((rule) -> entry.function.evaluate(rule, context));
-            } else if (Permission.class.isAssignableFrom(entry.type)) {
-                evalBuilder.permissionRuleFunction((rule) -> entry.function.evaluate(rule, context));
-            } else if (Prohibition.class.isAssignableFrom(entry.type)) {
-                evalBuilder.prohibitionRuleFunction((rule) -> entry.function.evaluate(rule, context));
-            }
-        });
-
-        constraintFunctions.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(entry -> entry.getValue().stream()).forEach(entry -> {
-            if (Duty.class.isAssignableFrom(entry.type)) {
-                evalBuilder.dutyFunction(entry.key, (operator, value, duty) -> entry.function.evaluate(operator, value, duty, context));
-            } else if (Permission.class.isAssignableFrom(entry.type)) {
-                evalBuilder.permissionFunction(entry.key, (operator, value, permission) -> entry.function.evaluate(operator, value, permission, context));
-            } else if (Prohibition.class.isAssignableFrom(entry.type)) {
-                evalBuilder.prohibitionFunction(entry.key, (operator, value, prohibition) -> entry.function.evaluate(operator, value, prohibition, context));
-            }
-        });
-
-        var evaluator = evalBuilder.build();
+        var evaluator = functions.evaluator(context);
 
         var filteredPolicy = scopeFilter.applyScope(policy, scope);
 
@@ -102,8 +84,7 @@ public class PolicyEngineImpl implements PolicyEngine {
 
         if (result.valid()) {
 
-            var scopedPostValidators = postValidators.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(l -> l.getValue().stream()).toList();
-            for (var validator : scopedPostValidators) {
+            for (var validator : functions.postValidators) {
                 if (!validator.apply(policy, context)) {
                     return failValidator("Post-validator", validator, context);
                 }
@@ -119,22 +100,56 @@ public class PolicyEngineImpl implements PolicyEngine {
     @SuppressWarnings({"unchecked", "rawtypes"})
     public <R extends Rule> void registerFunction(String scope, Class<R> type, String key, AtomicConstraintFunction<R> function) {
         constraintFunctions.computeIfAbsent(scope + ".", k -> new ArrayList<>()).add(new ConstraintFunctionEntry(type, key, function));
+        scopedFunctions.clear();
     }
 
     @Override
     @SuppressWarnings({"unchecked", "rawtypes"})
     public <R extends Rule> void registerFunction(String scope, Class<R> type, RuleFunction<R> function) {
         ruleFunctions.computeIfAbsent(scope + ".", k -> new ArrayList<>()).add(new RuleFunctionEntry(type, function));
+        scopedFunctions.clear();
     }
 
     @Override
     public void registerPreValidator(String scope, BiFunction<Policy, PolicyContext, Boolean> validator) {
         preValidators.computeIfAbsent(scope + DELIMITER, k -> new ArrayList<>()).add(validator);
+        scopedFunctions.clear();
     }
 
     @Override
     public void registerPostValidator(String scope, BiFunction<Policy, PolicyContext, Boolean> validator) {
         postValidators.computeIfAbsent(scope + DELIMITER, k -> new ArrayList<>()).add(validator);
+        scopedFunctions.clear();
+    }
+
+    private ScopedFunctions resolveFunctions(String scope) {
+        var delimitedScope = scope + ".";
+        var functions = new ScopedFunctions();
+
+        preValidators.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(l -> l.getValue().stream()).forEach(functions.preValidators::add);
+        postValidators.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(l -> l.getValue().stream()).forEach(functions.postValidators::add);
+
+        ruleFunctions.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(entry -> entry.getValue().stream()).forEach(entry -> {
+            if (Duty.class.isAssignableFrom(entry.type)) {
+                functions.dutyRuleFunctions.add(entry);
+            } else if (Permission.class.isAssignableFrom(entry.type)) {
+                functions.permissionRuleFunctions.add(entry);
+            } else if (Prohibition.class.isAssignableFrom(entry.type)) {
+                functions.prohibitionRuleFunctions.add(entry);
+            }
+        });
+
+        constraintFunctions.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(entry -> entry.getValue().stream()).forEach(entry -> {
+            if (Duty.class.isAssignableFrom(entry.type)) {
+                functions.dutyFunctions.add(entry);
+            } else if (Permission.class.isAssignableFrom(entry.type)) {
+                functions.permissionFunctions.add(entry);
+            } else if (Prohibition.class.isAssignableFrom(entry.type)) {
+                functions.prohibitionFunctions.add(entry);
+            }
+        });
+
+        return functions;
     }
 
     private boolean scopeFilter(String entry, String scope) {
@@ -146,6 +161,34 @@ public class PolicyEngineImpl implements PolicyEngine {
         return failure(context.hasProblems() ? context.getProblems() : List.of(type + " failed: " + validator.getClass().getName()));
     }
 
+    /**
+     * The functions and validators that apply to a scope, ready to be bound to a {@link PolicyContext}.
+     */
+    private static class ScopedFunctions {
+        final List<BiFunction<Policy, PolicyContext, Boolean>> preValidators = new ArrayList<>();
+        final List<BiFunction<Policy, PolicyContext, Boolean>> postValidators = new ArrayList<>();
+        final List<RuleFunctionEntry<Rule>> dutyRuleFunctions = new ArrayList<>();
+        final List<RuleFunctionEntry<Rule>> permissionRuleFunctions = new ArrayList<>();
+        final List<RuleFunctionEntry<Rule>> prohibitionRuleFunctions = new ArrayList<>();
+        final List<ConstraintFunctionEntry<Rule>> dutyFunctions = new ArrayList<>();
+        final List<ConstraintFunctionEntry<Rule>> permissionFunctions = new ArrayList<>();
+        final List<ConstraintFunctionEntry<Rule>> prohibitionFunctions = new ArrayList<>();
+
+        /**
+         * Creates a new evaluator, as {@link PolicyEvaluator} keeps state during the evaluation and cannot be shared.
+         */
+        PolicyEvaluator evaluator(PolicyContext context) {
+            var evalBuilder = PolicyEvaluator.Builder.newInstance();
+            dutyRuleFunctions.forEach(entry -> evalBuilder.dutyRuleFunction((rule) -> entry.function.evaluate(rule, context)));
+            permissionRuleFunctions.forEach(entry -> evalBuilder.permissionRuleFunction((rule) -> entry.function.evaluate(rule, context)));
+            prohibitionRuleFunctions.forEach(entry -> evalBuilder.prohibitionRuleFunction((rule) -> entry.function.evaluate(rule, context)));
+            dutyFunctions.forEach(entry -> evalBuilder.dutyFunction(entry.key, (operator, value, duty) -> entry.function.evaluate(operator, value, duty, context)));
+            permissionFunctions.forEach(entry -> evalBuilder.permissionFunction(entry.key, (operator, value, permission) -> entry.function.evaluate(operator, value, permission, context)));
+            prohibitionFunctions.forEach(entry -> evalBuilder.prohibitionFunction(entry.key, (operator, value, prohibition) -> entry.function.evaluate(operator, value, prohibition, context)));
+            return evalBuilder.build();
+        }
+    }
+
     private static class ConstraintFunctionEntry<R extends Rule> {
         Class<R> type;
         String key;
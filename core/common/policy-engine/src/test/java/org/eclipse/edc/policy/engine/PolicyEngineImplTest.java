@@ -292,6 +292,23 @@ class PolicyEngineImplTest {
         assertThat(result).isFailed();
     }
 
+    @Test
+    void shouldApplyFunctionsRegisteredAfterFirstEvaluation() {
+        bindingRegistry.bind("foo", ALL_SCOPES);
+        var context = PolicyContextImpl.Builder.newInstance().build();
+        var left = new LiteralExpression("foo");
+        var right = new LiteralExpression("bar");
+        var constraint = AtomicConstraint.Builder.newInstance().leftExpression(left).operator(EQ).rightExpression(right).build();
+        var permission = Permission.Builder.newInstance().constraint(constraint).build();
+        var policy = Policy.Builder.newInstance().permission(permission).build();
+
+        policyEngine.registerFunction(ALL_SCOPES, Permission.class, "foo", (op, rv, r, ctx) -> true);
+        assertThat(policyEngine.evaluate(TEST_SCOPE, policy, context)).isSucceeded();
+
+        policyEngine.registerPostValidator(TEST_SCOPE, (p, ctx) -> false);
+        assertThat(policyEngine.evaluate(TEST_SCOPE, policy, context)).isFailed();
+    }
+
     private Policy createTestPolicy() {
         var left = new LiteralExpression("foo");
         var right = new LiteralExpression("bar");
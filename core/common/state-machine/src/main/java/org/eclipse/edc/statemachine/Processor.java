@@ -28,4 +28,14 @@ public interface Processor {
      * @return the processed states count
      */
     Long process();
+
+    /**
+     * Tells if the processor handles entities in the given state, used to wake up only the loops concerned by a change.
+     *
+     * @param state the entity state.
+     * @return true if the processor handles the state, or if it is not bound to a specific state.
+     */
+    default boolean handles(String state) {
+        return true;
+    }
 }
@@ -14,6 +14,9 @@
 
 package org.eclipse.edc.statemachine;
 
+import org.eclipse.edc.spi.system.StateMachineObserver;
+
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Objects;
 import java.util.function.Consumer;
@@ -33,6 +36,7 @@ import static java.util.function.Predicate.isEqual;
  * Additional features:
  * - An {@link Guard} can be registered, if its predicate is verified, the guard processor is executed instead of the standard one.
  * - A onNotProcessed listener can be registered, that will be called on every entity that has not been processed.
+ * - A {@link StateMachineObserver} can be registered, that will be notified about every batch of entities.
  *
  * @param <E> the entity that is processed
  */
@@ -42,6 +46,9 @@ public class ProcessorImpl<E> implements Processor {
     private Function<E, Boolean> process;
     private Guard<E> guard = Guard.noop();
     private Consumer<E> onNotProcessed = e -> {};
+    private StateMachineObserver observer = StateMachineObserver.noop();
+    private String manager;
+    private String state;
 
     private ProcessorImpl(Supplier<Collection<E>> entitiesSupplier) {
         entities = entitiesSupplier;
@@ -49,7 +56,11 @@ public class ProcessorImpl<E> implements Processor {
 
     @Override
     public Long process() {
-        return entities.get().stream()
+        var start = System.nanoTime();
+        var batch = entities.get();
+        var fetched = System.nanoTime();
+
+        var processed = batch.stream()
                 .map(entity -> {
                     var actualProcess = guard.predicate().test(entity) ? guard.process() : process;
                     var hasBeenProcessed = actualProcess.apply(entity);
@@ -60,6 +71,15 @@ public class ProcessorImpl<E> implements Processor {
                 })
                 .filter(isEqual(true))
                 .count();
+
+        observer.batchProcessed(manager, state, batch.size(), processed,
+                Duration.ofNanos(fetched - start), Duration.ofNanos(System.nanoTime() - fetched));
+        return processed;
+    }
+
+    @Override
+    public boolean handles(String state) {
+        return this.state == null || this.state.equals(state);
     }
 
     public static class Builder<E> {
@@ -95,6 +115,21 @@ public class ProcessorImpl<E> implements Processor {
             return this;
         }
 
+        /**
+         * Defines an observer that will be notified about every batch of entities.
+         *
+         * @param observer the observer.
+         * @param manager the name of the state machine the processor belongs to.
+         * @param state the state of the entities handled by the processor, also used to tell whether a wake-up concerns it.
+         * @return the builder.
+         */
+        public Builder<E> observer(StateMachineObserver observer, String manager, String state) {
+            processor.observer = observer;
+            processor.manager = manager;
+            processor.state = state;
+            return this;
+        }
+
         public ProcessorImpl<E> build() {
             Objects.requireNonNull(processor.process);
 
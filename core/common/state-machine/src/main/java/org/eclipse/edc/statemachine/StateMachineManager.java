@@ -17,15 +17,22 @@ package org.eclipse.edc.statemachine;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.retry.WaitStrategy;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.spi.system.StateMachineObserver;
 import org.jetbrains.annotations.NotNull;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
 import static java.lang.String.format;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
@@ -33,39 +40,52 @@ import static java.util.concurrent.TimeUnit.SECONDS;
 
 /**
  * Handles a loop that processes entities continuously.
- * On every iteration it runs all the set processors sequentially,
+ * By default, on every iteration it runs all the set processors sequentially on a single thread,
  * applying a wait strategy in the case no entities are processed on the iteration.
+ * <p>
+ * When configured with more than one worker, every processor is run by its own loop (or by several loops, see
+ * {@link Builder#workersPerProcessor(int)}), each one with its own wait strategy, and the loops are executed
+ * concurrently on a pool of worker threads. Every loop fetches and leases its own batch of entities, so the leasing
+ * mechanism of the store guarantees that an entity is processed by one loop at a time.
+ * <p>
+ * A loop that is waiting because it found nothing to process can be woken up with {@link #wakeUp()}, e.g. when an
+ * entity has been created or changed, so that it runs its next iteration right away. The wait strategy remains as a
+ * fallback for changes that are not signalled.
  */
 public class StateMachineManager {
 
     private final List<Processor> processors = new ArrayList<>();
-    private final ScheduledExecutorService executor;
+    private final List<Worker> loops = new ArrayList<>();
     private final AtomicBoolean active = new AtomicBoolean();
-    private final WaitStrategy waitStrategy;
     private final Monitor monitor;
     private final String name;
+    private final ExecutorInstrumentation instrumentation;
+    private StateMachineObserver observer = StateMachineObserver.noop();
+    private ScheduledExecutorService executor;
+    private Supplier<WaitStrategy> waitStrategy;
+    private int workers = 1;
+    private int workersPerProcessor = 1;
     private int shutdownTimeout = 10;
 
-    private StateMachineManager(String name, Monitor monitor, ExecutorInstrumentation instrumentation, WaitStrategy waitStrategy) {
+    private StateMachineManager(String name, Monitor monitor, ExecutorInstrumentation instrumentation, Supplier<WaitStrategy> waitStrategy) {
         this.name = name;
         this.monitor = monitor;
+        this.instrumentation = instrumentation;
         this.waitStrategy = waitStrategy;
-        executor = instrumentation.instrument(
-                Executors.newSingleThreadScheduledExecutor(r -> {
-                    var thread = Executors.defaultThreadFactory().newThread(r);
-                    thread.setName("StateMachineManager-" + name);
-                    return thread;
-                }), name);
     }
 
     /**
      * Start the loop that will run processors until it's stopped
      *
-     * @return a future that will complete when the loop starts
+     * @return a future that will complete when all the loops start
      */
     public Future<?> start() {
         active.set(true);
-        return scheduleNextIterationIn(0L);
+        var iterations = loops.stream().map(loop -> loop.scheduleNextIterationIn(0L)).toList();
+        if (iterations.size() == 1) {
+            return iterations.get(0);
+        }
+        return CompletableFuture.runAsync(() -> iterations.forEach(this::awaitStart));
     }
 
     /**
@@ -86,6 +106,30 @@ public class StateMachineManager {
         });
     }
 
+    /**
+     * Signals that there could be entities to process: every loop that is currently waiting runs its next iteration
+     * immediately, a loop that is running will run its next iteration without waiting.
+     */
+    public void wakeUp() {
+        if (active.get()) {
+            loops.forEach(Worker::wakeUp);
+        }
+    }
+
+    /**
+     * Signals that there could be entities to process in the given state: only the loops that run a processor
+     * handling that state are woken up, see {@link #wakeUp()}.
+     *
+     * @param state the state of the changed entity.
+     */
+    public void wakeUp(String state) {
+        if (active.get()) {
+            loops.stream()
+                    .filter(loop -> loop.handles(state))
+                    .forEach(Worker::wakeUp);
+        }
+    }
+
     /**
      * Tells if the loop is active and running
      *
@@ -95,49 +139,126 @@ public class StateMachineManager {
         return active.get();
     }
 
-    private Runnable loop() {
-        return () -> {
-            if (active.get()) {
-                performLogic();
-            }
-        };
+    private void awaitStart(Future<?> iteration) {
+        try {
+            iteration.get();
+        } catch (InterruptedException | ExecutionException e) {
+            monitor.severe(format("StateMachineManager [%s] start failed", name), e);
+        }
     }
 
-    private void performLogic() {
-        try {
-            var processed = processors.stream()
-                    .mapToLong(Processor::process)
-                    .sum();
+    private void initialize() {
+        var threadCount = new AtomicInteger();
+        executor = instrumentation.instrument(
+                Executors.newScheduledThreadPool(workers, r -> {
+                    var thread = Executors.defaultThreadFactory().newThread(r);
+                    var index = threadCount.getAndIncrement();
+                    thread.setName(workers == 1 ? "StateMachineManager-" + name : "StateMachineManager-" + name + "-" + index);
+                    return thread;
+                }), name);
 
-            waitStrategy.success();
+        if (workers == 1) {
+            loops.add(new Worker(processors, waitStrategy.get()));
+        } else {
+            processors.forEach(processor -> {
+                for (var i = 0; i < workersPerProcessor; i++) {
+                    loops.add(new Worker(List.of(processor), waitStrategy.get()));
+                }
+            });
+        }
+    }
 
-            var delay = processed == 0 ? waitStrategy.waitForMillis() : 0;
+    /**
+     * A loop that runs a set of processors sequentially, applying its own wait strategy.
+     */
+    private class Worker {
+        private final List<Processor> processors;
+        private final WaitStrategy waitStrategy;
+        private final AtomicBoolean wakeUpRequested = new AtomicBoolean();
+        private final AtomicReference<ScheduledFuture<?>> waitingIteration = new AtomicReference<>();
 
-            scheduleNextIterationIn(delay);
-        } catch (Error e) {
-            active.set(false);
-            monitor.severe(format("StateMachineManager [%s] unrecoverable error", name), e);
-        } catch (Throwable e) {
-            monitor.severe(format("StateMachineManager [%s] error caught", name), e);
-            scheduleNextIterationIn(waitStrategy.retryInMillis());
+        Worker(List<Processor> processors, WaitStrategy waitStrategy) {
+            this.processors = processors;
+            this.waitStrategy = waitStrategy;
         }
-    }
 
-    @NotNull
-    private Future<?> scheduleNextIterationIn(long delayMillis) {
-        return executor.schedule(loop(), delayMillis, MILLISECONDS);
+        private Runnable loop() {
+            return () -> {
+                if (active.get()) {
+                    performLogic();
+                }
+            };
+        }
+
+        private boolean handles(String state) {
+            return processors.stream().anyMatch(processor -> processor.handles(state));
+        }
+
+        private void wakeUp() {
+            wakeUpRequested.set(true);
+            var waiting = waitingIteration.getAndSet(null);
+            if (waiting != null && waiting.cancel(false)) {
+                scheduleNextIterationIn(0L);
+            }
+        }
+
+        private void performLogic() {
+            try {
+                wakeUpRequested.set(false);
+
+                var start = System.nanoTime();
+                var processed = processors.stream()
+                        .mapToLong(Processor::process)
+                        .sum();
+                observer.iterationCompleted(name, processed, Duration.ofNanos(System.nanoTime() - start));
+
+                waitStrategy.success();
+
+                if (processed == 0 && !wakeUpRequested.get()) {
+                    waitingIteration.set(scheduleNextIterationIn(waitStrategy.waitForMillis()));
+                    if (wakeUpRequested.get()) {
+                        // a wake-up arrived while the waiting iteration was being scheduled
+                        wakeUp();
+                    }
+                } else {
+                    scheduleNextIterationIn(0L);
+                }
+            } catch (Error e) {
+                active.set(false);
+                monitor.severe(format("StateMachineManager [%s] unrecoverable error", name), e);
+            } catch (Throwable e) {
+                monitor.severe(format("StateMachineManager [%s] error caught", name), e);
+                scheduleNextIterationIn(waitStrategy.retryInMillis());
+            }
+        }
+
+        @NotNull
+        private ScheduledFuture<?> scheduleNextIterationIn(long delayMillis) {
+            return executor.schedule(loop(), delayMillis, MILLISECONDS);
+        }
     }
 
     public static class Builder {
 
         private final StateMachineManager loop;
 
-        private Builder(String name, Monitor monitor, ExecutorInstrumentation instrumentation, WaitStrategy waitStrategy) {
+        private Builder(String name, Monitor monitor, ExecutorInstrumentation instrumentation, Supplier<WaitStrategy> waitStrategy) {
             loop = new StateMachineManager(name, monitor, instrumentation, waitStrategy);
         }
 
+        /**
+         * Creates a builder whose loops all use the passed wait strategy. Suited for stateless strategies, stateful
+         * ones like {@link org.eclipse.edc.spi.retry.ExponentialWaitStrategy} should be passed as a factory instead.
+         */
         public static Builder newInstance(String name, Monitor monitor, ExecutorInstrumentation instrumentation, WaitStrategy waitStrategy) {
-            return new Builder(name, monitor, instrumentation, waitStrategy);
+            return new Builder(name, monitor, instrumentation, () -> waitStrategy);
+        }
+
+        /**
+         * Creates a builder that obtains a new {@link WaitStrategy} from the factory for every loop.
+         */
+        public static Builder newInstance(String name, Monitor monitor, ExecutorInstrumentation instrumentation, Supplier<WaitStrategy> waitStrategyFactory) {
+            return new Builder(name, monitor, instrumentation, waitStrategyFactory);
         }
 
         public Builder processor(Processor processor) {
@@ -145,12 +266,66 @@ public class StateMachineManager {
             return this;
         }
 
+        /**
+         * Observer notified about every iteration of the loops.
+         *
+         * @param observer the observer.
+         * @return the builder.
+         */
+        public Builder observer(StateMachineObserver observer) {
+            loop.observer = observer;
+            return this;
+        }
+
         public Builder shutdownTimeout(int seconds) {
             loop.shutdownTimeout = seconds;
             return this;
         }
 
+        /**
+         * Number of threads that run the processors. With a single worker (the default) all processors run
+         * sequentially in the same loop, otherwise every processor gets its own loop.
+         *
+         * @param workers the number of worker threads.
+         * @return the builder.
+         */
+        public Builder workers(int workers) {
+            if (workers < 1) {
+                throw new IllegalArgumentException("StateMachineManager needs at least one worker");
+            }
+            loop.workers = workers;
+            return this;
+        }
+
+        /**
+         * Number of loops that run every processor concurrently. Every loop leases its own batch of entities. Only
+         * takes effect when more than one worker is configured.
+         *
+         * @param workersPerProcessor the number of loops per processor.
+         * @return the builder.
+         */
+        public Builder workersPerProcessor(int workersPerProcessor) {
+            if (workersPerProcessor < 1) {
+                throw new IllegalArgumentException("Every processor needs at least one worker");
+            }
+            loop.workersPerProcessor = workersPerProcessor;
+            return this;
+        }
+
+        /**
+         * Provides a new {@link WaitStrategy} for every loop, so that loops apply their wait and retry delays
+         * independently. Overrides the wait strategy passed on instantiation.
+         *
+         * @param waitStrategyFactory the wait strategy factory.
+         * @return the builder.
+         */
+        public Builder waitStrategyFactory(Supplier<WaitStrategy> waitStrategyFactory) {
+            loop.waitStrategy = waitStrategyFactory;
+            return this;
+        }
+
         public StateMachineManager build() {
+            loop.initialize();
             return loop;
         }
     }
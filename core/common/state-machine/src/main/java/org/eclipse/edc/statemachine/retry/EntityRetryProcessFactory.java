@@ -17,6 +17,7 @@ package org.eclipse.edc.statemachine.retry;
 import org.eclipse.edc.spi.entity.StatefulEntity;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.response.StatusResult;
+import org.eclipse.edc.spi.system.StateMachineObserver;
 
 import java.time.Clock;
 import java.util.concurrent.CompletableFuture;
@@ -30,39 +31,45 @@ public class EntityRetryProcessFactory {
     private final Monitor monitor;
     private final EntityRetryProcessConfiguration configuration;
     private final Clock clock;
+    private final StateMachineObserver observer;
 
     public EntityRetryProcessFactory(Monitor monitor, Clock clock, EntityRetryProcessConfiguration configuration) {
+        this(monitor, clock, configuration, StateMachineObserver.noop());
+    }
+
+    public EntityRetryProcessFactory(Monitor monitor, Clock clock, EntityRetryProcessConfiguration configuration, StateMachineObserver observer) {
         this.monitor = monitor;
         this.clock = clock;
         this.configuration = configuration;
+        this.observer = observer;
     }
 
     /**
      * Initialize a simple process that needs to be retried if it does not succeed
      */
     public <T extends StatefulEntity<T>> SimpleRetryProcess<T> doSimpleProcess(T entity, Supplier<Boolean> process) {
-        return new SimpleRetryProcess<>(entity, process, monitor, clock, configuration);
+        return new SimpleRetryProcess<>(entity, process, monitor, clock, configuration).observer(observer);
     }
 
     /**
      * Initialize a synchronous process that needs to be retried if it does not succeed
      */
     public <T extends StatefulEntity<T>, C> StatusResultRetryProcess<T, C> doSyncProcess(T entity, Supplier<StatusResult<C>> process) {
-        return new StatusResultRetryProcess<>(entity, process, monitor, clock, configuration);
+        return new StatusResultRetryProcess<>(entity, process, monitor, clock, configuration).observer(observer);
     }
 
     /**
      * Initialize an asynchronous process that needs to be retried if it does not succeed
      */
     public <T extends StatefulEntity<T>, C, SELF extends CompletableFutureRetryProcess<T, C, SELF>> SELF doAsyncProcess(T entity, Supplier<CompletableFuture<C>> process) {
-        return (SELF) new CompletableFutureRetryProcess<T, C, SELF>(entity, process, monitor, clock, configuration);
+        return (SELF) new CompletableFutureRetryProcess<T, C, SELF>(entity, process, monitor, clock, configuration).observer(observer);
     }
 
     /**
      * Initialize an asynchronous process that will return a {@link StatusResult} and it will need to be handled
      */
     public <T extends StatefulEntity<T>, C, SELF extends AsyncStatusResultRetryProcess<T, C, SELF>> SELF doAsyncStatusResultProcess(T entity, Supplier<CompletableFuture<StatusResult<C>>> process) {
-        return (SELF) new AsyncStatusResultRetryProcess<T, C, SELF>(entity, process, monitor, clock, configuration);
+        return (SELF) new AsyncStatusResultRetryProcess<T, C, SELF>(entity, process, monitor, clock, configuration).observer(observer);
     }
 
 }
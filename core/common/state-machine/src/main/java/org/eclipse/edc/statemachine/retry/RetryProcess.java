@@ -16,6 +16,7 @@ package org.eclipse.edc.statemachine.retry;
 
 import org.eclipse.edc.spi.entity.StatefulEntity;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.StateMachineObserver;
 
 import java.time.Clock;
 import java.util.function.Consumer;
@@ -33,6 +34,7 @@ public abstract class RetryProcess<E extends StatefulEntity<E>, SELF extends Ret
     protected final Clock clock;
     protected Consumer<E> onDelay;
     protected String description;
+    protected StateMachineObserver observer = StateMachineObserver.noop();
 
     protected RetryProcess(E entity, EntityRetryProcessConfiguration configuration, Monitor monitor, Clock clock) {
         this.entity = entity;
@@ -47,8 +49,9 @@ public abstract class RetryProcess<E extends StatefulEntity<E>, SELF extends Ret
     abstract boolean process(E entity, String description);
 
     /**
-     * If entity is not yet ready to be processed executes {@link #onDelay} handler and return false,
-     * otherwise processes it.
+     * If entity is not yet ready to be processed sets its next attempt timestamp, executes {@link #onDelay} handler
+     * and return false, otherwise processes it. Once persisted, the next attempt timestamp avoids the entity from
+     * being fetched again before the delay expires.
      *
      * @param description the process description.
      * @return false if process should not be run yet, the result of the process otherwise.
@@ -58,19 +61,30 @@ public abstract class RetryProcess<E extends StatefulEntity<E>, SELF extends Ret
         if (isRetry(entity)) {
             var delay = delayMillis(entity);
             if (delay > 0) {
-                monitor.debug(String.format("Entity %s %s retry #%d will not be attempted before %d ms.", entity.getId(), entity.getClass().getSimpleName(), entity.getStateCount() - 1, delay));
+                observer.retryDelayed(entity.getClass().getSimpleName(), entity.getStateCount() - 1, delay);
+                monitor.debug(() -> String.format("Entity %s %s retry #%d will not be attempted before %d ms.", entity.getId(), entity.getClass().getSimpleName(), entity.getStateCount() - 1, delay));
+                entity.setNextAttemptAt(clock.millis() + delay);
                 if (onDelay != null) {
                     onDelay.accept(entity);
                 }
                 return false;
             } else {
-                monitor.debug(String.format("Entity %s %s retry #%d of %d.", entity.getId(), entity.getClass().getSimpleName(), entity.getStateCount() - 1, configuration.getRetryLimit()));
+                observer.retryAttempted(entity.getClass().getSimpleName(), entity.getStateCount() - 1);
+                monitor.debug(() -> String.format("Entity %s %s retry #%d of %d.", entity.getId(), entity.getClass().getSimpleName(), entity.getStateCount() - 1, configuration.getRetryLimit()));
             }
         }
 
         return process(entity, description);
     }
 
+    /**
+     * Observer notified about retries and delays.
+     */
+    SELF observer(StateMachineObserver observer) {
+        this.observer = observer;
+        return (SELF) this;
+    }
+
     /**
      * Handler that is called if the entity is not yet ready for processing
      */
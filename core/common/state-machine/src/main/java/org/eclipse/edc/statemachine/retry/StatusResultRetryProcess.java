@@ -44,7 +44,7 @@ public class StatusResultRetryProcess<E extends StatefulEntity<E>, C> extends Re
 
     @Override
     boolean process(E entity, String description) {
-        monitor.debug(format("%s: ID %s. %s", entity.getClass().getSimpleName(), entity.getId(), description));
+        monitor.debug(() -> format("%s: ID %s. %s", entity.getClass().getSimpleName(), entity.getId(), description));
         var result = process.get();
 
         handleResult(entity, description, result);
@@ -78,14 +78,12 @@ public class StatusResultRetryProcess<E extends StatefulEntity<E>, C> extends Re
                     onRetryExhausted.accept(entity, result.getFailure());
                 }
             } else {
-                var message = format("%s: ID %s. Attempt #%d failed to %s. Cause: %s",
+                monitor.debug(() -> format("%s: ID %s. Attempt #%d failed to %s. Cause: %s",
                         entity.getClass().getSimpleName(),
                         entity.getId(),
                         entity.getStateCount(),
                         description,
-                        result.getFailureDetail());
-
-                monitor.debug(message);
+                        result.getFailureDetail()));
 
                 if (onFailureHandler != null) {
                     onFailureHandler.accept(entity, result.getFailure());
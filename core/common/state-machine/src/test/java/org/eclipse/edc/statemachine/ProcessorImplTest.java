@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.statemachine;
 
+import org.eclipse.edc.spi.system.StateMachineObserver;
 import org.eclipse.edc.statemachine.retry.TestEntity;
 import org.junit.jupiter.api.Test;
 
@@ -23,6 +24,7 @@ import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -117,4 +119,39 @@ class ProcessorImplTest {
 
         verifyNoInteractions(onNotProcessed);
     }
+
+    @Test
+    void shouldNotifyObserver_whenBatchIsProcessed() {
+        var processed = TestEntity.Builder.newInstance().id("processed").build();
+        var notProcessed = TestEntity.Builder.newInstance().id("notProcessed").build();
+        StateMachineObserver observer = mock();
+        var processor = ProcessorImpl.Builder.newInstance(() -> List.of(processed, notProcessed))
+                .process(e -> e == processed)
+                .observer(observer, "manager", "STATE")
+                .build();
+
+        processor.process();
+
+        verify(observer).batchProcessed(eq("manager"), eq("STATE"), eq(2), eq(1L), any(), any());
+    }
+
+    @Test
+    void shouldHandleOnlyItsState_whenStateIsSet() {
+        var processor = ProcessorImpl.Builder.newInstance(List::of)
+                .process(e -> true)
+                .observer(StateMachineObserver.noop(), "manager", "STATE")
+                .build();
+
+        assertThat(processor.handles("STATE")).isTrue();
+        assertThat(processor.handles("OTHER")).isFalse();
+    }
+
+    @Test
+    void shouldHandleEveryState_whenStateIsNotSet() {
+        var processor = ProcessorImpl.Builder.newInstance(List::of)
+                .process(e -> true)
+                .build();
+
+        assertThat(processor.handles("STATE")).isTrue();
+    }
 }
@@ -16,18 +16,29 @@ package org.eclipse.edc.statemachine;
 
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.retry.ExponentialWaitStrategy;
 import org.eclipse.edc.spi.retry.WaitStrategy;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.spi.system.StateMachineObserver;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Supplier;
+
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -135,4 +146,129 @@ class StateMachineManagerTest {
             verify(waitStrategy).retryInMillis();
         });
     }
+
+    @Test
+    void shouldRunProcessorsConcurrently_whenMoreWorkersAreConfigured() {
+        var latch = new CountDownLatch(2);
+        Processor processor = () -> {
+            latch.countDown();
+            try {
+                return latch.await(5, SECONDS) ? 1L : 0L;
+            } catch (InterruptedException e) {
+                return 0L;
+            }
+        };
+        var otherProcessor = mock(Processor.class);
+        when(otherProcessor.process()).thenReturn(0L);
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategy)
+                .processor(processor)
+                .processor(otherProcessor)
+                .workers(3)
+                .workersPerProcessor(2)
+                .build();
+
+        stateMachine.start();
+
+        await().untilAsserted(() -> {
+            assertThat(latch.getCount()).isZero();
+            verify(otherProcessor, atLeastOnce()).process();
+        });
+    }
+
+    @Test
+    void shouldUseOwnWaitStrategyPerWorker() {
+        var failingProcessor = mock(Processor.class);
+        when(failingProcessor.process()).thenThrow(new EdcException("error"));
+        var idleProcessor = mock(Processor.class);
+        when(idleProcessor.process()).thenReturn(0L);
+        var strategies = new CopyOnWriteArrayList<WaitStrategy>();
+        Supplier<WaitStrategy> factory = () -> {
+            var strategy = spy(new ExponentialWaitStrategy(5L));
+            strategies.add(strategy);
+            return strategy;
+        };
+
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, factory)
+                .processor(failingProcessor)
+                .processor(idleProcessor)
+                .workers(2)
+                .build();
+
+        stateMachine.start();
+
+        await().untilAsserted(() -> {
+            verify(failingProcessor, atLeast(3)).process();
+            verify(idleProcessor, atLeast(3)).process();
+        });
+        stateMachine.stop();
+
+        assertThat(strategies).hasSize(2);
+        var failingLoopStrategy = strategies.get(0);
+        var idleLoopStrategy = strategies.get(1);
+        verify(failingLoopStrategy, atLeast(3)).retryInMillis();
+        verify(failingLoopStrategy, never()).success();
+        verify(idleLoopStrategy, atLeast(3)).success();
+        verify(idleLoopStrategy, never()).retryInMillis();
+        assertThat(idleLoopStrategy.waitForMillis()).isEqualTo(5L);
+    }
+
+    @Test
+    void shouldRunNextIterationImmediately_whenWokenUp() {
+        var processor = mock(Processor.class);
+        when(processor.process()).thenReturn(0L);
+        when(waitStrategy.waitForMillis()).thenReturn(60_000L);
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategy)
+                .processor(processor)
+                .build();
+
+        assertThat(stateMachine.start()).succeedsWithin(1, SECONDS);
+        verify(processor, times(1)).process();
+
+        stateMachine.wakeUp();
+
+        await().atMost(1, SECONDS).untilAsserted(() -> verify(processor, times(2)).process());
+    }
+
+    @Test
+    void shouldWakeUpOnlyLoopsHandlingState() {
+        var processor = mock(Processor.class);
+        when(processor.process()).thenReturn(0L);
+        when(processor.handles("STATE")).thenReturn(true);
+        var otherProcessor = mock(Processor.class);
+        when(otherProcessor.process()).thenReturn(0L);
+        when(otherProcessor.handles("STATE")).thenReturn(false);
+        when(waitStrategy.waitForMillis()).thenReturn(60_000L);
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategy)
+                .processor(processor)
+                .processor(otherProcessor)
+                .workers(2)
+                .build();
+
+        assertThat(stateMachine.start()).succeedsWithin(1, SECONDS);
+        await().untilAsserted(() -> {
+            verify(processor, times(1)).process();
+            verify(otherProcessor, times(1)).process();
+        });
+
+        stateMachine.wakeUp("STATE");
+
+        await().atMost(1, SECONDS).untilAsserted(() -> verify(processor, times(2)).process());
+        verify(otherProcessor, times(1)).process();
+    }
+
+    @Test
+    void shouldNotifyObserver_whenIterationCompletes() {
+        var processor = mock(Processor.class);
+        when(processor.process()).thenReturn(2L);
+        StateMachineObserver observer = mock();
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategy)
+                .processor(processor)
+                .observer(observer)
+                .build();
+
+        stateMachine.start();
+
+        await().untilAsserted(() -> verify(observer, atLeastOnce()).iterationCompleted(eq("test"), eq(2L), any()));
+        stateMachine.stop();
+    }
 }
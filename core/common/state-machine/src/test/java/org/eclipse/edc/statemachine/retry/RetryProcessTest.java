@@ -16,6 +16,7 @@ package org.eclipse.edc.statemachine.retry;
 
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.retry.WaitStrategy;
+import org.eclipse.edc.spi.system.StateMachineObserver;
 import org.junit.jupiter.api.Test;
 
 import java.time.Clock;
@@ -26,9 +27,13 @@ import java.util.function.Supplier;
 
 import static java.time.ZoneOffset.UTC;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 class RetryProcessTest {
@@ -93,6 +98,43 @@ class RetryProcessTest {
         verify(process).get();
     }
 
+    @Test
+    void execute_shouldNotifyObserver_whenRetryIsDelayed() {
+        var observer = mock(StateMachineObserver.class);
+        var entity = TestEntity.Builder.newInstance().id(UUID.randomUUID().toString()).stateTimestamp(shouldDelayTime).stateCount(2).build();
+        var retryProcess = new TestRetryProcess(entity, configuration, monitor, clock).observer(observer);
+
+        retryProcess.execute("any");
+
+        verify(observer).retryDelayed(TestEntity.class.getSimpleName(), 1, 1L);
+        verify(observer, never()).retryAttempted(anyString(), anyInt());
+    }
+
+    @Test
+    void execute_shouldNotifyObserver_whenRetryIsAttempted() {
+        when(process.get()).thenReturn(true);
+        var observer = mock(StateMachineObserver.class);
+        var entity = TestEntity.Builder.newInstance().id(UUID.randomUUID().toString()).stateTimestamp(shouldNotDelayTime).stateCount(2).build();
+        var retryProcess = new TestRetryProcess(entity, configuration, monitor, clock).observer(observer);
+
+        retryProcess.execute("any");
+
+        verify(observer).retryAttempted(TestEntity.class.getSimpleName(), 1);
+        verifyNoMoreInteractions(observer);
+    }
+
+    @Test
+    void execute_shouldNotNotifyObserver_whenItIsNotRetry() {
+        when(process.get()).thenReturn(true);
+        var observer = mock(StateMachineObserver.class);
+        var entity = TestEntity.Builder.newInstance().id(UUID.randomUUID().toString()).stateTimestamp(shouldDelayTime).stateCount(1).build();
+        var retryProcess = new TestRetryProcess(entity, configuration, monitor, clock).observer(observer);
+
+        retryProcess.execute("any");
+
+        verifyNoInteractions(observer);
+    }
+
     @Test
     void retriesExhausted_shouldReturnTrueIfRetriesHaveBeenExhausted() {
         var entity = TestEntity.Builder.newInstance().id(UUID.randomUUID().toString()).stateCount(retryLimit + 1).build();
@@ -20,30 +20,41 @@ import org.eclipse.edc.transform.spi.TypeTransformer;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static java.lang.String.format;
 
 public class TypeTransformerRegistryImpl implements TypeTransformerRegistry {
     private final Map<String, Class<?>> aliases = new HashMap<>();
-    private final List<TypeTransformer<?, ?>> transformers = new ArrayList<>();
+    private final List<TypeTransformer<?, ?>> transformers = new CopyOnWriteArrayList<>();
+    /**
+     * Transformers already resolved for a concrete input class and an output type.
+     */
+    private final Map<TransformerKey, TypeTransformer<?, ?>> resolved = new ConcurrentHashMap<>();
 
     @Override
     public void register(TypeTransformer<?, ?> transformer) {
         this.transformers.add(transformer);
+        resolved.clear();
     }
 
     @Override
     public @NotNull <INPUT, OUTPUT> TypeTransformer<INPUT, OUTPUT> transformerFor(@NotNull INPUT input, @NotNull Class<OUTPUT> outputType) {
-        return transformers.stream()
-                .filter(t -> t.getInputType().isInstance(input) && t.getOutputType().equals(outputType))
-                .findAny()
-                .map(it -> (TypeTransformer<INPUT, OUTPUT>) it)
-                .orElseThrow(() -> new EdcException(format("No Transformer registered that can handle %s -> %s", input.getClass(), outputType)));
+        var key = new TransformerKey(input.getClass(), outputType);
+        var transformer = resolved.get(key);
+        if (transformer == null) {
+            transformer = transformers.stream()
+                    .filter(t -> t.getInputType().isAssignableFrom(key.inputType()) && t.getOutputType().equals(outputType))
+                    .findFirst()
+                    .orElseThrow(() -> new EdcException(format("No Transformer registered that can handle %s -> %s", input.getClass(), outputType)));
+            resolved.put(key, transformer);
+        }
+        return (TypeTransformer<INPUT, OUTPUT>) transformer;
     }
 
     @Override
@@ -75,4 +86,7 @@ public class TypeTransformerRegistryImpl implements TypeTransformerRegistry {
     public void registerTypeAlias(String alias, Class<?> type) {
         aliases.put(alias, type);
     }
+
+    private record TransformerKey(Class<?> inputType, Class<?> outputType) {
+    }
 }
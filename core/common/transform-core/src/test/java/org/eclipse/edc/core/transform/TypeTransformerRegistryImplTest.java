@@ -16,12 +16,15 @@ package org.eclipse.edc.core.transform;
 
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.transform.spi.TypeTransformer;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public class TypeTransformerRegistryImplTest {
 
@@ -48,6 +51,30 @@ public class TypeTransformerRegistryImplTest {
         assertThatThrownBy(() -> registry.transformerFor(notString, Float.class)).isInstanceOf(EdcException.class);
     }
 
+    @Test
+    void transformerFor_shouldResolveTransformerOfSupertype() {
+        var transformer = mock(TypeTransformer.class);
+        when(transformer.getInputType()).thenReturn(Number.class);
+        when(transformer.getOutputType()).thenReturn(String.class);
+        registry.register(transformer);
+
+        assertThat(registry.transformerFor(1, String.class)).isSameAs(transformer);
+        assertThat(registry.transformerFor(1L, String.class)).isSameAs(transformer);
+        assertThat(registry.transformerFor(2, String.class)).isSameAs(transformer);
+    }
+
+    @Test
+    void transformerFor_shouldFindTransformer_registeredAfterFailedLookup() {
+        assertThatThrownBy(() -> registry.transformerFor(1, String.class)).isInstanceOf(EdcException.class);
+
+        var transformer = mock(TypeTransformer.class);
+        when(transformer.getInputType()).thenReturn(Integer.class);
+        when(transformer.getOutputType()).thenReturn(String.class);
+        registry.register(transformer);
+
+        assertThat(registry.transformerFor(1, String.class)).isSameAs(transformer);
+    }
+
     @Test
     void transform_shouldSucceed_whenInputAndOutputTypesAreHandledByRegisteredTransformer() {
         var result = registry.transform("5", Integer.class);
@@ -0,0 +1,111 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.util.reflection;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * A property name in the notation of {@link ReflectionUtil#getFieldValue(String, Object)}, parsed once so that it can
+ * be evaluated against many objects. The fields are looked up through the per-class cache of {@link ReflectionUtil}.
+ */
+public final class PropertyPath {
+
+    private static final Pattern ARRAY_INDEXER = Pattern.compile(".*\\[([0-9])+\\]");
+    private static final String OPENING_BRACKET = "[";
+    private static final String CLOSING_BRACKET = "]";
+
+    private final String name;
+    private final Segment[] segments;
+
+    private PropertyPath(String name, Segment[] segments) {
+        this.name = name;
+        this.segments = segments;
+    }
+
+    /**
+     * Parses a property name, e.g. {@code someObject.someValue} or {@code someObject[2].someValue}.
+     *
+     * @param propertyName the property name
+     * @return the parsed path
+     */
+    public static PropertyPath parse(String propertyName) {
+        Objects.requireNonNull(propertyName, "propertyName");
+        var segments = Arrays.stream(propertyName.split("\\.", -1))
+                .map(PropertyPath::parseSegment)
+                .toArray(Segment[]::new);
+        return new PropertyPath(propertyName, segments);
+    }
+
+    /**
+     * Evaluates the path on an object.
+     *
+     * @param object the object
+     * @return the value of the property, null if it, or one of its parents, is null.
+     * @throws ReflectionException if a field does not exist or is not accessible
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getValue(Object object) {
+        Objects.requireNonNull(object, "object");
+
+        var value = object;
+        for (var i = 0; i < segments.length; i++) {
+            if (i > 0 && value == null) {
+                return null;
+            }
+            value = segments[i].getValue(value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    private static Segment parseSegment(String segment) {
+        if (segment.endsWith(CLOSING_BRACKET) && ARRAY_INDEXER.matcher(segment).matches()) {
+            var openingBracketIx = segment.indexOf(OPENING_BRACKET);
+            var closingBracketIx = segment.indexOf(CLOSING_BRACKET);
+            var index = Integer.parseInt(segment.substring(openingBracketIx + 1, closingBracketIx));
+            return new Segment(segment.substring(0, openingBracketIx), index);
+        }
+        return new Segment(segment, -1);
+    }
+
+    private record Segment(String name, int index) {
+
+        Object getValue(Object object) {
+            if (index >= 0) {
+                var list = (List<?>) propertyValue(object);
+                return list.get(index);
+            }
+            return propertyValue(object);
+        }
+
+        private Object propertyValue(Object object) {
+            if (object instanceof Map<?, ?> map) {
+                return map.get(name);
+            } else if (object instanceof List<?> list) {
+                return list.stream().filter(Objects::nonNull).map(it -> ReflectionUtil.getDeclaredFieldValue(name, it)).toList();
+            } else {
+                return ReflectionUtil.getDeclaredFieldValue(name, object);
+            }
+        }
+    }
+}
@@ -20,15 +20,25 @@ import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 
 public class ReflectionUtil {
 
-    private static final String ARRAY_INDEXER_REGEX = ".*\\[([0-9])+\\]";
-    private static final String OPENING_BRACKET = "[";
-    private static final String CLOSING_BRACKET = "]";
+    /**
+     * Fields of a class and its superclasses by name, made accessible where possible. If a name is declared more than
+     * once, the field declared highest in the hierarchy is kept.
+     */
+    private static final ClassValue<Map<String, Field>> FIELDS = new ClassValue<>() {
+        @Override
+        protected Map<String, Field> computeValue(Class<?> type) {
+            var fields = new HashMap<String, Field>();
+            getAllFieldsRecursive(type).forEach(field -> fields.putIfAbsent(field.getName(), field));
+            fields.values().forEach(Field::trySetAccessible);
+            return fields;
+        }
+    };
 
     /**
      * Utility function to get value of a field from an object. For field names currently the dot notation and array
@@ -44,34 +54,7 @@ public class ReflectionUtil {
      * @throws ReflectionException if the field does not exist or is not accessible
      */
     public static <T> T getFieldValue(String propertyName, Object object) {
-        Objects.requireNonNull(propertyName, "propertyName");
-        Objects.requireNonNull(object, "object");
-
-        if (propertyName.contains(".")) {
-            var dotIx = propertyName.indexOf(".");
-            var field = propertyName.substring(0, dotIx);
-            var rest = propertyName.substring(dotIx + 1);
-            object = getFieldValue(field, object);
-            if (object == null) {
-                return null;
-            }
-            return getFieldValue(rest, object);
-        } else if (propertyName.matches(ARRAY_INDEXER_REGEX)) { //array indexer
-            var openingBracketIx = propertyName.indexOf(OPENING_BRACKET);
-            var closingBracketIx = propertyName.indexOf(CLOSING_BRACKET);
-            var propName = propertyName.substring(0, openingBracketIx);
-            var arrayIndex = Integer.parseInt(propertyName.substring(openingBracketIx + 1, closingBracketIx));
-            var iterableObject = (List) getFieldValue(propName, object);
-            return (T) iterableObject.get(arrayIndex);
-        } else {
-            if (object instanceof Map<?, ?> map) {
-                return (T) map.get(propertyName);
-            } else if (object instanceof List<?> list) {
-                return (T) list.stream().filter(Objects::nonNull).map(it -> getRecursiveValue(propertyName, it)).toList();
-            } else {
-                return getRecursiveValue(propertyName, object);
-            }
-        }
+        return PropertyPath.parse(propertyName).getValue(object);
     }
 
     /**
@@ -83,7 +66,10 @@ public class ReflectionUtil {
      * @return A field with the given name, null if the field does not exist
      */
     public static Field getFieldRecursive(Class<?> clazz, String fieldName) {
-        return getAllFieldsRecursive(clazz).stream().filter(f -> f.getName().equals(fieldName)).findFirst().orElse(null);
+        if (clazz == null) {
+            return null;
+        }
+        return FIELDS.get(clazz).get(fieldName);
     }
 
     /**
@@ -103,12 +89,14 @@ public class ReflectionUtil {
         return result;
     }
 
-    private static <T> T getRecursiveValue(String propertyName, Object object) {
+    /**
+     * Gets the value of a field declared in the class of the object or one of its superclasses.
+     */
+    static <T> T getDeclaredFieldValue(String propertyName, Object object) {
         var field = getFieldRecursive(object.getClass(), propertyName);
         if (field == null) {
             throw new ReflectionException(propertyName);
         }
-        field.setAccessible(true);
         try {
             return (T) field.get(object);
         } catch (IllegalAccessException e) {
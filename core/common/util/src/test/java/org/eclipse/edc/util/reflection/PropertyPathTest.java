@@ -0,0 +1,58 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.util.reflection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PropertyPathTest {
+
+    @Test
+    void getValue_shouldEvaluateSamePathOnDifferentObjects() {
+        var path = PropertyPath.parse("nestedObjects[1].description");
+
+        var first = new TestObjectWithList("desc", 0, List.of(new TestObject("a", 1), new TestObject("b", 2)));
+        var second = new TestObjectWithList("desc", 0, List.of(new TestObject("c", 3), new TestObject("d", 4)));
+
+        assertThat((String) path.getValue(first)).isEqualTo("b");
+        assertThat((String) path.getValue(second)).isEqualTo("d");
+    }
+
+    @Test
+    void getValue_shouldEvaluatePathOnSubclasses() {
+        var path = PropertyPath.parse("description");
+
+        assertThat((String) path.getValue(new TestObject("parent", 1))).isEqualTo("parent");
+        assertThat((String) path.getValue(new TestObjectSubclass("child", 1, "property"))).isEqualTo("child");
+    }
+
+    @Test
+    void getValue_shouldReturnNull_whenParentIsNull() {
+        var path = PropertyPath.parse("nestedObject.description");
+
+        assertThat((Object) path.getValue(new TestObjectWithList("desc", 0, List.of(), null))).isNull();
+    }
+
+    @Test
+    void getValue_shouldThrow_whenFieldDoesNotExist() {
+        var path = PropertyPath.parse("notExist");
+
+        assertThatThrownBy(() -> path.getValue(new TestObject("desc", 1))).isInstanceOf(ReflectionException.class);
+    }
+}
@@ -20,14 +20,19 @@ import org.eclipse.edc.catalog.spi.DistributionResolver;
 import org.eclipse.edc.connector.contract.spi.ContractOfferId;
 import org.eclipse.edc.connector.contract.spi.offer.ContractDefinitionResolver;
 import org.eclipse.edc.connector.contract.spi.types.offer.ContractDefinition;
+import org.eclipse.edc.connector.policy.spi.PolicyDefinition;
 import org.eclipse.edc.connector.policy.spi.store.PolicyDefinitionStore;
+import org.eclipse.edc.policy.model.Policy;
 import org.eclipse.edc.spi.agent.ParticipantAgent;
 import org.eclipse.edc.spi.asset.AssetIndex;
+import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.CriterionToAssetPredicateConverter;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.types.domain.asset.Asset;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
@@ -56,25 +61,81 @@ public class DatasetResolverImpl implements DatasetResolver {
     @Override
     @NotNull
     public Stream<Dataset> query(ParticipantAgent agent, QuerySpec querySpec) {
-        var contractDefinitions = contractDefinitionResolver.definitionsFor(agent).toList();
+        var offerDefinitions = resolveOfferDefinitions(agent);
+        if (offerDefinitions.isEmpty()) {
+            return Stream.empty();
+        }
+
+        var pushDownSelector = pushDownSelector(offerDefinitions);
+        if (pushDownSelector != null) {
+            // every asset returned by the index carries at least one offer, so the page can be built by the index itself
+            var assetsQuery = QuerySpec.Builder.newInstance()
+                    .offset(querySpec.getOffset())
+                    .limit(querySpec.getLimit())
+                    .filter(querySpec.getFilterExpression())
+                    .filter(pushDownSelector)
+                    .build();
+            var definitions = offerDefinitions.size() == 1 ? List.of(offerDefinitions.get(0).matchingAll()) : offerDefinitions;
+            return assetIndex.queryAssets(assetsQuery)
+                    .map(asset -> toDataset(definitions, asset));
+        }
+
         var assetsQuery = QuerySpec.Builder.newInstance().offset(0).limit(MAX_VALUE).filter(querySpec.getFilterExpression()).build();
         return assetIndex.queryAssets(assetsQuery)
-                .map(asset -> toDataset(contractDefinitions, asset))
-                .filter(Dataset::hasOffers)
+                .filter(asset -> offerDefinitions.stream().anyMatch(definition -> definition.selector().test(asset)))
                 .skip(querySpec.getOffset())
-                .limit(querySpec.getLimit());
+                .limit(querySpec.getLimit())
+                .map(asset -> toDataset(offerDefinitions, asset));
     }
 
     @Override
     public Dataset getById(ParticipantAgent agent, String id) {
-        var contractDefinitions = contractDefinitionResolver.definitionsFor(agent).toList();
+        var offerDefinitions = resolveOfferDefinitions(agent);
         return Optional.of(id)
                 .map(assetIndex::findById)
-                .map(asset -> toDataset(contractDefinitions, asset))
+                .map(asset -> toDataset(offerDefinitions, asset))
                 .orElse(null);
     }
 
-    private Dataset toDataset(List<ContractDefinition> contractDefinitions, Asset asset) {
+    /**
+     * Resolves the contract definitions available to the agent, compiling their asset selectors and looking up their
+     * contract policies once. Definitions whose policy does not exist are dropped, as they cannot produce any offer.
+     */
+    private List<OfferDefinition> resolveOfferDefinitions(ParticipantAgent agent) {
+        var policies = new HashMap<String, Optional<Policy>>();
+        return contractDefinitionResolver.definitionsFor(agent)
+                .map(definition -> policies.computeIfAbsent(definition.getContractPolicyId(), this::findPolicy)
+                        .map(policy -> new OfferDefinition(definition, policy, compile(definition.getAssetsSelector()))))
+                .flatMap(Optional::stream)
+                .toList();
+    }
+
+    /**
+     * Returns the criteria that, added to the asset query, select exactly the assets that have at least one offer, or
+     * null if that cannot be expressed as a single conjunction (multiple definitions with distinct selectors).
+     */
+    @Nullable
+    private List<Criterion> pushDownSelector(List<OfferDefinition> offerDefinitions) {
+        if (offerDefinitions.stream().anyMatch(it -> it.definition().getAssetsSelector().isEmpty())) {
+            return List.of();
+        }
+        if (offerDefinitions.size() == 1) {
+            return offerDefinitions.get(0).definition().getAssetsSelector();
+        }
+        return null;
+    }
+
+    private Optional<Policy> findPolicy(String policyId) {
+        return Optional.ofNullable(policyDefinitionStore.findById(policyId)).map(PolicyDefinition::getPolicy);
+    }
+
+    private Predicate<Asset> compile(List<Criterion> selector) {
+        return selector.stream()
+                .<Predicate<Asset>>map(criterionToPredicateConverter::convert)
+                .reduce(x -> true, Predicate::and);
+    }
+
+    private Dataset toDataset(List<OfferDefinition> offerDefinitions, Asset asset) {
 
         var distributions = distributionResolver.getDistributions(asset, null); // TODO: data addresses should be retrieved
         var datasetBuilder = Dataset.Builder.newInstance()
@@ -82,21 +143,21 @@ public class DatasetResolverImpl implements DatasetResolver {
                 .distributions(distributions)
                 .properties(asset.getProperties());
 
-        contractDefinitions.stream()
-                .filter(definition -> definition.getAssetsSelector().stream()
-                        .map(criterionToPredicateConverter::convert)
-                        .reduce(x -> true, Predicate::and)
-                        .test(asset)
-                )
-                .forEach(contractDefinition -> {
-                    var policyDefinition = policyDefinitionStore.findById(contractDefinition.getContractPolicyId());
-                    if (policyDefinition != null) {
-                        var contractId = ContractOfferId.create(contractDefinition.getId(), asset.getId());
-                        datasetBuilder.offer(contractId.toString(), policyDefinition.getPolicy().withTarget(asset.getId()));
-                    }
+        offerDefinitions.stream()
+                .filter(offerDefinition -> offerDefinition.selector().test(asset))
+                .forEach(offerDefinition -> {
+                    var contractId = ContractOfferId.create(offerDefinition.definition().getId(), asset.getId());
+                    datasetBuilder.offer(contractId.toString(), offerDefinition.policy().withTarget(asset.getId()));
                 });
 
         return datasetBuilder.build();
     }
 
+    private record OfferDefinition(ContractDefinition definition, Policy policy, Predicate<Asset> selector) {
+
+        OfferDefinition matchingAll() {
+            return new OfferDefinition(definition, policy, asset -> true);
+        }
+    }
+
 }
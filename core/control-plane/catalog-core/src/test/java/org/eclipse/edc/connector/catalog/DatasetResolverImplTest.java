@@ -54,6 +54,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -163,7 +164,7 @@ class DatasetResolverImplTest {
         var contractPolicy = Policy.Builder.newInstance().build();
         var assets = range(0, 10).mapToObj(it -> createAsset(String.valueOf(it)).build()).toList();
         when(contractDefinitionResolver.definitionsFor(any())).thenReturn(Stream.of(contractDefinition));
-        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> assets.stream());
+        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> page(assets, i.getArgument(0)));
         when(policyStore.findById("contractPolicyId")).thenReturn(PolicyDefinition.Builder.newInstance().policy(contractPolicy).build());
         var querySpec = QuerySpec.Builder.newInstance().range(new Range(2, 5)).build();
 
@@ -178,7 +179,7 @@ class DatasetResolverImplTest {
         var contractPolicy = Policy.Builder.newInstance().build();
         var assets = range(0, 10).mapToObj(it -> createAsset(String.valueOf(it)).build()).toList();
         when(contractDefinitionResolver.definitionsFor(any())).thenReturn(Stream.of(contractDefinition));
-        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> assets.stream());
+        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> page(assets, i.getArgument(0)));
         when(policyStore.findById(any())).thenReturn(PolicyDefinition.Builder.newInstance().policy(contractPolicy).build());
         var querySpec = QuerySpec.Builder.newInstance().range(new Range(7, 15)).build();
 
@@ -193,7 +194,7 @@ class DatasetResolverImplTest {
         var contractPolicy = Policy.Builder.newInstance().build();
         var assets = range(0, 20).mapToObj(it -> createAsset(String.valueOf(it)).build()).toList();
         when(contractDefinitionResolver.definitionsFor(any())).thenAnswer(it -> contractDefinitions.stream());
-        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> assets.stream());
+        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> page(assets, i.getArgument(0)));
         when(policyStore.findById(any())).thenReturn(PolicyDefinition.Builder.newInstance().policy(contractPolicy).build());
         var querySpec = QuerySpec.Builder.newInstance().range(new Range(6, 14)).build();
 
@@ -208,7 +209,7 @@ class DatasetResolverImplTest {
         var contractPolicy = Policy.Builder.newInstance().build();
         var assets = range(0, 10).mapToObj(it -> createAsset(String.valueOf(it)).build()).toList();
         when(contractDefinitionResolver.definitionsFor(any())).thenAnswer(it -> contractDefinitions.stream());
-        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> assets.stream());
+        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> page(assets, i.getArgument(0)));
         when(policyStore.findById(any())).thenReturn(PolicyDefinition.Builder.newInstance().policy(contractPolicy).build());
         var querySpec = QuerySpec.Builder.newInstance().range(new Range(6, 8)).build();
 
@@ -219,6 +220,55 @@ class DatasetResolverImplTest {
                 .map(getId()).containsExactly("6", "7");
     }
 
+    @Test
+    void query_shouldPushSelectorAndRangeDown_whenSingleDefinition() {
+        var definitionCriterion = new Criterion(EDC_NAMESPACE + "id", "=", "id");
+        var contractDefinition = contractDefinitionBuilder("definitionId")
+                .assetsSelector(List.of(definitionCriterion))
+                .contractPolicyId("contractPolicyId")
+                .build();
+        when(contractDefinitionResolver.definitionsFor(any())).thenReturn(Stream.of(contractDefinition));
+        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenReturn(Stream.of(createAsset("id").build()));
+        when(policyStore.findById("contractPolicyId")).thenReturn(PolicyDefinition.Builder.newInstance().policy(Policy.Builder.newInstance().build()).build());
+        var querySpec = QuerySpec.Builder.newInstance().range(new Range(3, 7)).build();
+
+        var datasets = datasetResolver.query(createParticipantAgent(), querySpec);
+
+        assertThat(datasets).hasSize(1);
+        verify(assetIndex).queryAssets(argThat(q -> q.getFilterExpression().contains(definitionCriterion) &&
+                q.getOffset() == 3 && q.getLimit() == 4));
+    }
+
+    @Test
+    void query_shouldFilterInMemory_whenMultipleDefinitionsWithDifferentSelectors() {
+        var contractPolicy = Policy.Builder.newInstance().build();
+        when(contractDefinitionResolver.definitionsFor(any())).thenReturn(Stream.of(
+                contractDefinitionBuilder("definition1").assetsSelector(List.of(new Criterion(EDC_NAMESPACE + "id", "=", "1"))).build(),
+                contractDefinitionBuilder("definition2").assetsSelector(List.of(new Criterion(EDC_NAMESPACE + "id", "=", "3"))).build()
+        ));
+        var assets = range(0, 5).mapToObj(it -> createAsset(String.valueOf(it)).build()).toList();
+        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> page(assets, i.getArgument(0)));
+        when(policyStore.findById(any())).thenReturn(PolicyDefinition.Builder.newInstance().policy(contractPolicy).build());
+
+        var datasets = datasetResolver.query(createParticipantAgent(), QuerySpec.Builder.newInstance().offset(1).build());
+
+        assertThat(datasets).hasSize(1).map(getId()).containsExactly("3");
+    }
+
+    @Test
+    void query_shouldResolvePolicyOnce_whenSharedByDefinitions() {
+        var contractDefinitions = range(0, 3).mapToObj(it -> contractDefinitionBuilder(String.valueOf(it)).contractPolicyId("shared").build()).toList();
+        var assets = range(0, 10).mapToObj(it -> createAsset(String.valueOf(it)).build()).toList();
+        when(contractDefinitionResolver.definitionsFor(any())).thenAnswer(it -> contractDefinitions.stream());
+        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> page(assets, i.getArgument(0)));
+        when(policyStore.findById(any())).thenReturn(PolicyDefinition.Builder.newInstance().policy(Policy.Builder.newInstance().build()).build());
+
+        var datasets = datasetResolver.query(createParticipantAgent(), QuerySpec.none());
+
+        assertThat(datasets).hasSize(10).allSatisfy(dataset -> assertThat(dataset.getOffers()).hasSize(3));
+        verify(policyStore, times(1)).findById("shared");
+    }
+
     @Test
     void getById_shouldReturnDataset() {
         var policy1 = Policy.Builder.newInstance().type(SET).build();
@@ -262,6 +312,10 @@ class DatasetResolverImplTest {
         assertThat(dataset).isNull();
     }
 
+    private Stream<Asset> page(List<Asset> assets, QuerySpec querySpec) {
+        return assets.stream().skip(querySpec.getOffset()).limit(querySpec.getLimit());
+    }
+
     private ContractDefinition.Builder contractDefinitionBuilder(String id) {
         return ContractDefinition.Builder.newInstance()
                 .id(id)
@@ -23,6 +23,7 @@ dependencies {
 
     implementation(project(":core:common:connector-core"))
     implementation(project(":core:common:state-machine"))
+    implementation(project(":core:common:util"))
     implementation(libs.opentelemetry.instrumentation.annotations)
 
     testImplementation(project(":core:control-plane:control-plane-core"))
@@ -18,12 +18,14 @@
 package org.eclipse.edc.connector.contract;
 
 import org.eclipse.edc.connector.contract.listener.ContractNegotiationEventListener;
+import org.eclipse.edc.connector.contract.listener.ContractNegotiationWakeUpListener;
 import org.eclipse.edc.connector.contract.negotiation.ConsumerContractNegotiationManagerImpl;
 import org.eclipse.edc.connector.contract.negotiation.ProviderContractNegotiationManagerImpl;
 import org.eclipse.edc.connector.contract.policy.PolicyEquality;
 import org.eclipse.edc.connector.contract.spi.negotiation.ConsumerContractNegotiationManager;
 import org.eclipse.edc.connector.contract.spi.negotiation.ContractNegotiationPendingGuard;
 import org.eclipse.edc.connector.contract.spi.negotiation.NegotiationWaitStrategy;
+import org.eclipse.edc.connector.contract.spi.negotiation.NegotiationWaitStrategyFactory;
 import org.eclipse.edc.connector.contract.spi.negotiation.ProviderContractNegotiationManager;
 import org.eclipse.edc.connector.contract.spi.negotiation.observe.ContractNegotiationObservable;
 import org.eclipse.edc.connector.contract.spi.negotiation.store.ContractNegotiationStore;
@@ -48,15 +50,18 @@ import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.protocol.ProtocolWebhook;
 import org.eclipse.edc.spi.retry.ExponentialWaitStrategy;
+import org.eclipse.edc.spi.retry.WaitStrategy;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.system.StateMachineObserver;
 import org.eclipse.edc.spi.telemetry.Telemetry;
 import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.statemachine.retry.EntityRetryProcessConfiguration;
 import org.jetbrains.annotations.NotNull;
 
 import java.time.Clock;
+import java.util.function.Supplier;
 
 import static org.eclipse.edc.connector.contract.spi.validation.ContractValidationService.TRANSFER_SCOPE;
 import static org.eclipse.edc.connector.contract.validation.ContractExpiryCheckFunction.CONTRACT_EXPIRY_EVALUATION_KEY;
@@ -64,6 +69,8 @@ import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.D
 import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_ITERATION_WAIT;
 import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_SEND_RETRY_BASE_DELAY;
 import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_SEND_RETRY_LIMIT;
+import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_WORKERS;
+import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_WORKERS_PER_STATE;
 import static org.eclipse.edc.policy.model.OdrlNamespace.ODRL_SCHEMA;
 
 @Provides({
@@ -85,6 +92,12 @@ public class ContractCoreExtension implements ServiceExtension {
     @Setting(value = "the batch size in the provider negotiation state machine. Default value " + DEFAULT_BATCH_SIZE, type = "int")
     private static final String NEGOTIATION_PROVIDER_STATE_MACHINE_BATCH_SIZE = "edc.negotiation.provider.state-machine.batch-size";
 
+    @Setting(value = "the number of threads on which the negotiation state machine processes states concurrently. Default value " + DEFAULT_WORKERS, type = "int")
+    private static final String NEGOTIATION_STATE_MACHINE_WORKERS = "edc.negotiation.state-machine.workers";
+
+    @Setting(value = "the number of concurrent workers that process every negotiation state, effective only with more than one worker. Default value " + DEFAULT_WORKERS_PER_STATE, type = "int")
+    private static final String NEGOTIATION_STATE_MACHINE_WORKERS_PER_STATE = "edc.negotiation.state-machine.workers-per-state";
+
     @Setting(value = "how many times a specific operation must be tried before terminating the consumer negotiation with error", type = "int", defaultValue = DEFAULT_SEND_RETRY_LIMIT + "")
     private static final String NEGOTIATION_CONSUMER_SEND_RETRY_LIMIT = "edc.negotiation.consumer.send.retry.limit";
 
@@ -152,6 +165,9 @@ public class ContractCoreExtension implements ServiceExtension {
     @Inject
     private ExecutorInstrumentation executorInstrumentation;
 
+    @Inject
+    private StateMachineObserver stateMachineObserver;
+
     @Override
     public String name() {
         return NAME;
@@ -195,22 +211,37 @@ public class ContractCoreExtension implements ServiceExtension {
         policyEngine.registerFunction(TRANSFER_SCOPE, Permission.class, CONTRACT_EXPIRY_EVALUATION_KEY, function);
 
         var iterationWaitMillis = context.getSetting(NEGOTIATION_STATE_MACHINE_ITERATION_WAIT_MILLIS, DEFAULT_ITERATION_WAIT);
-        var waitStrategy = context.hasService(NegotiationWaitStrategy.class) ? context.getService(NegotiationWaitStrategy.class) : new ExponentialWaitStrategy(iterationWaitMillis);
+        Supplier<WaitStrategy> waitStrategy;
+        if (context.hasService(NegotiationWaitStrategyFactory.class)) {
+            waitStrategy = context.getService(NegotiationWaitStrategyFactory.class)::create;
+        } else if (context.hasService(NegotiationWaitStrategy.class)) {
+            // shared by all the loops, see the stateless requirement of the extension point
+            var sharedWaitStrategy = context.getService(NegotiationWaitStrategy.class);
+            waitStrategy = () -> sharedWaitStrategy;
+        } else {
+            waitStrategy = () -> new ExponentialWaitStrategy(iterationWaitMillis);
+        }
+
+        var workers = context.getSetting(NEGOTIATION_STATE_MACHINE_WORKERS, DEFAULT_WORKERS);
+        var workersPerState = context.getSetting(NEGOTIATION_STATE_MACHINE_WORKERS_PER_STATE, DEFAULT_WORKERS_PER_STATE);
 
         observable.registerListener(new ContractNegotiationEventListener(eventRouter, clock));
 
         consumerNegotiationManager = ConsumerContractNegotiationManagerImpl.Builder.newInstance()
                 .participantId(participantId)
-                .waitStrategy(waitStrategy)
+                .waitStrategyFactory(waitStrategy)
                 .dispatcherRegistry(dispatcherRegistry)
                 .monitor(monitor)
                 .observable(observable)
                 .clock(clock)
                 .telemetry(telemetry)
                 .executorInstrumentation(executorInstrumentation)
+                .observer(stateMachineObserver)
                 .store(store)
                 .policyStore(policyStore)
                 .batchSize(context.getSetting(NEGOTIATION_CONSUMER_STATE_MACHINE_BATCH_SIZE, DEFAULT_BATCH_SIZE))
+                .workers(workers)
+                .workersPerState(workersPerState)
                 .entityRetryProcessConfiguration(consumerEntityRetryProcessConfiguration(context))
                 .protocolWebhook(protocolWebhook)
                 .pendingGuard(pendingGuard)
@@ -218,21 +249,27 @@ public class ContractCoreExtension implements ServiceExtension {
 
         providerNegotiationManager = ProviderContractNegotiationManagerImpl.Builder.newInstance()
                 .participantId(participantId)
-                .waitStrategy(waitStrategy)
+                .waitStrategyFactory(waitStrategy)
                 .dispatcherRegistry(dispatcherRegistry)
                 .monitor(monitor)
                 .observable(observable)
                 .clock(clock)
                 .telemetry(telemetry)
                 .executorInstrumentation(executorInstrumentation)
+                .observer(stateMachineObserver)
                 .store(store)
                 .policyStore(policyStore)
                 .batchSize(context.getSetting(NEGOTIATION_PROVIDER_STATE_MACHINE_BATCH_SIZE, DEFAULT_BATCH_SIZE))
+                .workers(workers)
+                .workersPerState(workersPerState)
                 .entityRetryProcessConfiguration(providerEntityRetryProcessConfiguration(context))
                 .protocolWebhook(protocolWebhook)
                 .pendingGuard(pendingGuard)
                 .build();
 
+        observable.registerListener(new ContractNegotiationWakeUpListener(consumerNegotiationManager));
+        observable.registerListener(new ContractNegotiationWakeUpListener(providerNegotiationManager));
+
         context.registerService(ConsumerContractNegotiationManager.class, consumerNegotiationManager);
         context.registerService(ProviderContractNegotiationManager.class, providerNegotiationManager);
     }
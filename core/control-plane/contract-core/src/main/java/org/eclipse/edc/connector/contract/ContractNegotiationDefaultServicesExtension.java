@@ -15,22 +15,29 @@
 package org.eclipse.edc.connector.contract;
 
 import org.eclipse.edc.connector.contract.observe.ContractNegotiationObservableImpl;
+import org.eclipse.edc.connector.contract.offer.AccessPolicyEvaluationCache;
 import org.eclipse.edc.connector.contract.offer.ContractDefinitionResolverImpl;
 import org.eclipse.edc.connector.contract.policy.PolicyArchiveImpl;
+import org.eclipse.edc.connector.contract.spi.event.contractdefinition.ContractDefinitionEvent;
 import org.eclipse.edc.connector.contract.spi.negotiation.ContractNegotiationPendingGuard;
 import org.eclipse.edc.connector.contract.spi.negotiation.observe.ContractNegotiationObservable;
 import org.eclipse.edc.connector.contract.spi.negotiation.store.ContractNegotiationStore;
 import org.eclipse.edc.connector.contract.spi.offer.ContractDefinitionResolver;
 import org.eclipse.edc.connector.contract.spi.offer.store.ContractDefinitionStore;
+import org.eclipse.edc.connector.policy.spi.event.PolicyDefinitionEvent;
 import org.eclipse.edc.connector.policy.spi.store.PolicyArchive;
 import org.eclipse.edc.connector.policy.spi.store.PolicyDefinitionStore;
 import org.eclipse.edc.policy.engine.spi.PolicyEngine;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 
+import java.time.Clock;
+
 /**
  * Contract Negotiation Default Services Extension
  */
@@ -39,6 +46,15 @@ public class ContractNegotiationDefaultServicesExtension implements ServiceExten
 
     public static final String NAME = "Contract Negotiation Default Services";
 
+    private static final long DEFAULT_ACCESS_POLICY_CACHE_TTL = 0;
+    private static final int DEFAULT_ACCESS_POLICY_CACHE_SIZE = 10_000;
+
+    @Setting(value = "the time in milliseconds for which access policy evaluation results are cached per participant and contract definition, 0 disables the cache", type = "long", defaultValue = DEFAULT_ACCESS_POLICY_CACHE_TTL + "")
+    private static final String ACCESS_POLICY_CACHE_TTL = "edc.contract.definition.access-policy.cache.ttl-millis";
+
+    @Setting(value = "the maximum number of cached access policy evaluation results", type = "int", defaultValue = DEFAULT_ACCESS_POLICY_CACHE_SIZE + "")
+    private static final String ACCESS_POLICY_CACHE_SIZE = "edc.contract.definition.access-policy.cache.size";
+
     @Inject
     private ContractDefinitionStore contractDefinitionStore;
 
@@ -51,9 +67,21 @@ public class ContractNegotiationDefaultServicesExtension implements ServiceExten
     @Inject
     private ContractNegotiationStore store;
 
+    @Inject
+    private EventRouter eventRouter;
+
+    @Inject
+    private Clock clock;
+
     @Provider
     public ContractDefinitionResolver contractDefinitionResolver(ServiceExtensionContext context) {
-        return new ContractDefinitionResolverImpl(context.getMonitor(), contractDefinitionStore, policyEngine, policyStore);
+        var ttl = context.getSetting(ACCESS_POLICY_CACHE_TTL, DEFAULT_ACCESS_POLICY_CACHE_TTL);
+        var size = context.getSetting(ACCESS_POLICY_CACHE_SIZE, DEFAULT_ACCESS_POLICY_CACHE_SIZE);
+        var evaluationCache = new AccessPolicyEvaluationCache(clock, ttl, size);
+        eventRouter.registerSync(ContractDefinitionEvent.class, evaluationCache);
+        eventRouter.registerSync(PolicyDefinitionEvent.class, evaluationCache);
+
+        return new ContractDefinitionResolverImpl(context.getMonitor(), contractDefinitionStore, policyEngine, policyStore, evaluationCache);
     }
 
     @Provider
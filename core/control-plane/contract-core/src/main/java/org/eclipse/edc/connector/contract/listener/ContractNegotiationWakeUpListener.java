@@ -0,0 +1,77 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.contract.listener;
+
+import org.eclipse.edc.connector.contract.spi.negotiation.observe.ContractNegotiationListener;
+import org.eclipse.edc.connector.contract.spi.types.negotiation.ContractNegotiation;
+import org.eclipse.edc.connector.core.entity.AbstractStateEntityManager;
+
+/**
+ * Wakes up the loops of a contract negotiation manager that handle the state a negotiation has been moved to, so that
+ * changes applied outside the state machine loop (e.g. by incoming protocol messages) get processed immediately. The
+ * state is taken from the notified negotiation, the store is not read.
+ */
+public class ContractNegotiationWakeUpListener implements ContractNegotiationListener {
+
+    private final AbstractStateEntityManager<?, ?> manager;
+
+    public ContractNegotiationWakeUpListener(AbstractStateEntityManager<?, ?> manager) {
+        this.manager = manager;
+    }
+
+    @Override
+    public void initiated(ContractNegotiation negotiation) {
+        wakeUp(negotiation);
+    }
+
+    @Override
+    public void requested(ContractNegotiation negotiation) {
+        wakeUp(negotiation);
+    }
+
+    @Override
+    public void offered(ContractNegotiation negotiation) {
+        wakeUp(negotiation);
+    }
+
+    @Override
+    public void accepted(ContractNegotiation negotiation) {
+        wakeUp(negotiation);
+    }
+
+    @Override
+    public void terminated(ContractNegotiation negotiation) {
+        wakeUp(negotiation);
+    }
+
+    @Override
+    public void agreed(ContractNegotiation negotiation) {
+        wakeUp(negotiation);
+    }
+
+    @Override
+    public void verified(ContractNegotiation negotiation) {
+        wakeUp(negotiation);
+    }
+
+    @Override
+    public void finalized(ContractNegotiation negotiation) {
+        wakeUp(negotiation);
+    }
+
+    private void wakeUp(ContractNegotiation negotiation) {
+        manager.wakeUp(negotiation.stateAsString());
+    }
+}
@@ -54,6 +54,7 @@ public abstract class AbstractContractNegotiationManager extends AbstractStateEn
                 .process(telemetry.contextPropagationMiddleware(function))
                 .guard(pendingGuard, this::setPending)
                 .onNotProcessed(this::breakLease)
+                .observer(observer, getClass().getSimpleName(), state.name())
                 .build();
     }
 
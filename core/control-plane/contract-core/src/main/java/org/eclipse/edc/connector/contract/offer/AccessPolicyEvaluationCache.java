@@ -0,0 +1,127 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.contract.offer;
+
+import org.eclipse.edc.connector.contract.spi.types.offer.ContractDefinition;
+import org.eclipse.edc.spi.agent.ParticipantAgent;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.event.EventSubscriber;
+import org.eclipse.edc.util.collection.LruCache;
+
+import java.time.Clock;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Bounded cache of access policy evaluation results, keyed by the participant claims and attributes and by the
+ * contract definition. The claims that change with every token issued to the same participant, see
+ * {@link #VOLATILE_CLAIMS}, are left out of the key, otherwise a new token would never hit the cache. Entries expire
+ * after the configured time-to-live, and the whole cache is invalidated on every received event: it is meant to be
+ * registered for contract definition and policy definition events, so that changes to either are picked up immediately.
+ * An evaluation that runs while the cache is invalidated does not store its result, which may be outdated.
+ * A time-to-live of zero disables the cache.
+ */
+public class AccessPolicyEvaluationCache implements EventSubscriber {
+
+    /**
+     * Token claims that identify the token rather than the participant: issued at, expiration, not before and token id.
+     */
+    public static final Set<String> VOLATILE_CLAIMS = Set.of("iat", "exp", "nbf", "jti");
+
+    private final Clock clock;
+    private final long ttlMillis;
+    private final LruCache<Key, Entry> entries;
+    private long generation;
+
+    public AccessPolicyEvaluationCache(Clock clock, long ttlMillis, int capacity) {
+        this.clock = clock;
+        this.ttlMillis = ttlMillis;
+        this.entries = new LruCache<>(Math.max(capacity, 1));
+    }
+
+    /**
+     * Cache that never stores results.
+     */
+    public static AccessPolicyEvaluationCache disabled() {
+        return new AccessPolicyEvaluationCache(Clock.systemUTC(), 0, 1);
+    }
+
+    /**
+     * Returns the cached result of the access policy evaluation of the definition for the agent, or runs the evaluation
+     * and caches its result.
+     *
+     * @param agent      the participant agent.
+     * @param definition the contract definition.
+     * @param evaluation the access policy evaluation.
+     * @return true if access is granted.
+     */
+    public boolean evaluate(ParticipantAgent agent, ContractDefinition definition, BooleanSupplier evaluation) {
+        if (ttlMillis <= 0) {
+            return evaluation.getAsBoolean();
+        }
+
+        var key = new Key(stableClaims(agent.getClaims()), agent.getAttributes(), definition.getId(), definition.getAccessPolicyId());
+        var now = clock.millis();
+        long evaluatedGeneration;
+        synchronized (entries) {
+            var entry = entries.get(key);
+            if (entry != null && entry.expiresAt() > now) {
+                return entry.granted();
+            }
+            evaluatedGeneration = generation;
+        }
+
+        var granted = evaluation.getAsBoolean();
+        synchronized (entries) {
+            if (generation == evaluatedGeneration) {
+                entries.put(key, new Entry(granted, now + ttlMillis));
+            }
+        }
+        return granted;
+    }
+
+    /**
+     * Removes all the cached results.
+     */
+    public void invalidate() {
+        synchronized (entries) {
+            generation++;
+            entries.clear();
+        }
+    }
+
+    @Override
+    public <E extends Event> void on(EventEnvelope<E> event) {
+        invalidate();
+    }
+
+    private Map<String, Object> stableClaims(Map<String, Object> claims) {
+        if (claims.keySet().stream().noneMatch(VOLATILE_CLAIMS::contains)) {
+            return claims;
+        }
+        var stable = new HashMap<>(claims);
+        stable.keySet().removeAll(VOLATILE_CLAIMS);
+        return stable;
+    }
+
+    private record Key(Map<String, Object> claims, Map<String, String> attributes, String definitionId, String accessPolicyId) {
+    }
+
+    private record Entry(boolean granted, long expiresAt) {
+    }
+}
@@ -45,12 +45,19 @@ public class ContractDefinitionResolverImpl implements ContractDefinitionResolve
     private final PolicyDefinitionStore policyStore;
     private final Monitor monitor;
     private final ContractDefinitionStore definitionStore;
+    private final AccessPolicyEvaluationCache evaluationCache;
 
     public ContractDefinitionResolverImpl(Monitor monitor, ContractDefinitionStore contractDefinitionStore, PolicyEngine policyEngine, PolicyDefinitionStore policyStore) {
+        this(monitor, contractDefinitionStore, policyEngine, policyStore, AccessPolicyEvaluationCache.disabled());
+    }
+
+    public ContractDefinitionResolverImpl(Monitor monitor, ContractDefinitionStore contractDefinitionStore, PolicyEngine policyEngine,
+                                          PolicyDefinitionStore policyStore, AccessPolicyEvaluationCache evaluationCache) {
         this.monitor = monitor;
         definitionStore = contractDefinitionStore;
         this.policyEngine = policyEngine;
         this.policyStore = policyStore;
+        this.evaluationCache = evaluationCache;
     }
 
     @NotNull
@@ -70,9 +77,14 @@ public class ContractDefinitionResolverImpl implements ContractDefinitionResolve
     }
 
     /**
-     * Determines the applicability of a definition to an agent by evaluating its access policy.
+     * Determines the applicability of a definition to an agent by evaluating its access policy, unless a result for the
+     * same agent claims is cached.
      */
     private boolean evaluateAccessPolicy(ContractDefinition definition, ParticipantAgent agent) {
+        return evaluationCache.evaluate(agent, definition, () -> doEvaluateAccessPolicy(definition, agent));
+    }
+
+    private boolean doEvaluateAccessPolicy(ContractDefinition definition, ParticipantAgent agent) {
         var policyContext = PolicyContextImpl.Builder.newInstance().additional(ParticipantAgent.class, agent).build();
         var accessResult = Optional.of(definition.getAccessPolicyId())
                 .map(policyStore::findById)
@@ -81,7 +93,7 @@ public class ContractDefinitionResolverImpl implements ContractDefinitionResolve
                 .orElse(Result.failure(format("Policy %s not found", definition.getAccessPolicyId())));
 
         if (accessResult.failed()) {
-            monitor.debug(format("Access not granted for %s: \n%s", definition.getId(), String.join("\n", accessResult.getFailureMessages())));
+            monitor.debug(() -> format("Access not granted for %s: \n%s", definition.getId(), String.join("\n", accessResult.getFailureMessages())));
             return false;
         }
 
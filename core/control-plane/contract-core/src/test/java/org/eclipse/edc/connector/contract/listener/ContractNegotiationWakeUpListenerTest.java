@@ -0,0 +1,57 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.contract.listener;
+
+import org.eclipse.edc.connector.contract.spi.types.negotiation.ContractNegotiation;
+import org.eclipse.edc.connector.core.entity.AbstractStateEntityManager;
+import org.junit.jupiter.api.Test;
+
+import static org.eclipse.edc.connector.contract.spi.types.negotiation.ContractNegotiationStates.AGREED;
+import static org.eclipse.edc.connector.contract.spi.types.negotiation.ContractNegotiationStates.REQUESTED;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+class ContractNegotiationWakeUpListenerTest {
+
+    private final AbstractStateEntityManager<?, ?> manager = mock();
+    private final ContractNegotiationWakeUpListener listener = new ContractNegotiationWakeUpListener(manager);
+
+    @Test
+    void requested_shouldWakeUpLoopsOfNegotiationState() {
+        listener.requested(negotiation(REQUESTED.code()));
+
+        verify(manager).wakeUp("REQUESTED");
+        verifyNoMoreInteractions(manager);
+    }
+
+    @Test
+    void agreed_shouldWakeUpLoopsOfNegotiationState() {
+        listener.agreed(negotiation(AGREED.code()));
+
+        verify(manager).wakeUp("AGREED");
+        verifyNoMoreInteractions(manager);
+    }
+
+    private ContractNegotiation negotiation(int state) {
+        return ContractNegotiation.Builder.newInstance()
+                .id("id")
+                .protocol("test-protocol")
+                .counterPartyId("counter-party")
+                .counterPartyAddress("https://counter-party")
+                .state(state)
+                .build();
+    }
+}
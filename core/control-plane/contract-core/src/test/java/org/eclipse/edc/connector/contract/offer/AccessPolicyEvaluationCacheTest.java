@@ -0,0 +1,134 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.contract.offer;
+
+import org.eclipse.edc.connector.contract.spi.types.offer.ContractDefinition;
+import org.eclipse.edc.spi.agent.ParticipantAgent;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AccessPolicyEvaluationCacheTest {
+
+    private final Instant now = Instant.now();
+    private final Clock clock = mock();
+    private final AtomicInteger evaluations = new AtomicInteger();
+
+    @Test
+    void shouldEvaluateOnce_whenClaimsDoNotChange() {
+        when(clock.millis()).thenReturn(now.toEpochMilli());
+        var cache = new AccessPolicyEvaluationCache(clock, 1000, 10);
+
+        assertThat(cache.evaluate(agent("participant"), definition("1"), this::grant)).isTrue();
+        assertThat(cache.evaluate(agent("participant"), definition("1"), this::grant)).isTrue();
+
+        assertThat(evaluations).hasValue(1);
+    }
+
+    @Test
+    void shouldEvaluateOnce_whenOnlyVolatileClaimsChange() {
+        when(clock.millis()).thenReturn(now.toEpochMilli());
+        var cache = new AccessPolicyEvaluationCache(clock, 1000, 10);
+        var firstToken = new ParticipantAgent(Map.of("client_id", "participant", "iat", 1, "exp", 2, "jti", "a"), Map.of());
+        var secondToken = new ParticipantAgent(Map.of("client_id", "participant", "iat", 3, "exp", 4, "jti", "b"), Map.of());
+
+        cache.evaluate(firstToken, definition("1"), this::grant);
+        cache.evaluate(secondToken, definition("1"), this::grant);
+
+        assertThat(evaluations).hasValue(1);
+    }
+
+    @Test
+    void shouldNotCacheResult_whenInvalidatedDuringEvaluation() {
+        when(clock.millis()).thenReturn(now.toEpochMilli());
+        var cache = new AccessPolicyEvaluationCache(clock, 1000, 10);
+
+        cache.evaluate(agent("participant"), definition("1"), () -> {
+            cache.invalidate();
+            return grant();
+        });
+        cache.evaluate(agent("participant"), definition("1"), this::grant);
+
+        assertThat(evaluations).hasValue(2);
+    }
+
+    @Test
+    void shouldEvaluate_whenClaimsOrDefinitionDiffer() {
+        when(clock.millis()).thenReturn(now.toEpochMilli());
+        var cache = new AccessPolicyEvaluationCache(clock, 1000, 10);
+
+        cache.evaluate(agent("participant"), definition("1"), this::grant);
+        cache.evaluate(agent("another-participant"), definition("1"), this::grant);
+        cache.evaluate(agent("participant"), definition("2"), this::grant);
+
+        assertThat(evaluations).hasValue(3);
+    }
+
+    @Test
+    void shouldEvaluateAgain_whenEntryExpired() {
+        when(clock.millis()).thenReturn(now.toEpochMilli(), now.plus(Duration.ofSeconds(2)).toEpochMilli());
+        var cache = new AccessPolicyEvaluationCache(clock, 1000, 10);
+
+        cache.evaluate(agent("participant"), definition("1"), this::grant);
+        cache.evaluate(agent("participant"), definition("1"), this::grant);
+
+        assertThat(evaluations).hasValue(2);
+    }
+
+    @Test
+    void shouldEvaluateAgain_whenInvalidatedByEvent() {
+        when(clock.millis()).thenReturn(now.toEpochMilli());
+        var cache = new AccessPolicyEvaluationCache(clock, 1000, 10);
+
+        cache.evaluate(agent("participant"), definition("1"), this::grant);
+        cache.on(mock(EventEnvelope.class));
+        cache.evaluate(agent("participant"), definition("1"), this::grant);
+
+        assertThat(evaluations).hasValue(2);
+    }
+
+    @Test
+    void shouldAlwaysEvaluate_whenDisabled() {
+        var cache = new AccessPolicyEvaluationCache(Clock.fixed(now, ZoneOffset.UTC), 0, 10);
+
+        cache.evaluate(agent("participant"), definition("1"), this::grant);
+        cache.evaluate(agent("participant"), definition("1"), this::grant);
+
+        assertThat(evaluations).hasValue(2);
+    }
+
+    private boolean grant() {
+        evaluations.incrementAndGet();
+        return true;
+    }
+
+    private ParticipantAgent agent(String identity) {
+        return new ParticipantAgent(Map.of("client_id", identity), Map.of());
+    }
+
+    private ContractDefinition definition(String id) {
+        return ContractDefinition.Builder.newInstance().id(id).accessPolicyId("access").contractPolicyId("contract").build();
+    }
+}
@@ -188,7 +188,7 @@ public class ContractNegotiationProtocolServiceImpl implements ContractNegotiati
                 validationService.validateInitialOffer(claimToken, message.getContractOffer()) :
                 validationService.validateInitialOffer(claimToken, message.getContractOfferId());
         if (result.failed()) {
-            monitor.debug("[Provider] Contract offer rejected as invalid: " + result.getFailureDetail());
+            monitor.debug(() -> "[Provider] Contract offer rejected as invalid: " + result.getFailureDetail());
             return ServiceResult.badRequest("Contract offer is not valid: " + result.getFailureDetail());
         } else {
             return ServiceResult.success(result.getContent());
@@ -201,7 +201,7 @@ public class ContractNegotiationProtocolServiceImpl implements ContractNegotiati
         var result = validationService.validateConfirmed(claimToken, agreement, negotiation.getLastContractOffer());
         if (result.failed()) {
             var msg = "Contract agreement received. Validation failed: " + result.getFailureDetail();
-            monitor.debug("[Consumer] " + msg);
+            monitor.debug(() -> "[Consumer] " + msg);
             return ServiceResult.badRequest(msg);
         } else {
             return ServiceResult.success(negotiation);
@@ -229,7 +229,7 @@ public class TransferProcessProtocolServiceImpl implements TransferProcessProtoc
 
     private void update(TransferProcess transferProcess) {
         transferProcessStore.save(transferProcess);
-        monitor.debug(format("TransferProcess %s is now in state %s", transferProcess.getId(), TransferProcessStates.from(transferProcess.getState())));
+        monitor.debug(() -> format("TransferProcess %s is now in state %s", transferProcess.getId(), TransferProcessStates.from(transferProcess.getState())));
     }
 
 }
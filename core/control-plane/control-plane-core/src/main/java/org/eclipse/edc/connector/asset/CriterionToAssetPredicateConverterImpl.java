@@ -18,14 +18,17 @@ import org.eclipse.edc.connector.core.store.CriterionToPredicateConverterImpl;
 import org.eclipse.edc.spi.query.CriterionToAssetPredicateConverter;
 import org.eclipse.edc.spi.query.CriterionToPredicateConverter;
 import org.eclipse.edc.spi.types.domain.asset.Asset;
+import org.eclipse.edc.util.reflection.PropertyPath;
 
 /**
  * Extension class that supports converting criterion to predicate looking at the Asset properties.
  */
 public class CriterionToAssetPredicateConverterImpl extends CriterionToPredicateConverterImpl implements CriterionToAssetPredicateConverter, CriterionToPredicateConverter {
 
-    public Object property(String key, Object object) {
+    @Override
+    public Object property(PropertyPath path, Object object) {
         if (object instanceof Asset asset) {
+            var key = path.toString();
             if (asset.getProperties().containsKey(key)) {
                 return asset.getProperty(key);
             }
@@ -33,7 +36,7 @@ public class CriterionToAssetPredicateConverterImpl extends CriterionToPredicate
                 return asset.getPrivateProperty(key);
             }
 
-            return super.property(key, object);
+            return super.property(path, object);
         }
         throw new IllegalArgumentException("Can only handle objects of type " + Asset.class.getSimpleName() + " but received an " + object.getClass().getSimpleName());
     }
@@ -21,6 +21,7 @@ import org.eclipse.edc.connector.transfer.command.handlers.DeprovisionCompleteCo
 import org.eclipse.edc.connector.transfer.edr.DataAddressToEndpointDataReferenceTransformer;
 import org.eclipse.edc.connector.transfer.edr.EndpointDataReferenceReceiverRegistryImpl;
 import org.eclipse.edc.connector.transfer.listener.TransferProcessEventListener;
+import org.eclipse.edc.connector.transfer.listener.TransferProcessWakeUpListener;
 import org.eclipse.edc.connector.transfer.process.TransferProcessManagerImpl;
 import org.eclipse.edc.connector.transfer.provision.DeprovisionResponsesHandler;
 import org.eclipse.edc.connector.transfer.provision.ProvisionResponsesHandler;
@@ -33,6 +34,7 @@ import org.eclipse.edc.connector.transfer.spi.observe.TransferProcessObservable;
 import org.eclipse.edc.connector.transfer.spi.provision.ProvisionManager;
 import org.eclipse.edc.connector.transfer.spi.provision.ResourceManifestGenerator;
 import org.eclipse.edc.connector.transfer.spi.retry.TransferWaitStrategy;
+import org.eclipse.edc.connector.transfer.spi.retry.TransferWaitStrategyFactory;
 import org.eclipse.edc.connector.transfer.spi.store.TransferProcessStore;
 import org.eclipse.edc.connector.transfer.spi.types.DataRequest;
 import org.eclipse.edc.connector.transfer.spi.types.DeprovisionedResource;
@@ -48,10 +50,12 @@ import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
 import org.eclipse.edc.spi.protocol.ProtocolWebhook;
 import org.eclipse.edc.spi.retry.ExponentialWaitStrategy;
+import org.eclipse.edc.spi.retry.WaitStrategy;
 import org.eclipse.edc.spi.security.Vault;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.system.StateMachineObserver;
 import org.eclipse.edc.spi.telemetry.Telemetry;
 import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.statemachine.retry.EntityRetryProcessConfiguration;
@@ -59,11 +63,14 @@ import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.jetbrains.annotations.NotNull;
 
 import java.time.Clock;
+import java.util.function.Supplier;
 
 import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_BATCH_SIZE;
 import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_ITERATION_WAIT;
 import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_SEND_RETRY_BASE_DELAY;
 import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_SEND_RETRY_LIMIT;
+import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_WORKERS;
+import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_WORKERS_PER_STATE;
 
 /**
  * Provides core data transfer services to the system.
@@ -81,6 +88,12 @@ public class TransferCoreExtension implements ServiceExtension {
     @Setting(value = "the batch size in the transfer process state machine. Default value " + DEFAULT_BATCH_SIZE, type = "int")
     private static final String TRANSFER_STATE_MACHINE_BATCH_SIZE = "edc.transfer.state-machine.batch-size";
 
+    @Setting(value = "the number of threads on which the transfer process state machine processes states concurrently. Default value " + DEFAULT_WORKERS, type = "int")
+    private static final String TRANSFER_STATE_MACHINE_WORKERS = "edc.transfer.state-machine.workers";
+
+    @Setting(value = "the number of concurrent workers that process every transfer process state, effective only with more than one worker. Default value " + DEFAULT_WORKERS_PER_STATE, type = "int")
+    private static final String TRANSFER_STATE_MACHINE_WORKERS_PER_STATE = "edc.transfer.state-machine.workers-per-state";
+
     @Setting(value = "how many times a specific operation must be tried before terminating the transfer with error", type = "int", defaultValue = DEFAULT_SEND_RETRY_LIMIT + "")
     private static final String TRANSFER_SEND_RETRY_LIMIT = "edc.transfer.send.retry.limit";
 
@@ -141,6 +154,9 @@ public class TransferCoreExtension implements ServiceExtension {
     @Inject
     private ExecutorInstrumentation executorInstrumentation;
 
+    @Inject
+    private StateMachineObserver stateMachineObserver;
+
     private TransferProcessManagerImpl processManager;
 
     @Override
@@ -155,7 +171,16 @@ public class TransferCoreExtension implements ServiceExtension {
         registerTypes(typeManager);
 
         var iterationWaitMillis = context.getSetting(TRANSFER_STATE_MACHINE_ITERATION_WAIT_MILLIS, DEFAULT_ITERATION_WAIT);
-        var waitStrategy = context.hasService(TransferWaitStrategy.class) ? context.getService(TransferWaitStrategy.class) : new ExponentialWaitStrategy(iterationWaitMillis);
+        Supplier<WaitStrategy> waitStrategy;
+        if (context.hasService(TransferWaitStrategyFactory.class)) {
+            waitStrategy = context.getService(TransferWaitStrategyFactory.class)::create;
+        } else if (context.hasService(TransferWaitStrategy.class)) {
+            // shared by all the loops, see the stateless requirement of the extension point
+            var sharedWaitStrategy = context.getService(TransferWaitStrategy.class);
+            waitStrategy = () -> sharedWaitStrategy;
+        } else {
+            waitStrategy = () -> new ExponentialWaitStrategy(iterationWaitMillis);
+        }
 
         typeTransformerRegistry.register(new DataAddressToEndpointDataReferenceTransformer());
 
@@ -171,7 +196,7 @@ public class TransferCoreExtension implements ServiceExtension {
         var deprovisionResponsesHandler = new DeprovisionResponsesHandler(observable, monitor, vault);
 
         processManager = TransferProcessManagerImpl.Builder.newInstance()
-                .waitStrategy(waitStrategy)
+                .waitStrategyFactory(waitStrategy)
                 .manifestGenerator(resourceManifestGenerator)
                 .dataFlowManager(dataFlowManager)
                 .provisionManager(provisionManager)
@@ -179,12 +204,15 @@ public class TransferCoreExtension implements ServiceExtension {
                 .monitor(monitor)
                 .telemetry(telemetry)
                 .executorInstrumentation(executorInstrumentation)
+                .observer(stateMachineObserver)
                 .vault(vault)
                 .clock(clock)
                 .observable(observable)
                 .store(transferProcessStore)
                 .policyArchive(policyArchive)
                 .batchSize(context.getSetting(TRANSFER_STATE_MACHINE_BATCH_SIZE, DEFAULT_BATCH_SIZE))
+                .workers(context.getSetting(TRANSFER_STATE_MACHINE_WORKERS, DEFAULT_WORKERS))
+                .workersPerState(context.getSetting(TRANSFER_STATE_MACHINE_WORKERS_PER_STATE, DEFAULT_WORKERS_PER_STATE))
                 .addressResolver(addressResolver)
                 .entityRetryProcessConfiguration(entityRetryProcessConfiguration)
                 .protocolWebhook(protocolWebhook)
@@ -193,6 +221,8 @@ public class TransferCoreExtension implements ServiceExtension {
                 .pendingGuard(pendingGuard)
                 .build();
 
+        observable.registerListener(new TransferProcessWakeUpListener(processManager));
+
         context.registerService(TransferProcessManager.class, processManager);
 
         registry.register(new AddProvisionedResourceCommandHandler(transferProcessStore, provisionResponsesHandler));
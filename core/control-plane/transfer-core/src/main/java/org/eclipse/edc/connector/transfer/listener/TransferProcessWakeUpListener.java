@@ -0,0 +1,83 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.transfer.listener;
+
+import org.eclipse.edc.connector.core.entity.AbstractStateEntityManager;
+import org.eclipse.edc.connector.transfer.spi.observe.TransferProcessListener;
+import org.eclipse.edc.connector.transfer.spi.observe.TransferProcessStartedData;
+import org.eclipse.edc.connector.transfer.spi.types.TransferProcess;
+
+/**
+ * Wakes up the loops of the transfer process manager that handle the state a transfer process has been moved to, so
+ * that changes applied outside the state machine loop (e.g. by incoming protocol messages) get processed immediately.
+ * The state is taken from the notified transfer process, the store is not read.
+ */
+public class TransferProcessWakeUpListener implements TransferProcessListener {
+
+    private final AbstractStateEntityManager<?, ?> manager;
+
+    public TransferProcessWakeUpListener(AbstractStateEntityManager<?, ?> manager) {
+        this.manager = manager;
+    }
+
+    @Override
+    public void initiated(TransferProcess process) {
+        wakeUp(process);
+    }
+
+    @Override
+    public void provisioningRequested(TransferProcess process) {
+        wakeUp(process);
+    }
+
+    @Override
+    public void provisioned(TransferProcess process) {
+        wakeUp(process);
+    }
+
+    @Override
+    public void requested(TransferProcess process) {
+        wakeUp(process);
+    }
+
+    @Override
+    public void started(TransferProcess process, TransferProcessStartedData additionalData) {
+        wakeUp(process);
+    }
+
+    @Override
+    public void completed(TransferProcess process) {
+        wakeUp(process);
+    }
+
+    @Override
+    public void terminated(TransferProcess process) {
+        wakeUp(process);
+    }
+
+    @Override
+    public void deprovisioningRequested(TransferProcess process) {
+        wakeUp(process);
+    }
+
+    @Override
+    public void deprovisioned(TransferProcess process) {
+        wakeUp(process);
+    }
+
+    private void wakeUp(TransferProcess process) {
+        manager.wakeUp(process.stateAsString());
+    }
+}
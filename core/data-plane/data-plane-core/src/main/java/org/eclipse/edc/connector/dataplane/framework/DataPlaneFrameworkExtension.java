@@ -34,6 +34,7 @@ import org.eclipse.edc.spi.retry.ExponentialWaitStrategy;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.system.StateMachineObserver;
 import org.eclipse.edc.spi.telemetry.Telemetry;
 import org.eclipse.edc.statemachine.retry.EntityRetryProcessConfiguration;
 import org.jetbrains.annotations.NotNull;
@@ -83,6 +84,9 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
     @Inject
     private ExecutorInstrumentation executorInstrumentation;
 
+    @Inject
+    private StateMachineObserver stateMachineObserver;
+
     @Inject
     private Telemetry telemetry;
 
@@ -113,14 +117,14 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
         context.registerService(DataTransferExecutorServiceContainer.class, executorContainer);
 
         var iterationWaitMillis = context.getSetting(DATAPLANE_MACHINE_ITERATION_WAIT_MILLIS, DEFAULT_ITERATION_WAIT);
-        var waitStrategy = new ExponentialWaitStrategy(iterationWaitMillis);
 
         dataPlaneManager = DataPlaneManagerImpl.Builder.newInstance()
-                .waitStrategy(waitStrategy)
+                .waitStrategyFactory(() -> new ExponentialWaitStrategy(iterationWaitMillis))
                 .batchSize(context.getSetting(DATAPLANE_MACHINE_BATCH_SIZE, DEFAULT_BATCH_SIZE))
                 .clock(clock)
                 .entityRetryProcessConfiguration(getEntityRetryProcessConfiguration(context))
                 .executorInstrumentation(executorInstrumentation)
+                .observer(stateMachineObserver)
                 .pipelineService(pipelineService)
                 .transferServiceRegistry(transferServiceRegistry)
                 .store(store)
@@ -160,6 +160,7 @@ public class DataPlaneManagerImpl extends AbstractStateEntityManager<DataFlow, D
         return ProcessorImpl.Builder.newInstance(() -> store.nextNotLeased(batchSize, filter))
                 .process(telemetry.contextPropagationMiddleware(function))
                 .onNotProcessed(this::breakLease)
+                .observer(observer, getClass().getSimpleName(), state.name())
                 .build();
     }
 
@@ -31,6 +31,7 @@ import org.eclipse.edc.spi.retry.ExponentialWaitStrategy;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.system.StateMachineObserver;
 import org.eclipse.edc.spi.telemetry.Telemetry;
 
 import java.time.Clock;
@@ -54,6 +55,9 @@ public class PolicyMonitorExtension implements ServiceExtension {
     @Inject
     private ExecutorInstrumentation executorInstrumentation;
 
+    @Inject
+    private StateMachineObserver stateMachineObserver;
+
     @Inject
     private Telemetry telemetry;
 
@@ -77,13 +81,13 @@ public class PolicyMonitorExtension implements ServiceExtension {
     @Override
     public void initialize(ServiceExtensionContext context) {
         var iterationWaitMillis = context.getSetting(POLICY_MONITOR_ITERATION_WAIT_MILLIS, DEFAULT_ITERATION_WAIT);
-        var waitStrategy = new ExponentialWaitStrategy(iterationWaitMillis);
 
         manager = PolicyMonitorManagerImpl.Builder.newInstance()
                 .clock(clock)
                 .batchSize(context.getSetting(POLICY_MONITOR_BATCH_SIZE, DEFAULT_BATCH_SIZE))
-                .waitStrategy(waitStrategy)
+                .waitStrategyFactory(() -> new ExponentialWaitStrategy(iterationWaitMillis))
                 .executorInstrumentation(executorInstrumentation)
+                .observer(stateMachineObserver)
                 .monitor(context.getMonitor())
                 .telemetry(telemetry)
                 .contractAgreementService(contractAgreementService)
@@ -101,6 +101,7 @@ public class PolicyMonitorManagerImpl extends AbstractStateEntityManager<PolicyM
         return ProcessorImpl.Builder.newInstance(() -> store.nextNotLeased(batchSize, filter))
                 .process(telemetry.contextPropagationMiddleware(function))
                 .onNotProcessed(this::breakLease)
+                .observer(observer, getClass().getSimpleName(), state.name())
                 .build();
     }
 
@@ -38,10 +38,12 @@ import org.eclipse.edc.jsonld.spi.JsonLd;
 import org.eclipse.edc.policy.model.AtomicConstraint;
 import org.eclipse.edc.policy.model.LiteralExpression;
 import org.eclipse.edc.protocol.dsp.api.configuration.message.DspRequestHandlerImpl;
+import org.eclipse.edc.protocol.dsp.api.configuration.message.VerifiedTokenCache;
 import org.eclipse.edc.protocol.dsp.spi.message.DspRequestHandler;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.iam.IdentityService;
 import org.eclipse.edc.spi.protocol.ProtocolWebhook;
 import org.eclipse.edc.spi.system.ServiceExtension;
@@ -56,6 +58,8 @@ import org.eclipse.edc.web.spi.WebService;
 import org.eclipse.edc.web.spi.configuration.WebServiceConfigurer;
 import org.eclipse.edc.web.spi.configuration.WebServiceSettings;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.Map;
 
 import static org.eclipse.edc.spi.CoreConstants.JSON_LD;
@@ -77,6 +81,15 @@ public class DspApiConfigurationExtension implements ServiceExtension {
     public static final String DEFAULT_DSP_CALLBACK_ADDRESS = "http://localhost:8282/api/v1/dsp";
     public static final String DSP_CALLBACK_ADDRESS = "edc.dsp.callback.address";
 
+    private static final int DEFAULT_TOKEN_CACHE_SIZE = 0;
+    private static final long DEFAULT_TOKEN_CACHE_TTL_SECONDS = 300;
+
+    @Setting(value = "Maximum number of verified counter-party tokens kept in memory, 0 disables the cache", type = "int", defaultValue = DEFAULT_TOKEN_CACHE_SIZE + "")
+    public static final String DSP_TOKEN_CACHE_SIZE = "edc.dsp.token.cache.size";
+
+    @Setting(value = "Maximum time in seconds a verified token is kept in the cache, regardless of its expiration", type = "long", defaultValue = DEFAULT_TOKEN_CACHE_TTL_SECONDS + "")
+    public static final String DSP_TOKEN_CACHE_TTL = "edc.dsp.token.cache.ttl";
+
     public static final int DEFAULT_PROTOCOL_PORT = 8282;
     public static final String DEFAULT_PROTOCOL_API_PATH = "/api/v1/dsp";
 
@@ -112,6 +125,9 @@ public class DspApiConfigurationExtension implements ServiceExtension {
     @Inject
     private JsonObjectValidatorRegistry validatorRegistry;
 
+    @Inject
+    private Clock clock;
+
     @Override
     public String name() {
         return NAME;
@@ -123,7 +139,8 @@ public class DspApiConfigurationExtension implements ServiceExtension {
         var dspWebhookAddress = context.getSetting(DSP_CALLBACK_ADDRESS, DEFAULT_DSP_CALLBACK_ADDRESS);
         context.registerService(DspApiConfiguration.class, new DspApiConfiguration(config.getContextAlias(), dspWebhookAddress));
         context.registerService(ProtocolWebhook.class, () -> dspWebhookAddress);
-        context.registerService(DspRequestHandler.class, new DspRequestHandlerImpl(context.getMonitor(), dspWebhookAddress, identityService, validatorRegistry, transformerRegistry));
+        context.registerService(DspRequestHandler.class, new DspRequestHandlerImpl(context.getMonitor(), dspWebhookAddress, identityService,
+                validatorRegistry, transformerRegistry, tokenCache(context)));
 
         var jsonLdMapper = typeManager.getMapper(JSON_LD);
         webService.registerResource(config.getContextAlias(), new ObjectMapperProvider(jsonLdMapper));
@@ -132,6 +149,15 @@ public class DspApiConfigurationExtension implements ServiceExtension {
         registerTransformers();
     }
 
+    private VerifiedTokenCache tokenCache(ServiceExtensionContext context) {
+        var size = context.getSetting(DSP_TOKEN_CACHE_SIZE, DEFAULT_TOKEN_CACHE_SIZE);
+        if (size <= 0) {
+            return null;
+        }
+        var ttl = Duration.ofSeconds(context.getSetting(DSP_TOKEN_CACHE_TTL, DEFAULT_TOKEN_CACHE_TTL_SECONDS));
+        return new VerifiedTokenCache(clock, size, ttl);
+    }
+
     private void registerTransformers() {
         var mapper = typeManager.getMapper(JSON_LD);
         mapper.registerSubtypes(AtomicConstraint.class, LiteralExpression.class);
@@ -20,6 +20,7 @@ import jakarta.ws.rs.core.Response;
 import org.eclipse.edc.protocol.dsp.spi.message.DspRequestHandler;
 import org.eclipse.edc.protocol.dsp.spi.message.GetDspRequest;
 import org.eclipse.edc.protocol.dsp.spi.message.PostDspRequest;
+import org.eclipse.edc.spi.iam.ClaimToken;
 import org.eclipse.edc.spi.iam.IdentityService;
 import org.eclipse.edc.spi.iam.TokenRepresentation;
 import org.eclipse.edc.spi.monitor.Monitor;
@@ -28,6 +29,7 @@ import org.eclipse.edc.spi.types.domain.message.ProcessRemoteMessage;
 import org.eclipse.edc.spi.types.domain.message.RemoteMessage;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.eclipse.edc.validator.spi.JsonObjectValidatorRegistry;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Objects;
 import java.util.UUID;
@@ -42,22 +44,34 @@ public class DspRequestHandlerImpl implements DspRequestHandler {
     private final IdentityService identityService;
     private final JsonObjectValidatorRegistry validatorRegistry;
     private final TypeTransformerRegistry transformerRegistry;
+    private final VerifiedTokenCache tokenCache;
 
     public DspRequestHandlerImpl(Monitor monitor, String callbackAddress, IdentityService identityService,
                                  JsonObjectValidatorRegistry validatorRegistry, TypeTransformerRegistry transformerRegistry) {
+        this(monitor, callbackAddress, identityService, validatorRegistry, transformerRegistry, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param tokenCache the cache of verified tokens, null to verify every token with the {@link IdentityService}
+     */
+    public DspRequestHandlerImpl(Monitor monitor, String callbackAddress, IdentityService identityService,
+                                 JsonObjectValidatorRegistry validatorRegistry, TypeTransformerRegistry transformerRegistry,
+                                 @Nullable VerifiedTokenCache tokenCache) {
         this.monitor = monitor;
         this.callbackAddress = callbackAddress;
         this.identityService = identityService;
         this.validatorRegistry = validatorRegistry;
         this.transformerRegistry = transformerRegistry;
+        this.tokenCache = tokenCache;
     }
 
     @Override
     public <R> Response getResource(GetDspRequest<R> request) {
         monitor.debug(() -> "DSP: Incoming resource request for %s id %s".formatted(request.getResultClass(), request.getId()));
 
-        var tokenRepresentation = TokenRepresentation.Builder.newInstance().token(request.getToken()).build();
-        var claimTokenResult = identityService.verifyJwtToken(tokenRepresentation, callbackAddress);
+        var claimTokenResult = verifyToken(request.getToken());
 
         if (claimTokenResult.failed()) {
             monitor.debug(() -> "DSP: Unauthorized: %s".formatted(claimTokenResult.getFailureDetail()));
@@ -89,8 +103,7 @@ public class DspRequestHandlerImpl implements DspRequestHandler {
                 request.getResultClass(),
                 request.getProcessId() != null ? ": " + request.getProcessId() : ""));
 
-        var tokenRepresentation = TokenRepresentation.Builder.newInstance().token(request.getToken()).build();
-        var claimTokenResult = identityService.verifyJwtToken(tokenRepresentation, callbackAddress);
+        var claimTokenResult = verifyToken(request.getToken());
 
         if (claimTokenResult.failed()) {
             monitor.debug(() -> "DSP: Unauthorized: %s".formatted(claimTokenResult.getFailureDetail()));
@@ -141,8 +154,7 @@ public class DspRequestHandlerImpl implements DspRequestHandler {
                 request.getResultClass(),
                 request.getProcessId() != null ? ": " + request.getProcessId() : ""));
 
-        var tokenRepresentation = TokenRepresentation.Builder.newInstance().token(request.getToken()).build();
-        var claimTokenResult = identityService.verifyJwtToken(tokenRepresentation, callbackAddress);
+        var claimTokenResult = verifyToken(request.getToken());
 
         if (claimTokenResult.failed()) {
             monitor.debug(() -> "DSP: Unauthorized: %s".formatted(claimTokenResult.getFailureDetail()));
@@ -183,4 +195,19 @@ public class DspRequestHandlerImpl implements DspRequestHandler {
                 });
     }
 
+    private Result<ClaimToken> verifyToken(String token) {
+        if (tokenCache != null && token != null) {
+            var cached = tokenCache.get(token);
+            if (cached != null) {
+                return Result.success(cached);
+            }
+        }
+
+        var tokenRepresentation = TokenRepresentation.Builder.newInstance().token(token).build();
+        var result = identityService.verifyJwtToken(tokenRepresentation, callbackAddress);
+        if (tokenCache != null && token != null && result.succeeded()) {
+            tokenCache.put(token, result.getContent());
+        }
+        return result;
+    }
 }
@@ -0,0 +1,110 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.protocol.dsp.api.configuration.message;
+
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.iam.ClaimToken;
+import org.eclipse.edc.util.collection.LruCache;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Map;
+
+/**
+ * Remembers the claims of successfully verified tokens, so that a counter-party reusing its token for several protocol
+ * messages is not verified again on every request. Tokens are keyed by their SHA-256 hash and kept until their
+ * {@code exp} claim, but no longer than the configured maximum time to live. Tokens without expiration are not cached.
+ */
+public class VerifiedTokenCache {
+
+    private static final String EXPIRATION_CLAIM = "exp";
+
+    private final Clock clock;
+    private final Duration maxTimeToLive;
+    private final Map<String, Entry> entries;
+
+    public VerifiedTokenCache(Clock clock, int capacity, Duration maxTimeToLive) {
+        this.clock = clock;
+        this.maxTimeToLive = maxTimeToLive;
+        this.entries = new LruCache<>(capacity);
+    }
+
+    /**
+     * Returns the claims of a previously verified token, or null if the token is not cached or has expired.
+     */
+    public @Nullable ClaimToken get(String token) {
+        var key = hash(token);
+        synchronized (entries) {
+            var entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (!clock.instant().isBefore(entry.expiresAt())) {
+                entries.remove(key);
+                return null;
+            }
+            return entry.claimToken();
+        }
+    }
+
+    /**
+     * Caches the claims of a successfully verified token.
+     */
+    public void put(String token, ClaimToken claimToken) {
+        var expiration = expiration(claimToken.getClaim(EXPIRATION_CLAIM));
+        if (expiration == null) {
+            return;
+        }
+        var now = clock.instant();
+        var expiresAt = expiration.isBefore(now.plus(maxTimeToLive)) ? expiration : now.plus(maxTimeToLive);
+        if (!now.isBefore(expiresAt)) {
+            return;
+        }
+        var key = hash(token);
+        synchronized (entries) {
+            entries.put(key, new Entry(claimToken, expiresAt));
+        }
+    }
+
+    private @Nullable Instant expiration(Object claim) {
+        if (claim instanceof Date date) {
+            return date.toInstant();
+        } else if (claim instanceof Instant instant) {
+            return instant;
+        } else if (claim instanceof Number seconds) {
+            return Instant.ofEpochSecond(seconds.longValue());
+        }
+        return null;
+    }
+
+    private String hash(String token) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new EdcException(e);
+        }
+    }
+
+    private record Entry(ClaimToken claimToken, Instant expiresAt) {
+    }
+}
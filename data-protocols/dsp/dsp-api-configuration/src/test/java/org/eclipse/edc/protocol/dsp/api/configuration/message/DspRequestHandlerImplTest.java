@@ -30,6 +30,10 @@ import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
 import java.util.function.BiFunction;
 
 import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON_TYPE;
@@ -45,6 +49,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -124,6 +129,23 @@ class DspRequestHandlerImplTest {
             assertThat(result.getStatus()).isEqualTo(500);
         }
 
+        @Test
+        void shouldVerifyTokenOnce_whenTokenCacheIsConfigured() {
+            var tokenCache = new VerifiedTokenCache(Clock.systemUTC(), 10, Duration.ofMinutes(5));
+            var cachingHandler = new DspRequestHandlerImpl(mock(), callbackAddress, identityService, validatorRegistry,
+                    transformerRegistry, tokenCache);
+            var claimToken = ClaimToken.Builder.newInstance().claim("exp", Date.from(Instant.now().plusSeconds(60))).build();
+            when(identityService.verifyJwtToken(any(), any())).thenReturn(Result.success(claimToken));
+            when(transformerRegistry.transform(any(), any())).thenReturn(Result.success(Json.createObjectBuilder().build()));
+            var request = getDspRequestBuilder().build();
+
+            cachingHandler.getResource(request);
+            var result = cachingHandler.getResource(request);
+
+            assertThat(result.getStatus()).isEqualTo(200);
+            verify(identityService, times(1)).verifyJwtToken(any(), any());
+        }
+
         private GetDspRequest.Builder<Object> getDspRequestBuilder() {
             return GetDspRequest.Builder.newInstance(Object.class)
                     .token("token")
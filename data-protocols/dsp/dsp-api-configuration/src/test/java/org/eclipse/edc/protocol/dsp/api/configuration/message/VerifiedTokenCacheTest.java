@@ -0,0 +1,72 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.protocol.dsp.api.configuration.message;
+
+import org.eclipse.edc.spi.iam.ClaimToken;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class VerifiedTokenCacheTest {
+
+    private final Instant now = Instant.parse("2023-10-01T10:00:00Z");
+    private final Clock clock = mock();
+    private final VerifiedTokenCache cache = new VerifiedTokenCache(clock, 10, Duration.ofMinutes(5));
+
+    @Test
+    void get_shouldReturnCachedClaims_untilTokenExpires() {
+        when(clock.instant()).thenReturn(now);
+        var claimToken = claimToken(Date.from(now.plusSeconds(60)));
+
+        cache.put("token", claimToken);
+
+        assertThat(cache.get("token")).isSameAs(claimToken);
+        assertThat(cache.get("other-token")).isNull();
+        when(clock.instant()).thenReturn(now.plusSeconds(60));
+        assertThat(cache.get("token")).isNull();
+    }
+
+    @Test
+    void get_shouldReturnNull_whenMaxTimeToLiveIsExceeded() {
+        when(clock.instant()).thenReturn(now);
+        cache.put("token", claimToken(now.plus(Duration.ofHours(1)).getEpochSecond()));
+
+        when(clock.instant()).thenReturn(now.plus(Duration.ofMinutes(5)));
+
+        assertThat(cache.get("token")).isNull();
+    }
+
+    @Test
+    void put_shouldNotCache_whenTokenHasNoExpiration() {
+        var fixed = Clock.fixed(now, ZoneOffset.UTC);
+        var cache = new VerifiedTokenCache(fixed, 10, Duration.ofMinutes(5));
+
+        cache.put("token", ClaimToken.Builder.newInstance().claim("sub", "subject").build());
+
+        assertThat(cache.get("token")).isNull();
+    }
+
+    private ClaimToken claimToken(Object expiration) {
+        return ClaimToken.Builder.newInstance().claim("exp", expiration).build();
+    }
+}
@@ -19,6 +19,7 @@ import com.nimbusds.jose.jwk.RSAKey;
 import org.eclipse.edc.iam.did.parser.EcPrivateKeyParserFunction;
 import org.eclipse.edc.iam.did.parser.PrivateKeyWrapperParserFunction;
 import org.eclipse.edc.iam.did.parser.RsaPrivateKeyParserFunction;
+import org.eclipse.edc.iam.did.resolution.DidDocumentCache;
 import org.eclipse.edc.iam.did.resolution.DidPublicKeyResolverImpl;
 import org.eclipse.edc.iam.did.resolution.DidResolverRegistryImpl;
 import org.eclipse.edc.iam.did.spi.key.PrivateKeyWrapper;
@@ -27,19 +28,41 @@ import org.eclipse.edc.iam.did.spi.resolution.DidResolverRegistry;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.security.PrivateKeyResolver;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 
+import java.time.Clock;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 
 @Provides({ DidResolverRegistry.class, DidPublicKeyResolver.class })
 @Extension(value = IdentityDidCoreExtension.NAME)
 public class IdentityDidCoreExtension implements ServiceExtension {
 
     public static final String NAME = "Identity Did Core";
+
+    @Setting(value = "Time-to-live in milliseconds of resolved DID documents. 0 disables caching", type = "long", defaultValue = "0")
+    private static final String DID_CACHE_TTL = "edc.iam.did.cache.ttl-millis";
+    @Setting(value = "Time-to-live in milliseconds of failed DID resolutions", type = "long", defaultValue = "5000")
+    private static final String DID_CACHE_FAILURE_TTL = "edc.iam.did.cache.failure-ttl-millis";
+    @Setting(value = "Maximum number of cached DID resolutions", type = "int", defaultValue = "1000")
+    private static final String DID_CACHE_SIZE = "edc.iam.did.cache.size";
+
     @Inject
     private PrivateKeyResolver privateKeyResolver;
 
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    @Inject
+    private Clock clock;
+
+    private ExecutorService refreshExecutor;
+
     @Override
     public String name() {
         return NAME;
@@ -47,7 +70,7 @@ public class IdentityDidCoreExtension implements ServiceExtension {
 
     @Override
     public void initialize(ServiceExtensionContext context) {
-        var didResolverRegistry = new DidResolverRegistryImpl();
+        var didResolverRegistry = new DidResolverRegistryImpl(createCache(context));
         context.registerService(DidResolverRegistry.class, didResolverRegistry);
 
         var publicKeyResolver = new DidPublicKeyResolverImpl(didResolverRegistry);
@@ -56,6 +79,22 @@ public class IdentityDidCoreExtension implements ServiceExtension {
         registerParsers(privateKeyResolver);
     }
 
+    @Override
+    public void shutdown() {
+        if (refreshExecutor != null) {
+            refreshExecutor.shutdownNow();
+        }
+    }
+
+    private DidDocumentCache createCache(ServiceExtensionContext context) {
+        var ttl = context.getSetting(DID_CACHE_TTL, 0L);
+        if (ttl <= 0) {
+            return null;
+        }
+        refreshExecutor = executorInstrumentation.instrument(Executors.newSingleThreadExecutor(), "DID document refresh");
+        return new DidDocumentCache(clock, ttl, context.getSetting(DID_CACHE_FAILURE_TTL, 5000L), context.getSetting(DID_CACHE_SIZE, 1000), refreshExecutor);
+    }
+
     private void registerParsers(PrivateKeyResolver resolver) {
         resolver.addParser(RSAKey.class, new RsaPrivateKeyParserFunction());
         resolver.addParser(ECKey.class, new EcPrivateKeyParserFunction());
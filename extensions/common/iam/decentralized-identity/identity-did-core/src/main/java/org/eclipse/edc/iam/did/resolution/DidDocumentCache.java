@@ -0,0 +1,147 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.iam.did.resolution;
+
+import org.eclipse.edc.iam.did.spi.document.DidDocument;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.util.collection.LruCache;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * Caches the results of DID resolutions for a configured time-to-live. Failures are cached for a shorter time, so that
+ * an unreachable counterparty is not contacted on every request.
+ * <p>
+ * Concurrent resolutions of the same DID are collapsed into one. Once a successful entry has been cached for
+ * {@link #REFRESH_AHEAD_RATIO} of its time-to-live it is refreshed in the background on the next access, while the
+ * cached document keeps being served. A failed refresh does not evict a document that has not expired yet.
+ */
+public class DidDocumentCache {
+
+    static final double REFRESH_AHEAD_RATIO = 0.8;
+
+    private final Clock clock;
+    private final long ttlMillis;
+    private final long failureTtlMillis;
+    private final Executor refreshExecutor;
+    private final LruCache<String, Entry> entries;
+    private final Map<String, CompletableFuture<Result<DidDocument>>> inFlight = new ConcurrentHashMap<>();
+
+    public DidDocumentCache(Clock clock, long ttlMillis, long failureTtlMillis, int capacity, Executor refreshExecutor) {
+        this.clock = clock;
+        this.ttlMillis = ttlMillis;
+        this.failureTtlMillis = failureTtlMillis;
+        this.refreshExecutor = refreshExecutor;
+        this.entries = new LruCache<>(capacity);
+    }
+
+    /**
+     * Returns the cached resolution of the DID, or resolves it with the given resolution function.
+     */
+    public Result<DidDocument> get(String did, Supplier<Result<DidDocument>> resolution) {
+        var now = clock.millis();
+        var entry = validEntry(did, now);
+        if (entry != null) {
+            if (entry.refreshAt() <= now) {
+                refresh(did, resolution);
+            }
+            return entry.result();
+        }
+
+        try {
+            return load(did, resolution, false).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private CompletableFuture<Result<DidDocument>> load(String did, Supplier<Result<DidDocument>> resolution, boolean refresh) {
+        var future = new CompletableFuture<Result<DidDocument>>();
+        var existing = inFlight.putIfAbsent(did, future);
+        if (existing != null) {
+            return existing;
+        }
+
+        resolve(did, resolution, future, refresh);
+        return future;
+    }
+
+    /**
+     * Claims the in-flight slot of the DID on the caller thread before submitting the refresh, so that a burst of
+     * accesses to an entry due for refresh submits a single resolution.
+     */
+    private void refresh(String did, Supplier<Result<DidDocument>> resolution) {
+        var future = new CompletableFuture<Result<DidDocument>>();
+        if (inFlight.putIfAbsent(did, future) != null) {
+            return;
+        }
+
+        try {
+            refreshExecutor.execute(() -> resolve(did, resolution, future, true));
+        } catch (RuntimeException e) {
+            inFlight.remove(did, future);
+            future.completeExceptionally(e);
+        }
+    }
+
+    private void resolve(String did, Supplier<Result<DidDocument>> resolution, CompletableFuture<Result<DidDocument>> future, boolean refresh) {
+        try {
+            // another resolution may have completed since the caller looked up the entry
+            var entry = refresh ? null : validEntry(did, clock.millis());
+            var result = entry != null ? entry.result() : resolution.get();
+            if (entry == null) {
+                store(did, result);
+            }
+            future.complete(result);
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+        } finally {
+            inFlight.remove(did, future);
+        }
+    }
+
+    private Entry validEntry(String did, long now) {
+        synchronized (entries) {
+            var entry = entries.get(did);
+            return entry != null && entry.expiresAt() > now ? entry : null;
+        }
+    }
+
+    private void store(String did, Result<DidDocument> result) {
+        var now = clock.millis();
+        synchronized (entries) {
+            if (result.succeeded()) {
+                entries.put(did, new Entry(result, now + ttlMillis, now + (long) (ttlMillis * REFRESH_AHEAD_RATIO)));
+            } else {
+                var current = entries.get(did);
+                if (current == null || current.result().failed() || current.expiresAt() <= now) {
+                    entries.put(did, new Entry(result, now + failureTtlMillis, Long.MAX_VALUE));
+                }
+            }
+        }
+    }
+
+    private record Entry(Result<DidDocument> result, long expiresAt, long refreshAt) {
+    }
+}
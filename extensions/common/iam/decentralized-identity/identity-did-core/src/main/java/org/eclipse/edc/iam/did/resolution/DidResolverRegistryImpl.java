@@ -18,13 +18,14 @@ import org.eclipse.edc.iam.did.spi.document.DidDocument;
 import org.eclipse.edc.iam.did.spi.resolution.DidResolver;
 import org.eclipse.edc.iam.did.spi.resolution.DidResolverRegistry;
 import org.eclipse.edc.spi.result.Result;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 
 /**
- * Default implementation.
+ * Default implementation. Resolutions are cached when a {@link DidDocumentCache} is provided.
  */
 public class DidResolverRegistryImpl implements DidResolverRegistry {
     private static final String DID = "did";
@@ -32,6 +33,15 @@ public class DidResolverRegistryImpl implements DidResolverRegistry {
     private static final int DID_METHOD_NAME = 1;
 
     private final Map<String, DidResolver> resolvers = new HashMap<>();
+    private final DidDocumentCache cache;
+
+    public DidResolverRegistryImpl() {
+        this(null);
+    }
+
+    public DidResolverRegistryImpl(@Nullable DidDocumentCache cache) {
+        this.cache = cache;
+    }
 
     @Override
     public void register(DidResolver resolver) {
@@ -54,6 +64,9 @@ public class DidResolverRegistryImpl implements DidResolverRegistry {
         if (resolver == null) {
             return Result.failure("No resolver registered for DID Method: " + methodName);
         }
-        return resolver.resolve(didKey);
+        if (cache == null) {
+            return resolver.resolve(didKey);
+        }
+        return cache.get(didKey, () -> resolver.resolve(didKey));
     }
 }
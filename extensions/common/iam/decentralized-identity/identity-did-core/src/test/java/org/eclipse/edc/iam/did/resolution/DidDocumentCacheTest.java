@@ -0,0 +1,175 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.iam.did.resolution;
+
+import org.eclipse.edc.iam.did.spi.document.DidDocument;
+import org.eclipse.edc.spi.result.Result;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DidDocumentCacheTest {
+
+    private static final String DID = "did:web:example.com";
+
+    private final Instant now = Instant.now();
+    private final Clock clock = mock();
+    private final AtomicInteger resolutions = new AtomicInteger();
+    private final ArrayList<Runnable> refreshes = new ArrayList<>();
+    private final Executor refreshExecutor = refreshes::add;
+    private final DidDocumentCache cache = new DidDocumentCache(clock, 10_000, 1_000, 10, refreshExecutor);
+
+    @Test
+    void get_shouldResolveOnce_whileEntryIsValid() {
+        when(clock.millis()).thenReturn(now.toEpochMilli());
+
+        cache.get(DID, this::resolve);
+        var result = cache.get(DID, this::resolve);
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(resolutions).hasValue(1);
+    }
+
+    @Test
+    void get_shouldResolveAgain_whenEntryExpired() {
+        when(clock.millis()).thenReturn(now.toEpochMilli());
+        cache.get(DID, this::resolve);
+
+        when(clock.millis()).thenReturn(now.plusSeconds(11).toEpochMilli());
+        cache.get(DID, this::resolve);
+
+        assertThat(resolutions).hasValue(2);
+        assertThat(refreshes).isEmpty();
+    }
+
+    @Test
+    void get_shouldRefreshInBackground_whenEntryIsAboutToExpire() {
+        when(clock.millis()).thenReturn(now.toEpochMilli());
+        cache.get(DID, this::resolve);
+
+        when(clock.millis()).thenReturn(now.plusSeconds(9).toEpochMilli());
+        var result = cache.get(DID, this::resolve);
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(resolutions).hasValue(1);
+        assertThat(refreshes).hasSize(1);
+
+        refreshes.get(0).run();
+        when(clock.millis()).thenReturn(now.plusSeconds(15).toEpochMilli());
+        cache.get(DID, this::resolve);
+
+        assertThat(resolutions).hasValue(2);
+    }
+
+    @Test
+    void get_shouldCacheFailuresBriefly() {
+        when(clock.millis()).thenReturn(now.toEpochMilli());
+        cache.get(DID, this::fail);
+        var result = cache.get(DID, this::fail);
+
+        assertThat(result.failed()).isTrue();
+        assertThat(resolutions).hasValue(1);
+
+        when(clock.millis()).thenReturn(now.plusSeconds(2).toEpochMilli());
+        cache.get(DID, this::fail);
+
+        assertThat(resolutions).hasValue(2);
+    }
+
+    @Test
+    void get_shouldKeepDocument_whenRefreshFails() {
+        when(clock.millis()).thenReturn(now.toEpochMilli());
+        cache.get(DID, this::resolve);
+
+        when(clock.millis()).thenReturn(now.plusSeconds(9).toEpochMilli());
+        cache.get(DID, this::fail);
+        refreshes.get(0).run();
+        var result = cache.get(DID, this::fail);
+
+        assertThat(result.succeeded()).isTrue();
+    }
+
+    @Test
+    void get_shouldCollapseConcurrentResolutions() throws InterruptedException {
+        when(clock.millis()).thenReturn(now.toEpochMilli());
+        var executor = Executors.newFixedThreadPool(8);
+        var latch = new CountDownLatch(16);
+
+        IntStream.range(0, 16).forEach(i -> executor.execute(() -> {
+            cache.get(DID, this::slowResolve);
+            latch.countDown();
+        }));
+
+        assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        executor.shutdownNow();
+        assertThat(resolutions).hasValue(1);
+    }
+
+    @Test
+    void get_shouldRefreshOnce_whenConcurrentAccessesAreDueForRefresh() throws InterruptedException {
+        var pendingRefreshes = new CopyOnWriteArrayList<Runnable>();
+        var refreshingCache = new DidDocumentCache(clock, 10_000, 1_000, 10, pendingRefreshes::add);
+        when(clock.millis()).thenReturn(now.toEpochMilli());
+        refreshingCache.get(DID, this::resolve);
+
+        when(clock.millis()).thenReturn(now.plusSeconds(9).toEpochMilli());
+        var executor = Executors.newFixedThreadPool(8);
+        var latch = new CountDownLatch(16);
+        IntStream.range(0, 16).forEach(i -> executor.execute(() -> {
+            refreshingCache.get(DID, this::resolve);
+            latch.countDown();
+        }));
+
+        assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        executor.shutdownNow();
+        assertThat(pendingRefreshes).hasSize(1);
+
+        pendingRefreshes.forEach(Runnable::run);
+
+        assertThat(resolutions).hasValue(2);
+    }
+
+    private Result<DidDocument> resolve() {
+        resolutions.incrementAndGet();
+        return Result.success(DidDocument.Builder.newInstance().id(DID).build());
+    }
+
+    private Result<DidDocument> slowResolve() {
+        try {
+            Thread.sleep(100);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return resolve();
+    }
+
+    private Result<DidDocument> fail() {
+        resolutions.incrementAndGet();
+        return Result.failure("not found");
+    }
+}
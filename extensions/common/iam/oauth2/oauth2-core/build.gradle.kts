@@ -21,6 +21,7 @@ dependencies {
     api(project(":spi:common:oauth2-spi"))
     implementation(project(":extensions:common:iam:oauth2:oauth2-client"))
     implementation(project(":core:common:jwt-core"))
+    implementation(project(":core:common:util"))
 
     implementation(libs.nimbus.jwt)
 
@@ -18,6 +18,7 @@ package org.eclipse.edc.iam.oauth2;
 import org.eclipse.edc.iam.oauth2.identity.IdentityProviderKeyResolver;
 import org.eclipse.edc.iam.oauth2.identity.IdentityProviderKeyResolverConfiguration;
 import org.eclipse.edc.iam.oauth2.identity.Oauth2ServiceImpl;
+import org.eclipse.edc.iam.oauth2.identity.Oauth2TokenCache;
 import org.eclipse.edc.iam.oauth2.jwt.Oauth2JwtDecoratorRegistryRegistryImpl;
 import org.eclipse.edc.iam.oauth2.jwt.X509CertificateDecorator;
 import org.eclipse.edc.iam.oauth2.rule.Oauth2ValidationRulesRegistryImpl;
@@ -37,13 +38,17 @@ import org.eclipse.edc.spi.http.EdcHttpClient;
 import org.eclipse.edc.spi.iam.IdentityService;
 import org.eclipse.edc.spi.security.CertificateResolver;
 import org.eclipse.edc.spi.security.PrivateKeyResolver;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.system.StateMachineObserver;
 import org.eclipse.edc.spi.types.TypeManager;
 
 import java.security.PrivateKey;
 import java.time.Clock;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -55,6 +60,8 @@ public class Oauth2ServiceExtension implements ServiceExtension {
 
     public static final String NAME = "OAuth2 Identity Service";
     private static final int DEFAULT_TOKEN_EXPIRATION = 5;
+    private static final int DEFAULT_TOKEN_CACHE_REFRESH_MARGIN = 30;
+    private static final int DEFAULT_TOKEN_CACHE_SIZE = 100;
     @Setting
     private static final String PROVIDER_JWKS_URL = "edc.oauth.provider.jwks.url";
     @Setting(value = "outgoing tokens 'aud' claim value, by default it's the connector id")
@@ -76,6 +83,12 @@ public class Oauth2ServiceExtension implements ServiceExtension {
     private static final String CLIENT_ID = "edc.oauth.client.id";
     @Setting
     private static final String NOT_BEFORE_LEEWAY = "edc.oauth.validation.nbf.leeway";
+    @Setting(value = "Reuse obtained access tokens until they are about to expire", type = "boolean", defaultValue = "true")
+    private static final String TOKEN_CACHE_ENABLED = "edc.oauth.token.cache.enabled";
+    @Setting(value = "Seconds before its expiration after which a cached access token is no longer used. It is refreshed in the background before that", type = "int", defaultValue = DEFAULT_TOKEN_CACHE_REFRESH_MARGIN + "")
+    private static final String TOKEN_CACHE_REFRESH_MARGIN = "edc.oauth.token.cache.refresh-margin";
+    @Setting(value = "Maximum number of audience and scope combinations for which an access token is cached", type = "int", defaultValue = DEFAULT_TOKEN_CACHE_SIZE + "")
+    private static final String TOKEN_CACHE_SIZE = "edc.oauth.token.cache.size";
     private IdentityProviderKeyResolver providerKeyResolver;
 
     @Inject
@@ -99,6 +112,14 @@ public class Oauth2ServiceExtension implements ServiceExtension {
     @Inject
     private TypeManager typeManager;
 
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    @Inject
+    private StateMachineObserver observer;
+
+    private ExecutorService refreshExecutor;
+
     @Override
     public String name() {
         return NAME;
@@ -132,7 +153,8 @@ public class Oauth2ServiceExtension implements ServiceExtension {
                 oauth2Client,
                 jwtDecoratorRegistry,
                 new TokenValidationServiceImpl(configuration.getIdentityProviderKeyResolver(), validationRulesRegistry),
-                credentialsRequestAdditionalParametersProvider
+                credentialsRequestAdditionalParametersProvider,
+                createTokenCache(context)
         );
 
         context.registerService(IdentityService.class, oauth2Service);
@@ -146,6 +168,19 @@ public class Oauth2ServiceExtension implements ServiceExtension {
     @Override
     public void shutdown() {
         providerKeyResolver.stop();
+        if (refreshExecutor != null) {
+            refreshExecutor.shutdownNow();
+        }
+    }
+
+    private Oauth2TokenCache createTokenCache(ServiceExtensionContext context) {
+        if (!context.getSetting(TOKEN_CACHE_ENABLED, true)) {
+            return null;
+        }
+        var refreshMargin = context.getSetting(TOKEN_CACHE_REFRESH_MARGIN, DEFAULT_TOKEN_CACHE_REFRESH_MARGIN);
+        var size = context.getSetting(TOKEN_CACHE_SIZE, DEFAULT_TOKEN_CACHE_SIZE);
+        refreshExecutor = executorInstrumentation.instrument(Executors.newSingleThreadExecutor(), "OAuth2 token refresh");
+        return new Oauth2TokenCache(clock, TimeUnit.SECONDS.toMillis(refreshMargin), size, refreshExecutor, observer);
     }
 
     private Oauth2ServiceConfiguration createConfig(ServiceExtensionContext context) {
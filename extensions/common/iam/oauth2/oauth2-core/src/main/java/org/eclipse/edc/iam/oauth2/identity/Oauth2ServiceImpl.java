@@ -32,6 +32,7 @@ import org.eclipse.edc.spi.iam.TokenParameters;
 import org.eclipse.edc.spi.iam.TokenRepresentation;
 import org.eclipse.edc.spi.result.Result;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Implements the OAuth2 client credentials flow and bearer token validation.
@@ -46,6 +47,7 @@ public class Oauth2ServiceImpl implements IdentityService {
     private final TokenGenerationService tokenGenerationService;
     private final TokenValidationService tokenValidationService;
     private final CredentialsRequestAdditionalParametersProvider credentialsRequestAdditionalParametersProvider;
+    private final Oauth2TokenCache tokenCache;
 
     /**
      * Creates a new instance of the OAuth2 Service
@@ -60,19 +62,39 @@ public class Oauth2ServiceImpl implements IdentityService {
     public Oauth2ServiceImpl(Oauth2ServiceConfiguration configuration, TokenGenerationService tokenGenerationService,
                              Oauth2Client client, JwtDecoratorRegistry jwtDecoratorRegistry, TokenValidationService tokenValidationService,
                              CredentialsRequestAdditionalParametersProvider credentialsRequestAdditionalParametersProvider) {
+        this(configuration, tokenGenerationService, client, jwtDecoratorRegistry, tokenValidationService, credentialsRequestAdditionalParametersProvider, null);
+    }
+
+    /**
+     * Creates a new instance of the OAuth2 Service that reuses the obtained access tokens until they expire
+     *
+     * @param configuration                                  The configuration
+     * @param tokenGenerationService                         Service used to generate the signed tokens
+     * @param client                                         client for Oauth2 server
+     * @param jwtDecoratorRegistry                           Registry containing the decorator for build the JWT
+     * @param tokenValidationService                         Service used for token validation
+     * @param credentialsRequestAdditionalParametersProvider Provides additional form parameters
+     * @param tokenCache                                     Cache for the obtained access tokens, null to disable caching
+     */
+    public Oauth2ServiceImpl(Oauth2ServiceConfiguration configuration, TokenGenerationService tokenGenerationService,
+                             Oauth2Client client, JwtDecoratorRegistry jwtDecoratorRegistry, TokenValidationService tokenValidationService,
+                             CredentialsRequestAdditionalParametersProvider credentialsRequestAdditionalParametersProvider,
+                             @Nullable Oauth2TokenCache tokenCache) {
         this.configuration = configuration;
         this.client = client;
         this.jwtDecoratorRegistry = jwtDecoratorRegistry;
         this.tokenGenerationService = tokenGenerationService;
         this.tokenValidationService = tokenValidationService;
         this.credentialsRequestAdditionalParametersProvider = credentialsRequestAdditionalParametersProvider;
+        this.tokenCache = tokenCache;
     }
 
     @Override
     public Result<TokenRepresentation> obtainClientCredentials(TokenParameters parameters) {
-        return generateClientAssertion()
-                .map(assertion -> createRequest(parameters, assertion))
-                .compose(client::requestToken);
+        if (tokenCache == null) {
+            return requestToken(parameters);
+        }
+        return tokenCache.get(parameters, () -> requestToken(parameters));
     }
 
     @Override
@@ -80,6 +102,12 @@ public class Oauth2ServiceImpl implements IdentityService {
         return tokenValidationService.validate(tokenRepresentation);
     }
 
+    private Result<TokenRepresentation> requestToken(TokenParameters parameters) {
+        return generateClientAssertion()
+                .map(assertion -> createRequest(parameters, assertion))
+                .compose(client::requestToken);
+    }
+
     @NotNull
     private Result<String> generateClientAssertion() {
         var decorators = jwtDecoratorRegistry.getAll().toArray(JwtDecorator[]::new);
@@ -0,0 +1,158 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.iam.oauth2.identity;
+
+import org.eclipse.edc.spi.iam.TokenParameters;
+import org.eclipse.edc.spi.iam.TokenRepresentation;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.system.StateMachineObserver;
+import org.eclipse.edc.util.collection.LruCache;
+
+import java.time.Clock;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Caches the access tokens obtained from the identity provider by audience, scope and additional token parameters.
+ * A token is used until {@code refreshMarginMillis} before it expires. Once it has been cached for
+ * {@link #REFRESH_AHEAD_RATIO} of that time, it is refreshed in the background on the next access while it keeps being
+ * served, so that callers only wait for the identity provider when no usable token is cached. A failed refresh does
+ * not evict a token that is still usable.
+ * <p>
+ * Concurrent callers asking for the same key while a token is being obtained wait for it instead of issuing their own
+ * request. Tokens without a known lifetime ({@code expires_in}) and failures are never cached. At most
+ * {@code maxSize} keys are kept, the least recently used one is evicted first. Hits and misses are exposed as the
+ * {@link #HITS_GAUGE} and {@link #MISSES_GAUGE} gauges.
+ */
+public class Oauth2TokenCache {
+
+    public static final String HITS_GAUGE = "edc.oauth2.token.cache.hits";
+    public static final String MISSES_GAUGE = "edc.oauth2.token.cache.misses";
+    static final double REFRESH_AHEAD_RATIO = 0.8;
+
+    private final Clock clock;
+    private final long refreshMarginMillis;
+    private final Executor refreshExecutor;
+    private final Map<Key, Slot> slots;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public Oauth2TokenCache(Clock clock, long refreshMarginMillis, int maxSize, Executor refreshExecutor, StateMachineObserver observer) {
+        this.clock = clock;
+        this.refreshMarginMillis = refreshMarginMillis;
+        this.refreshExecutor = refreshExecutor;
+        this.slots = new LruCache<>(maxSize);
+        observer.registerGauge(HITS_GAUGE, Map.of(), hits::get);
+        observer.registerGauge(MISSES_GAUGE, Map.of(), misses::get);
+    }
+
+    /**
+     * Returns the cached token for the parameters, or obtains a new one from the supplier.
+     */
+    public Result<TokenRepresentation> get(TokenParameters parameters, Supplier<Result<TokenRepresentation>> supplier) {
+        var key = new Key(parameters.getAudience(), parameters.getScope(), new HashMap<>(parameters.getAdditional()));
+        Slot slot;
+        synchronized (slots) {
+            slot = slots.computeIfAbsent(key, k -> new Slot());
+        }
+
+        var now = clock.millis();
+        var entry = slot.entry;
+        if (isUsable(entry, now)) {
+            hits.incrementAndGet();
+            if (entry.refreshAt() <= now) {
+                refresh(slot, entry, supplier);
+            }
+            return Result.success(entry.token());
+        }
+
+        synchronized (slot) {
+            entry = slot.entry;
+            if (isUsable(entry, clock.millis())) {
+                hits.incrementAndGet();
+                return Result.success(entry.token());
+            }
+
+            misses.incrementAndGet();
+            return obtain(slot, supplier);
+        }
+    }
+
+    long getHits() {
+        return hits.get();
+    }
+
+    long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Obtains a new token in the background, unless the slot is already being refreshed or the token has been replaced
+     * in the meantime.
+     */
+    private void refresh(Slot slot, Entry current, Supplier<Result<TokenRepresentation>> supplier) {
+        if (!slot.refreshing.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    synchronized (slot) {
+                        if (slot.entry == current) {
+                            obtain(slot, supplier);
+                        }
+                    }
+                } finally {
+                    slot.refreshing.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            slot.refreshing.set(false);
+        }
+    }
+
+    private Result<TokenRepresentation> obtain(Slot slot, Supplier<Result<TokenRepresentation>> supplier) {
+        var now = clock.millis();
+        var result = supplier.get();
+        if (result.succeeded() && result.getContent().getExpiresIn() != null) {
+            var expiresAt = now + result.getContent().getExpiresIn() * 1000 - refreshMarginMillis;
+            var refreshAt = now + (long) ((expiresAt - now) * REFRESH_AHEAD_RATIO);
+            slot.entry = new Entry(result.getContent(), expiresAt, refreshAt);
+        } else if (!isUsable(slot.entry, clock.millis())) {
+            slot.entry = null;
+        }
+        return result;
+    }
+
+    private boolean isUsable(Entry entry, long now) {
+        return entry != null && entry.expiresAt() > now;
+    }
+
+    private record Key(String audience, String scope, Map<String, Object> additional) {
+    }
+
+    private record Entry(TokenRepresentation token, long expiresAt, long refreshAt) {
+    }
+
+    private static class Slot {
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+        private volatile Entry entry;
+    }
+}
@@ -17,7 +17,9 @@ package org.eclipse.edc.iam.oauth2;
 import org.eclipse.edc.junit.extensions.DependencyInjectionExtension;
 import org.eclipse.edc.spi.security.CertificateResolver;
 import org.eclipse.edc.spi.security.PrivateKeyResolver;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.system.StateMachineObserver;
 import org.eclipse.edc.spi.system.configuration.ConfigFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -46,6 +48,8 @@ class Oauth2ServiceExtensionTest {
     void setup(ServiceExtensionContext context) {
         context.registerService(CertificateResolver.class, certificateResolver);
         context.registerService(PrivateKeyResolver.class, privateKeyResolver);
+        context.registerService(ExecutorInstrumentation.class, ExecutorInstrumentation.noop());
+        context.registerService(StateMachineObserver.class, StateMachineObserver.noop());
     }
 
     @Test
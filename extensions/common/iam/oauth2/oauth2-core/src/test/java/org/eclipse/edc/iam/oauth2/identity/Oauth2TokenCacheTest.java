@@ -0,0 +1,202 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.iam.oauth2.identity;
+
+import org.eclipse.edc.spi.iam.TokenParameters;
+import org.eclipse.edc.spi.iam.TokenRepresentation;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.system.StateMachineObserver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.iam.oauth2.identity.Oauth2TokenCache.HITS_GAUGE;
+import static org.eclipse.edc.iam.oauth2.identity.Oauth2TokenCache.MISSES_GAUGE;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class Oauth2TokenCacheTest {
+
+    private final AtomicLong time = new AtomicLong(1_000_000);
+    private final Clock clock = mock();
+    private final AtomicInteger requests = new AtomicInteger();
+    private final List<Runnable> refreshes = new ArrayList<>();
+    private final Oauth2TokenCache cache = new Oauth2TokenCache(clock, 10_000, 2, refreshes::add, StateMachineObserver.noop());
+
+    @BeforeEach
+    void setUp() {
+        when(clock.millis()).thenAnswer(i -> time.get());
+    }
+
+    @Test
+    void get_shouldReuseToken_untilRefreshAhead() {
+        cache.get(parameters("audience"), () -> token(60L));
+        time.addAndGet(39_000);
+        var result = cache.get(parameters("audience"), () -> token(60L));
+
+        assertThat(result.getContent().getToken()).isEqualTo("token-1");
+        assertThat(requests).hasValue(1);
+        assertThat(refreshes).isEmpty();
+    }
+
+    @Test
+    void get_shouldRefreshInBackground_whenTokenIsDueForRefresh() {
+        cache.get(parameters("audience"), () -> token(60L));
+        time.addAndGet(45_000);
+
+        var result = cache.get(parameters("audience"), () -> token(60L));
+
+        assertThat(result.getContent().getToken()).isEqualTo("token-1");
+        assertThat(requests).hasValue(1);
+        assertThat(refreshes).hasSize(1);
+
+        refreshes.forEach(Runnable::run);
+
+        assertThat(requests).hasValue(2);
+        assertThat(cache.get(parameters("audience"), () -> token(60L)).getContent().getToken()).isEqualTo("token-2");
+    }
+
+    @Test
+    void get_shouldRefreshOnce_whenAccessedRepeatedlyWhileDueForRefresh() {
+        cache.get(parameters("audience"), () -> token(60L));
+        time.addAndGet(45_000);
+
+        cache.get(parameters("audience"), () -> token(60L));
+        cache.get(parameters("audience"), () -> token(60L));
+
+        assertThat(refreshes).hasSize(1);
+    }
+
+    @Test
+    void get_shouldKeepToken_whenRefreshFails() {
+        cache.get(parameters("audience"), () -> token(60L));
+        time.addAndGet(45_000);
+
+        cache.get(parameters("audience"), () -> Result.failure("error"));
+        refreshes.forEach(Runnable::run);
+        var result = cache.get(parameters("audience"), () -> token(60L));
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(result.getContent().getToken()).isEqualTo("token-1");
+    }
+
+    @Test
+    void get_shouldObtainToken_whenCachedOneIsNoLongerUsable() {
+        cache.get(parameters("audience"), () -> token(60L));
+        time.addAndGet(51_000);
+
+        var result = cache.get(parameters("audience"), () -> token(60L));
+
+        assertThat(result.getContent().getToken()).isEqualTo("token-2");
+        assertThat(refreshes).isEmpty();
+    }
+
+    @Test
+    void get_shouldNotShareTokens_betweenAudiences() {
+        cache.get(parameters("audience"), () -> token(60L));
+        cache.get(parameters("another-audience"), () -> token(60L));
+
+        assertThat(requests).hasValue(2);
+    }
+
+    @Test
+    void get_shouldEvictLeastRecentlyUsedKey_whenFull() {
+        cache.get(parameters("first"), () -> token(60L));
+        cache.get(parameters("second"), () -> token(60L));
+        cache.get(parameters("first"), () -> token(60L));
+        cache.get(parameters("third"), () -> token(60L));
+        cache.get(parameters("first"), () -> token(60L));
+        cache.get(parameters("second"), () -> token(60L));
+
+        assertThat(requests).hasValue(4);
+    }
+
+    @Test
+    void get_shouldNotCache_whenLifetimeIsUnknown() {
+        cache.get(parameters("audience"), () -> token(null));
+        cache.get(parameters("audience"), () -> token(null));
+
+        assertThat(requests).hasValue(2);
+    }
+
+    @Test
+    void get_shouldNotCacheFailures() {
+        cache.get(parameters("audience"), () -> {
+            requests.incrementAndGet();
+            return Result.failure("error");
+        });
+        cache.get(parameters("audience"), () -> token(60L));
+
+        assertThat(requests).hasValue(2);
+    }
+
+    @Test
+    void get_shouldCoalesceConcurrentRequests() throws InterruptedException {
+        var executor = Executors.newFixedThreadPool(8);
+        var latch = new CountDownLatch(16);
+
+        IntStream.range(0, 16).forEach(i -> executor.execute(() -> {
+            cache.get(parameters("audience"), () -> token(60L));
+            latch.countDown();
+        }));
+
+        assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        executor.shutdownNow();
+        assertThat(requests).hasValue(1);
+    }
+
+    @Test
+    void shouldExposeHitsAndMisses() {
+        var gauges = new HashMap<String, Supplier<Number>>();
+        var observer = new StateMachineObserver() {
+            @Override
+            public void registerGauge(String name, Map<String, String> tags, Supplier<Number> value) {
+                gauges.put(name, value);
+            }
+        };
+        var cache = new Oauth2TokenCache(clock, 10_000, 2, refreshes::add, observer);
+
+        cache.get(parameters("audience"), () -> token(60L));
+        cache.get(parameters("audience"), () -> token(60L));
+        cache.get(parameters("audience"), () -> token(60L));
+
+        assertThat(cache.getHits()).isEqualTo(2);
+        assertThat(cache.getMisses()).isEqualTo(1);
+        assertThat(gauges.get(HITS_GAUGE).get()).isEqualTo(2L);
+        assertThat(gauges.get(MISSES_GAUGE).get()).isEqualTo(1L);
+    }
+
+    private TokenParameters parameters(String audience) {
+        return TokenParameters.Builder.newInstance().audience(audience).scope("scope").build();
+    }
+
+    private Result<TokenRepresentation> token(Long expiresIn) {
+        var request = requests.incrementAndGet();
+        return Result.success(TokenRepresentation.Builder.newInstance().token("token-" + request).expiresIn(expiresIn).build());
+    }
+}
@@ -32,11 +32,10 @@ import org.eclipse.edc.spi.result.Result;
 import java.net.URI;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static jakarta.json.Json.createBuilderFactory;
 import static jakarta.json.Json.createObjectBuilder;
-import static java.util.Optional.ofNullable;
 import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.CONTEXT;
 import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.VOCAB;
 import static org.eclipse.edc.spi.CoreConstants.EDC_NAMESPACE;
@@ -48,6 +47,7 @@ public class TitaniumJsonLd implements JsonLd {
     private final Monitor monitor;
     private final Map<String, String> additionalNamespaces = new HashMap<>();
     private final CachedDocumentLoader documentLoader;
+    private volatile JsonDocument compactionContext;
 
     public TitaniumJsonLd(Monitor monitor) {
         this(monitor, JsonLdConfiguration.Builder.newInstance().build());
@@ -79,11 +79,7 @@ public class TitaniumJsonLd implements JsonLd {
     public Result<JsonObject> compact(JsonObject json) {
         try {
             var document = JsonDocument.of(json);
-            var jsonFactory = createBuilderFactory(Map.of());
-            var contextDocument = JsonDocument.of(jsonFactory.createObjectBuilder()
-                    .add(CONTEXT, createContextObject())
-                    .build());
-            var compacted = com.apicatalog.jsonld.JsonLd.compact(document, contextDocument).get();
+            var compacted = com.apicatalog.jsonld.JsonLd.compact(document, compactionContext()).get();
             return Result.success(compacted);
         } catch (JsonLdError e) {
             monitor.warning("Error compacting JSON-LD structure", e);
@@ -94,6 +90,7 @@ public class TitaniumJsonLd implements JsonLd {
     @Override
     public void registerNamespace(String prefix, String contextIri) {
         additionalNamespaces.put(prefix, contextIri);
+        compactionContext = null;
     }
 
     @Override
@@ -102,20 +99,32 @@ public class TitaniumJsonLd implements JsonLd {
     }
 
     private JsonObject injectVocab(JsonObject json) {
-        var jsonObjectBuilder = createObjectBuilder(json);
-
         //only inject the vocab if the @context is an object, not a URL
-        if (json.get(CONTEXT) instanceof JsonObject) {
-            var contextObject = ofNullable(json.getJsonObject(CONTEXT)).orElseGet(() -> createObjectBuilder().build());
-            var contextBuilder = createObjectBuilder(contextObject);
-            if (!contextObject.containsKey(VOCAB)) {
-                var newContextObject = contextBuilder
-                        .add(VOCAB, EDC_NAMESPACE)
-                        .build();
-                jsonObjectBuilder.add(CONTEXT, newContextObject);
-            }
+        if (json.get(CONTEXT) instanceof JsonObject contextObject && !contextObject.containsKey(VOCAB)) {
+            var newContextObject = createObjectBuilder(contextObject)
+                    .add(VOCAB, EDC_NAMESPACE)
+                    .build();
+            return createObjectBuilder(json)
+                    .add(CONTEXT, newContextObject)
+                    .build();
         }
-        return jsonObjectBuilder.build();
+        // nothing to inject, the input can be expanded as it is
+        return json;
+    }
+
+    /**
+     * Returns the context used for compaction, which is built once from the registered namespaces.
+     */
+    private JsonDocument compactionContext() {
+        var context = compactionContext;
+        if (context == null) {
+            var jsonFactory = createBuilderFactory(Map.of());
+            context = JsonDocument.of(jsonFactory.createObjectBuilder()
+                    .add(CONTEXT, createContextObject())
+                    .build());
+            compactionContext = context;
+        }
+        return context;
     }
 
     private JsonObject createContextObject() {
@@ -124,9 +133,14 @@ public class TitaniumJsonLd implements JsonLd {
         return builder.build();
     }
 
+    /**
+     * Loads the registered context documents from their local copies. As the local copies do not change, they are
+     * loaded and parsed once and then served from memory.
+     */
     private static class CachedDocumentLoader implements DocumentLoader {
 
         private final Map<String, URI> cache = new HashMap<>();
+        private final Map<URI, Document> documents = new ConcurrentHashMap<>();
         private final DocumentLoader loader;
 
         CachedDocumentLoader(JsonLdConfiguration configuration) {
@@ -139,15 +153,22 @@ public class TitaniumJsonLd implements JsonLd {
 
         @Override
         public Document loadDocument(URI url, DocumentLoaderOptions options) throws JsonLdError {
-            var uri = Optional.of(url.toString())
-                    .map(cache::get)
-                    .orElse(url);
+            var localUri = cache.get(url.toString());
+            if (localUri == null) {
+                return loader.loadDocument(url, options);
+            }
 
-            return loader.loadDocument(uri, options);
+            var document = documents.get(localUri);
+            if (document == null) {
+                document = loader.loadDocument(localUri, options);
+                documents.put(localUri, document);
+            }
+            return document;
         }
 
         public void register(String contextUrl, URI uri) {
             cache.put(contextUrl, uri);
+            documents.remove(uri);
         }
 
     }
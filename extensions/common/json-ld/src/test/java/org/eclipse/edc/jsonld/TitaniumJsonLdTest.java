@@ -20,9 +20,13 @@ import org.eclipse.edc.jsonld.spi.JsonLd;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockserver.integration.ClientAndServer;
 
+import java.io.IOException;
 import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 import static jakarta.json.Json.createArrayBuilder;
 import static jakarta.json.Json.createObjectBuilder;
@@ -141,6 +145,44 @@ class TitaniumJsonLdTest {
         });
     }
 
+    @Test
+    void compact_shouldUseNamespace_registeredAfterPreviousCompaction() {
+        var ns = "https://test.org/schema/";
+        var prefix = "customContext";
+        var expanded = createObjectBuilder()
+                .add(ns + "item", createArrayBuilder().add(createObjectBuilder().add(VALUE, "value1").build()).build())
+                .build();
+
+        var service = defaultService();
+        assertThat(service.compact(expanded)).isSucceeded()
+                .satisfies(c -> assertThat(c.getJsonString(ns + "item").getString()).isEqualTo("value1"));
+
+        service.registerNamespace(prefix, ns);
+
+        assertThat(service.compact(expanded)).isSucceeded()
+                .satisfies(c -> assertThat(c.getJsonString(prefix + ":item").getString()).isEqualTo("value1"));
+    }
+
+    @Test
+    void documentResolution_shouldReadRegisteredDocumentOnce(@TempDir Path tempDir) throws IOException {
+        var contextUrl = "http://localhost:" + port;
+        var contextFile = tempDir.resolve("context.jsonld");
+        Files.copy(getFileFromResourceName("test-context.jsonld").toPath(), contextFile);
+        var jsonObject = createObjectBuilder()
+                .add(CONTEXT, contextUrl)
+                .add("test:key", "value")
+                .build();
+        var service = defaultService();
+        service.registerCachedDocument(contextUrl, contextFile.toUri());
+
+        assertThat(service.expand(jsonObject)).isSucceeded();
+        Files.delete(contextFile);
+
+        assertThat(service.expand(jsonObject)).isSucceeded().satisfies(json ->
+                assertThat(json.getJsonArray("http://test.org/context/key")).hasSize(1));
+        server.verifyZeroInteractions();
+    }
+
     @Test
     void documentResolution_shouldNotCallHttpEndpoint_whenFileContextIsRegistered() {
         var contextUrl = "http://localhost:" + port;
@@ -0,0 +1,98 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.metrics.micrometer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.eclipse.edc.spi.system.StateMachineObserver;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * {@link StateMachineObserver} that records the state machine iterations, processed batches, retries and lease
+ * acquisitions as Micrometer timers, counters and distribution summaries, tagged by state machine, state and entity
+ * type. Registered gauges become Micrometer gauges.
+ * <p>
+ * Meters are registered on first use and cached per name and tags, so that the callbacks, which run on the state
+ * machine threads, do not go through the registry every time.
+ */
+public class MicrometerStateMachineObserver implements StateMachineObserver {
+    private final MeterRegistry registry;
+    private final Map<MeterKey, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<MeterKey, Counter> counters = new ConcurrentHashMap<>();
+    private final Map<MeterKey, DistributionSummary> summaries = new ConcurrentHashMap<>();
+
+    public MicrometerStateMachineObserver(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void iterationCompleted(String manager, long processed, Duration duration) {
+        timer("edc.statemachine.iteration", "manager", manager).record(duration);
+    }
+
+    @Override
+    public void batchProcessed(String manager, String state, int fetched, long processed, Duration fetchDuration, Duration processDuration) {
+        timer("edc.statemachine.fetch", "manager", manager, "state", state).record(fetchDuration);
+        timer("edc.statemachine.process", "manager", manager, "state", state).record(processDuration);
+        summary("edc.statemachine.batch.size", "manager", manager, "state", state).record(fetched);
+        counter("edc.statemachine.processed", "manager", manager, "state", state).increment(processed);
+    }
+
+    @Override
+    public void retryAttempted(String entityType, int attempt) {
+        counter("edc.statemachine.retries", "entity", entityType).increment();
+    }
+
+    @Override
+    public void retryDelayed(String entityType, int attempt, long delayMillis) {
+        counter("edc.statemachine.retries.delayed", "entity", entityType).increment();
+    }
+
+    @Override
+    public void leasesAcquired(String entityType, int requested, int acquired, Duration duration) {
+        timer("edc.store.lease.acquire", "entity", entityType).record(duration);
+        counter("edc.store.lease.conflicts", "entity", entityType).increment(requested - acquired);
+    }
+
+    @Override
+    public void registerGauge(String name, Map<String, String> tags, Supplier<Number> value) {
+        var gauge = Gauge.builder(name, value);
+        tags.forEach(gauge::tag);
+        gauge.register(registry);
+    }
+
+    private Timer timer(String name, String... tags) {
+        return timers.computeIfAbsent(new MeterKey(name, List.of(tags)), key -> Timer.builder(name).tags(tags).register(registry));
+    }
+
+    private Counter counter(String name, String... tags) {
+        return counters.computeIfAbsent(new MeterKey(name, List.of(tags)), key -> Counter.builder(name).tags(tags).register(registry));
+    }
+
+    private DistributionSummary summary(String name, String... tags) {
+        return summaries.computeIfAbsent(new MeterKey(name, List.of(tags)), key -> DistributionSummary.builder(name).tags(tags).register(registry));
+    }
+
+    private record MeterKey(String name, List<String> tags) {
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.metrics.micrometer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MicrometerStateMachineObserverTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final MicrometerStateMachineObserver observer = new MicrometerStateMachineObserver(registry);
+
+    @Test
+    void iterationCompleted_shouldRecordTimerPerManager() {
+        observer.iterationCompleted("manager", 1, Duration.ofMillis(10));
+        observer.iterationCompleted("manager", 0, Duration.ofMillis(20));
+        observer.iterationCompleted("other", 0, Duration.ofMillis(5));
+
+        var timer = registry.get("edc.statemachine.iteration").tag("manager", "manager").timer();
+        assertThat(timer.count()).isEqualTo(2);
+        assertThat(timer.totalTime(MILLISECONDS)).isEqualTo(30);
+        assertThat(registry.get("edc.statemachine.iteration").tag("manager", "other").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void batchProcessed_shouldRecordMetersPerManagerAndState() {
+        observer.batchProcessed("manager", "STARTED", 5, 3, Duration.ofMillis(1), Duration.ofMillis(2));
+        observer.batchProcessed("manager", "STARTED", 4, 4, Duration.ofMillis(3), Duration.ofMillis(4));
+        observer.batchProcessed("manager", "COMPLETED", 1, 1, Duration.ofMillis(1), Duration.ofMillis(1));
+
+        var started = registry.get("edc.statemachine.processed").tags("manager", "manager", "state", "STARTED");
+        assertThat(started.counter().count()).isEqualTo(7);
+        assertThat(registry.get("edc.statemachine.batch.size").tags("manager", "manager", "state", "STARTED").summary().totalAmount()).isEqualTo(9);
+        assertThat(registry.get("edc.statemachine.fetch").tags("manager", "manager", "state", "STARTED").timer().totalTime(MILLISECONDS)).isEqualTo(4);
+        assertThat(registry.get("edc.statemachine.process").tags("manager", "manager", "state", "STARTED").timer().totalTime(MILLISECONDS)).isEqualTo(6);
+        assertThat(registry.get("edc.statemachine.processed").tags("manager", "manager", "state", "COMPLETED").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void retries_shouldBeCountedPerEntityType() {
+        observer.retryAttempted("TransferProcess", 1);
+        observer.retryAttempted("TransferProcess", 2);
+        observer.retryDelayed("TransferProcess", 2, 100);
+
+        assertThat(registry.get("edc.statemachine.retries").tag("entity", "TransferProcess").counter().count()).isEqualTo(2);
+        assertThat(registry.get("edc.statemachine.retries.delayed").tag("entity", "TransferProcess").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void leasesAcquired_shouldRecordDurationAndConflicts() {
+        observer.leasesAcquired("TransferProcess", 5, 3, Duration.ofMillis(10));
+        observer.leasesAcquired("TransferProcess", 1, 1, Duration.ofMillis(5));
+
+        assertThat(registry.get("edc.store.lease.acquire").tag("entity", "TransferProcess").timer().count()).isEqualTo(2);
+        assertThat(registry.get("edc.store.lease.conflicts").tag("entity", "TransferProcess").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void registerGauge_shouldSampleValue() {
+        var value = new AtomicInteger(3);
+
+        observer.registerGauge("edc.store.backlog", Map.of("entity", "TransferProcess", "state", "STARTED"), value::get);
+        value.set(7);
+
+        assertThat(registry.get("edc.store.backlog").tags("entity", "TransferProcess", "state", "STARTED").gauge().value()).isEqualTo(7);
+    }
+
+    @Test
+    void shouldRegisterMeterOnce_whenCalledRepeatedly() {
+        observer.iterationCompleted("manager", 1, Duration.ofMillis(1));
+        var timer = registry.get("edc.statemachine.iteration").timer();
+
+        observer.iterationCompleted("manager", 1, Duration.ofMillis(1));
+
+        assertThat(registry.get("edc.statemachine.iteration").timers()).containsExactly(timer);
+        assertThat(timer.count()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,252 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.monitor.async;
+
+import org.eclipse.edc.spi.monitor.ConsoleMonitor.Level;
+import org.eclipse.edc.spi.monitor.Monitor;
+
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+import static java.lang.String.format;
+
+/**
+ * Monitor that moves the formatting and the output of messages off the calling thread. Messages are put on a bounded,
+ * lock-free queue and written in batches by a background thread, so a slow console or log collector does not stall
+ * the state machines and data transfers.
+ * <p>
+ * When the queue is full, messages are dropped, except for severe ones, and the number of dropped messages is reported
+ * with the next batch. The message suppliers are still evaluated on the calling thread, so they see the state of the
+ * entities at the time of the call. Messages are written either as plain text, in the format of the
+ * {@link org.eclipse.edc.spi.monitor.ConsoleMonitor}, or as one JSON object per line.
+ */
+public class AsyncMonitor implements Monitor, AutoCloseable {
+
+    static final int BATCH_SIZE = 256;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private final PrintStream out;
+    private final Level level;
+    private final int capacity;
+    private final boolean json;
+    private final Queue<Entry> entries = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicLong dropped = new AtomicLong();
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    /**
+     * Constructor. Starts the background writer.
+     *
+     * @param out the stream the messages are written to
+     * @param level the lowest level that is written
+     * @param capacity how many messages can wait to be written before they are dropped
+     * @param json whether the messages are written as JSON objects instead of plain text
+     */
+    public AsyncMonitor(PrintStream out, Level level, int capacity, boolean json) {
+        this.out = out;
+        this.level = level;
+        this.capacity = capacity;
+        this.json = json;
+        writer = new Thread(this::write, "edc-monitor-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public void severe(Supplier<String> supplier, Throwable... errors) {
+        enqueue(Level.SEVERE, supplier, errors);
+    }
+
+    @Override
+    public void warning(Supplier<String> supplier, Throwable... errors) {
+        enqueue(Level.WARNING, supplier, errors);
+    }
+
+    @Override
+    public void info(Supplier<String> supplier, Throwable... errors) {
+        enqueue(Level.INFO, supplier, errors);
+    }
+
+    @Override
+    public void debug(Supplier<String> supplier, Throwable... errors) {
+        enqueue(Level.DEBUG, supplier, errors);
+    }
+
+    /**
+     * Stops the background writer once all queued messages have been written. Messages logged afterwards are written
+     * on the calling thread.
+     */
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Returns the number of messages waiting to be written.
+     */
+    public int getQueueSize() {
+        return size.get();
+    }
+
+    private void enqueue(Level messageLevel, Supplier<String> supplier, Throwable... errors) {
+        // levels are declared from the most to the least severe
+        if (messageLevel.ordinal() > level.ordinal()) {
+            return;
+        }
+
+        var entry = new Entry(System.currentTimeMillis(), messageLevel, sanitizeMessage(supplier), errors);
+        if (!running) {
+            synchronized (out) {
+                out.print(append(entry, new StringBuilder()));
+                out.flush();
+            }
+            return;
+        }
+
+        if (size.incrementAndGet() > capacity && messageLevel != Level.SEVERE) {
+            size.decrementAndGet();
+            dropped.incrementAndGet();
+            return;
+        }
+        entries.add(entry);
+        LockSupport.unpark(writer);
+    }
+
+    private void write() {
+        var batch = new StringBuilder();
+        while (running || !entries.isEmpty()) {
+            try {
+                Entry entry;
+                var count = 0;
+                while (count++ < BATCH_SIZE && (entry = entries.poll()) != null) {
+                    size.decrementAndGet();
+                    append(entry, batch);
+                }
+
+                var lost = dropped.getAndSet(0);
+                if (lost > 0) {
+                    var message = format("%d monitor messages were dropped because the queue was full", lost);
+                    append(new Entry(System.currentTimeMillis(), Level.WARNING, message, null), batch);
+                }
+
+                if (batch.length() > 0) {
+                    synchronized (out) {
+                        out.print(batch);
+                        out.flush();
+                    }
+                    batch.setLength(0);
+                } else if (running) {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                }
+            } catch (RuntimeException e) {
+                // the writer must survive a failing message, there is no other place to report it
+                batch.setLength(0);
+            }
+        }
+    }
+
+    private StringBuilder append(Entry entry, StringBuilder builder) {
+        if (json) {
+            builder.append("{\"timestamp\":\"").append(Instant.ofEpochMilli(entry.timestamp()))
+                    .append("\",\"level\":\"").append(entry.level())
+                    .append("\",\"message\":");
+            appendJsonString(builder, entry.message());
+            if (hasErrors(entry)) {
+                builder.append(",\"errors\":[");
+                var first = true;
+                for (var error : entry.errors()) {
+                    if (error != null) {
+                        builder.append(first ? "" : ",");
+                        appendJsonString(builder, stackTrace(error));
+                        first = false;
+                    }
+                }
+                builder.append(']');
+            }
+            builder.append('}').append(System.lineSeparator());
+        } else {
+            var time = LocalDateTime.ofInstant(Instant.ofEpochMilli(entry.timestamp()), ZoneId.systemDefault());
+            builder.append(entry.level()).append(' ')
+                    .append(time.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME)).append(' ')
+                    .append(entry.message()).append(System.lineSeparator());
+            if (hasErrors(entry)) {
+                for (var error : entry.errors()) {
+                    if (error != null) {
+                        builder.append(stackTrace(error));
+                    }
+                }
+            }
+        }
+        return builder;
+    }
+
+    private boolean hasErrors(Entry entry) {
+        return entry.errors() != null && entry.errors().length > 0;
+    }
+
+    private String stackTrace(Throwable error) {
+        var writer = new StringWriter();
+        error.printStackTrace(new PrintWriter(writer));
+        return writer.toString();
+    }
+
+    private void appendJsonString(StringBuilder builder, String value) {
+        if (value == null) {
+            builder.append("null");
+            return;
+        }
+        builder.append('"');
+        for (var i = 0; i < value.length(); i++) {
+            var c = value.charAt(i);
+            switch (c) {
+                case '"' -> builder.append("\\\"");
+                case '\\' -> builder.append("\\\\");
+                case '\n' -> builder.append("\\n");
+                case '\r' -> builder.append("\\r");
+                case '\t' -> builder.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        builder.append(format("\\u%04x", (int) c));
+                    } else {
+                        builder.append(c);
+                    }
+                }
+            }
+        }
+        builder.append('"');
+    }
+
+    private record Entry(long timestamp, Level level, String message, Throwable[] errors) {
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.monitor.async;
+
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.spi.monitor.ConsoleMonitor;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.MonitorExtension;
+
+import java.util.Locale;
+
+/**
+ * Extension adding the {@link AsyncMonitor}. The monitor is loaded before the runtime configuration, so it is
+ * configured through JVM system properties.
+ */
+@Extension("Async monitor")
+public class AsyncMonitorExtension implements MonitorExtension {
+
+    public static final String CAPACITY_PROPERTY = "edc.monitor.async.capacity";
+    public static final String LEVEL_PROPERTY = "edc.monitor.async.level";
+    public static final String FORMAT_PROPERTY = "edc.monitor.async.format";
+
+    public static final int DEFAULT_CAPACITY = 10_000;
+    public static final String DEFAULT_LEVEL = "DEBUG";
+    public static final String FORMAT_JSON = "json";
+
+    @Override
+    public Monitor getMonitor() {
+        var capacity = Integer.getInteger(CAPACITY_PROPERTY, DEFAULT_CAPACITY);
+        var level = ConsoleMonitor.Level.valueOf(System.getProperty(LEVEL_PROPERTY, DEFAULT_LEVEL).toUpperCase(Locale.ROOT));
+        var json = FORMAT_JSON.equalsIgnoreCase(System.getProperty(FORMAT_PROPERTY));
+
+        var monitor = new AsyncMonitor(System.out, level, capacity, json);
+        Runtime.getRuntime().addShutdownHook(new Thread(monitor::close, "edc-monitor-shutdown"));
+        return monitor;
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.monitor.async;
+
+import org.eclipse.edc.spi.monitor.ConsoleMonitor.Level;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AsyncMonitorTest {
+
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    @Test
+    void shouldWriteMessagesInOrder() {
+        var monitor = new AsyncMonitor(new PrintStream(output), Level.DEBUG, 100, false);
+
+        IntStream.range(0, 10).forEach(i -> monitor.info("message " + i));
+        monitor.close();
+
+        var lines = output.toString().lines().toList();
+        assertThat(lines).hasSize(10);
+        IntStream.range(0, 10).forEach(i -> assertThat(lines.get(i)).startsWith("INFO ").endsWith(" message " + i));
+    }
+
+    @Test
+    void shouldNotEvaluateSupplier_whenLevelIsDisabled() {
+        var monitor = new AsyncMonitor(new PrintStream(output), Level.INFO, 100, false);
+        var evaluated = new AtomicBoolean();
+
+        monitor.debug(() -> {
+            evaluated.set(true);
+            return "debug";
+        });
+        monitor.close();
+
+        assertThat(evaluated).isFalse();
+        assertThat(output.toString()).isEmpty();
+    }
+
+    @Test
+    void shouldWriteJson() {
+        var monitor = new AsyncMonitor(new PrintStream(output), Level.DEBUG, 100, true);
+
+        monitor.warning("a \"quoted\" message", new RuntimeException("failure"));
+        monitor.close();
+
+        assertThat(output.toString().trim())
+                .startsWith("{\"timestamp\":\"")
+                .contains("\"level\":\"WARNING\"", "\"message\":\"a \\\"quoted\\\" message\"", "\"errors\":[\"java.lang.RuntimeException: failure\\n")
+                .endsWith("]}");
+    }
+
+    @Test
+    void shouldDropMessages_whenQueueIsFull() throws InterruptedException {
+        var writing = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var monitor = new AsyncMonitor(new PrintStream(new BlockingOutputStream(output, writing, release)), Level.DEBUG, 2, false);
+
+        monitor.info("first");
+        assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+        IntStream.range(0, 5).forEach(i -> monitor.info("queued " + i));
+        monitor.severe("severe");
+        release.countDown();
+        monitor.close();
+
+        assertThat(output.toString())
+                .contains("first", "queued 0", "queued 1", "severe", "3 monitor messages were dropped")
+                .doesNotContain("queued 2");
+    }
+
+    /**
+     * Blocks the first write until released, to simulate a stalled console.
+     */
+    private static class BlockingOutputStream extends OutputStream {
+        private final OutputStream delegate;
+        private final CountDownLatch writing;
+        private final CountDownLatch release;
+
+        BlockingOutputStream(OutputStream delegate, CountDownLatch writing, CountDownLatch release) {
+            this.delegate = delegate;
+            this.writing = writing;
+            this.release = release;
+        }
+
+        @Override
+        public void write(int b) {
+            await();
+            delegate.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            await();
+            delegate.write(b, off, len);
+        }
+
+        private void await() {
+            writing.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -15,6 +15,7 @@
 package org.eclipse.edc.sql;
 
 import java.sql.Connection;
+import java.util.List;
 import java.util.stream.Stream;
 
 /**
@@ -31,6 +32,24 @@ public interface QueryExecutor {
      */
     int execute(Connection connection, String sql, Object... arguments);
 
+    /**
+     * Intended for mutating queries that have to be executed once for every row of arguments, e.g. multi-row inserts.
+     * The default implementation executes the query once per row, implementations should send the rows to the database
+     * as a single JDBC batch.
+     *
+     * @param connection the connection to be used to execute the query.
+     * @param sql the parametrized sql query
+     * @param arguments the parameters of every execution of the query
+     * @return the rows changed by every execution, as returned by {@link java.sql.Statement#executeBatch()}
+     */
+    default int[] executeBatch(Connection connection, String sql, List<Object[]> arguments) {
+        var rowsChanged = new int[arguments.size()];
+        for (var i = 0; i < rowsChanged.length; i++) {
+            rowsChanged[i] = execute(connection, sql, arguments.get(i));
+        }
+        return rowsChanged;
+    }
+
     /**
      * Intended for reading queries.
      * The resulting {@link Stream} must be closed with the "close()" when a terminal operation is used on the stream
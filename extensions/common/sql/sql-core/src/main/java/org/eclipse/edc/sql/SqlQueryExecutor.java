@@ -16,13 +16,16 @@
 package org.eclipse.edc.sql;
 
 import org.eclipse.edc.spi.persistence.EdcPersistenceException;
+import org.eclipse.edc.sql.pool.StatementCache;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.Arrays;
+import java.sql.Statement;
+import java.util.List;
 import java.util.Objects;
 import java.util.Spliterator;
 import java.util.Spliterators;
@@ -52,9 +55,30 @@ public class SqlQueryExecutor implements QueryExecutor {
         Objects.requireNonNull(sql, "sql");
         Objects.requireNonNull(arguments, "arguments");
 
-        try (var statement = connection.prepareStatement(sql, PreparedStatement.RETURN_GENERATED_KEYS)) {
-            setArguments(statement, arguments);
-            return statement.execute() ? 0 : statement.getUpdateCount();
+        try (var statement = prepare(connection, sql, Statement.RETURN_GENERATED_KEYS)) {
+            setArguments(statement.get(), arguments);
+            return statement.get().execute() ? 0 : statement.get().getUpdateCount();
+        } catch (Exception exception) {
+            throw new EdcPersistenceException(exception.getMessage(), exception);
+        }
+    }
+
+    @Override
+    public int[] executeBatch(Connection connection, String sql, List<Object[]> arguments) {
+        Objects.requireNonNull(connection, "connection");
+        Objects.requireNonNull(sql, "sql");
+        Objects.requireNonNull(arguments, "arguments");
+
+        if (arguments.isEmpty()) {
+            return new int[0];
+        }
+
+        try (var statement = prepare(connection, sql, Statement.NO_GENERATED_KEYS)) {
+            for (var row : arguments) {
+                setArguments(statement.get(), row);
+                statement.get().addBatch();
+            }
+            return statement.get().executeBatch();
         } catch (Exception exception) {
             throw new EdcPersistenceException(exception.getMessage(), exception);
         }
@@ -79,11 +103,11 @@ public class SqlQueryExecutor implements QueryExecutor {
             if (closeConnection) {
                 doorKeeper.takeCareOf(connection);
             }
-            var statement = connection.prepareStatement(sql);
+            var statement = prepare(connection, sql, Statement.NO_GENERATED_KEYS);
             doorKeeper.takeCareOf(statement);
-            statement.setFetchSize(configuration.fetchSize());
-            setArguments(statement, arguments);
-            var resultSet = statement.executeQuery();
+            statement.get().setFetchSize(configuration.fetchSize());
+            setArguments(statement.get(), arguments);
+            var resultSet = statement.get().executeQuery();
             doorKeeper.takeCareOf(resultSet);
             var splititerator = createSpliterator(resultSetMapper, resultSet);
             return stream(splititerator, false).onClose(doorKeeper::close);
@@ -106,14 +130,21 @@ public class SqlQueryExecutor implements QueryExecutor {
     }
 
     private void setArgument(PreparedStatement statement, int position, Object argument) throws SQLException {
-        var argumentHandler = Arrays.stream(ArgumentHandlers.values()).filter(it -> it.accepts(argument))
-                .findFirst().orElse(null);
+        ArgumentHandlers.forArgument(argument).handle(statement, position, argument);
+    }
 
-        if (argumentHandler != null) {
-            argumentHandler.handle(statement, position, argument);
-        } else {
-            statement.setObject(position, argument);
+    /**
+     * Prepares a statement, through the {@link StatementCache} of the connection if its pool provides one.
+     */
+    private CachedStatement prepare(Connection connection, String sql, int autoGeneratedKeys) throws SQLException {
+        if (connection.isWrapperFor(StatementCache.class)) {
+            var statementCache = connection.unwrap(StatementCache.class);
+            return new CachedStatement(statementCache.prepare(sql, autoGeneratedKeys), statementCache, sql, autoGeneratedKeys);
         }
+        var statement = autoGeneratedKeys == Statement.NO_GENERATED_KEYS
+                ? connection.prepareStatement(sql)
+                : connection.prepareStatement(sql, autoGeneratedKeys);
+        return new CachedStatement(statement, null, sql, autoGeneratedKeys);
     }
 
     @NotNull
@@ -135,4 +166,22 @@ public class SqlQueryExecutor implements QueryExecutor {
         };
     }
 
+    /**
+     * A prepared statement that, once used, is given back to the cache it comes from, or closed if there is none.
+     */
+    private record CachedStatement(PreparedStatement statement, @Nullable StatementCache cache, String sql, int autoGeneratedKeys) implements AutoCloseable {
+
+        PreparedStatement get() {
+            return statement;
+        }
+
+        @Override
+        public void close() throws SQLException {
+            if (cache != null) {
+                cache.release(sql, autoGeneratedKeys, statement);
+            } else {
+                statement.close();
+            }
+        }
+    }
 }
@@ -15,6 +15,7 @@
 package org.eclipse.edc.sql.datasource;
 
 import org.eclipse.edc.sql.pool.ConnectionPool;
+import org.eclipse.edc.sql.pool.StatementCache;
 
 import java.sql.Array;
 import java.sql.Blob;
@@ -40,7 +41,8 @@ import java.util.concurrent.Executor;
  * Internal decorator implementation of {@link java.sql.Connection}.
  * <p>
  * On {@link java.sql.Connection#close()} the decorated {@link java.sql.Connection}
- * is returned to the originating {@link ConnectionPool}.
+ * is returned to the originating {@link ConnectionPool}. The {@link StatementCache} the pool keeps for the decorated
+ * connection, if any, can be obtained through {@link #unwrap(Class)}.
  */
 class PooledDataSourceConnection implements Connection {
     private final Connection connection;
@@ -313,11 +315,20 @@ class PooledDataSourceConnection implements Connection {
 
     @Override
     public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface == StatementCache.class) {
+            var statementCache = connectionPool.getStatementCache(connection);
+            if (statementCache != null) {
+                return iface.cast(statementCache);
+            }
+        }
         return connection.unwrap(iface);
     }
 
     @Override
     public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        if (iface == StatementCache.class && connectionPool.getStatementCache(connection) != null) {
+            return true;
+        }
         return connection.isWrapperFor(iface);
     }
 }
@@ -14,6 +14,8 @@
 
 package org.eclipse.edc.sql.pool;
 
+import org.jetbrains.annotations.Nullable;
+
 import java.sql.Connection;
 
 /**
@@ -35,4 +37,15 @@ public interface ConnectionPool extends AutoCloseable {
      * @param connection to be returned to the pool
      */
     void returnConnection(Connection connection);
+
+    /**
+     * Returns the statement cache of a connection managed by the pool.
+     *
+     * @param connection a connection retrieved from the pool
+     * @return the statement cache, null if the pool does not cache statements
+     */
+    @Nullable
+    default StatementCache getStatementCache(Connection connection) {
+        return null;
+    }
 }
@@ -0,0 +1,123 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.sql.pool;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Caches the {@link PreparedStatement}s of a pooled {@link Connection} by SQL text, so that they survive the return of
+ * the connection to its pool. The least recently used statements are closed when the cache is full.
+ * <p>
+ * A statement is taken out of the cache while it is in use and put back by {@link #release(String, int, PreparedStatement)},
+ * so the same SQL can be executed again while the result set of a previous execution is still open.
+ */
+public class StatementCache implements AutoCloseable {
+
+    private final Connection connection;
+    private final int capacity;
+    private final Map<Key, PreparedStatement> statements;
+
+    public StatementCache(Connection connection, int capacity) {
+        this.connection = connection;
+        this.capacity = capacity;
+        this.statements = new LinkedHashMap<>(capacity + 1, 1, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, PreparedStatement> eldest) {
+                if (size() > StatementCache.this.capacity) {
+                    closeQuietly(eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns a cached statement for the SQL, or prepares a new one.
+     *
+     * @param sql the SQL text
+     * @param autoGeneratedKeys one of {@link java.sql.Statement#RETURN_GENERATED_KEYS} or {@link java.sql.Statement#NO_GENERATED_KEYS}
+     * @return the statement, to be given back through {@link #release(String, int, PreparedStatement)}
+     * @throws SQLException if the statement cannot be prepared
+     */
+    public PreparedStatement prepare(String sql, int autoGeneratedKeys) throws SQLException {
+        PreparedStatement statement;
+        synchronized (statements) {
+            statement = statements.remove(new Key(sql, autoGeneratedKeys));
+        }
+        return statement != null ? statement : connection.prepareStatement(sql, autoGeneratedKeys);
+    }
+
+    /**
+     * Puts a statement obtained from {@link #prepare(String, int)} back into the cache. The statement is closed if
+     * another one for the same SQL has been cached in the meantime.
+     *
+     * @param sql the SQL text the statement was prepared for
+     * @param autoGeneratedKeys the generated keys flag the statement was prepared with
+     * @param statement the statement
+     */
+    public void release(String sql, int autoGeneratedKeys, PreparedStatement statement) {
+        try {
+            statement.clearParameters();
+            statement.clearBatch();
+        } catch (SQLException e) {
+            closeQuietly(statement);
+            return;
+        }
+
+        PreparedStatement replaced;
+        synchronized (statements) {
+            replaced = statements.putIfAbsent(new Key(sql, autoGeneratedKeys), statement);
+        }
+        if (replaced != null) {
+            closeQuietly(statement);
+        }
+    }
+
+    /**
+     * Closes all cached statements.
+     */
+    @Override
+    public void close() {
+        synchronized (statements) {
+            statements.values().forEach(StatementCache::closeQuietly);
+            statements.clear();
+        }
+    }
+
+    /**
+     * Returns the number of cached statements.
+     */
+    public int size() {
+        synchronized (statements) {
+            return statements.size();
+        }
+    }
+
+    private static void closeQuietly(PreparedStatement statement) {
+        try {
+            statement.close();
+        } catch (SQLException ignored) {
+            // the statement is not used anymore
+        }
+    }
+
+    private record Key(String sql, int autoGeneratedKeys) {
+    }
+}
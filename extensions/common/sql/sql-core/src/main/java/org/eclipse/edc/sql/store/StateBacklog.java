@@ -0,0 +1,87 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.sql.store;
+
+import org.eclipse.edc.spi.system.StateMachineObserver;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * Number of entities of a store in every state, exposed as one {@link #GAUGE_NAME} gauge per state. The entities are
+ * counted with a single query, whose result is kept for {@link #DEFAULT_MAX_AGE_MILLIS}, so that sampling the gauges
+ * of all the states hits the database once.
+ * <p>
+ * The query groups the rows of the states it counts, so stores only register the states in which entities are still
+ * processed: the final states would make it aggregate a table that only grows. Without an index on the state column
+ * the query still scans the table, once per sampling period at most. The gauges are sampled only by an observer that
+ * exposes them, so the query never runs without a metrics extension, or with the state machine metrics disabled, e.g.
+ * through {@code edc.metrics.statemachine.enabled=false}.
+ */
+public class StateBacklog {
+
+    public static final String GAUGE_NAME = "edc.store.backlog";
+    public static final long DEFAULT_MAX_AGE_MILLIS = 5_000;
+
+    private final Supplier<Map<Integer, Long>> countByState;
+    private final Clock clock;
+    private final long maxAgeMillis;
+    private Map<Integer, Long> counts = Map.of();
+    private Long countedAt;
+
+    public StateBacklog(Supplier<Map<Integer, Long>> countByState, Clock clock) {
+        this(countByState, clock, DEFAULT_MAX_AGE_MILLIS);
+    }
+
+    public StateBacklog(Supplier<Map<Integer, Long>> countByState, Clock clock, long maxAgeMillis) {
+        this.countByState = countByState;
+        this.clock = clock;
+        this.maxAgeMillis = maxAgeMillis;
+    }
+
+    /**
+     * Registers a gauge for every state, tagged by entity type and state name.
+     *
+     * @param observer   the observer that exposes the gauges.
+     * @param entityType the type of the entities.
+     * @param states     the states whose entities are counted.
+     * @param code       provides the code under which a state is persisted.
+     */
+    public <S extends Enum<S>> void register(StateMachineObserver observer, String entityType, List<S> states, ToIntFunction<S> code) {
+        for (var state : states) {
+            var stateCode = code.applyAsInt(state);
+            observer.registerGauge(GAUGE_NAME, Map.of("entity", entityType, "state", state.name()), () -> count(stateCode));
+        }
+    }
+
+    /**
+     * Returns the number of entities in the given state, counting them again if the last count is older than the
+     * maximum age. A count that fails is not attempted again before the maximum age expires.
+     *
+     * @param state the state code.
+     * @return the number of entities.
+     */
+    public synchronized long count(int state) {
+        var now = clock.millis();
+        if (countedAt == null || now - countedAt >= maxAgeMillis) {
+            countedAt = now;
+            counts = countByState.get();
+        }
+        return counts.getOrDefault(state, 0L);
+    }
+}
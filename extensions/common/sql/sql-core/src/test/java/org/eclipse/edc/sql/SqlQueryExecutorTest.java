@@ -14,6 +14,8 @@
 
 package org.eclipse.edc.sql;
 
+import org.eclipse.edc.sql.pool.StatementCache;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -29,8 +31,12 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Timestamp;
 import java.util.Date;
+import java.util.List;
 import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -51,6 +57,52 @@ class SqlQueryExecutorTest {
         verification.verify(preparedStatement);
     }
 
+    @Test
+    void executeBatch_shouldAddEveryRowToOneBatch() throws SQLException {
+        var connection = Mockito.mock(Connection.class);
+        var preparedStatement = Mockito.mock(PreparedStatement.class);
+        when(connection.prepareStatement(DUMMY_SQL)).thenReturn(preparedStatement);
+        when(preparedStatement.executeBatch()).thenReturn(new int[]{ 1, 1 });
+
+        var result = executor.executeBatch(connection, DUMMY_SQL, List.of(new Object[]{ "a", 1 }, new Object[]{ "b", 2 }));
+
+        assertThat(result).containsExactly(1, 1);
+        verify(preparedStatement).setString(1, "a");
+        verify(preparedStatement).setInt(2, 2);
+        verify(preparedStatement, times(2)).addBatch();
+        verify(preparedStatement).close();
+    }
+
+    @Test
+    void executeBatch_shouldExecuteEveryRow_whenNotImplemented() {
+        var connection = Mockito.mock(Connection.class);
+        var queryExecutor = Mockito.mock(QueryExecutor.class, Mockito.CALLS_REAL_METHODS);
+
+        var result = queryExecutor.executeBatch(connection, DUMMY_SQL, List.of(new Object[]{ "a", 1 }, new Object[]{ "b", 2 }));
+
+        assertThat(result).hasSize(2);
+        verify(queryExecutor).execute(connection, DUMMY_SQL, "a", 1);
+        verify(queryExecutor).execute(connection, DUMMY_SQL, "b", 2);
+    }
+
+    @Test
+    void execute_shouldReuseStatement_whenConnectionProvidesStatementCache() throws SQLException {
+        var physicalConnection = Mockito.mock(Connection.class);
+        var preparedStatement = Mockito.mock(PreparedStatement.class);
+        when(physicalConnection.prepareStatement(DUMMY_SQL, Statement.RETURN_GENERATED_KEYS)).thenReturn(preparedStatement);
+        var statementCache = new StatementCache(physicalConnection, 10);
+        var connection = Mockito.mock(Connection.class);
+        when(connection.isWrapperFor(StatementCache.class)).thenReturn(true);
+        when(connection.unwrap(StatementCache.class)).thenReturn(statementCache);
+
+        executor.execute(connection, DUMMY_SQL, "a");
+        executor.execute(connection, DUMMY_SQL, "b");
+
+        verify(physicalConnection, times(1)).prepareStatement(DUMMY_SQL, Statement.RETURN_GENERATED_KEYS);
+        verify(preparedStatement, never()).close();
+        assertThat(statementCache.size()).isEqualTo(1);
+    }
+
     static class TestExecuteParametrizedArgumentProvider implements ArgumentsProvider {
         @Override
         public Stream<? extends Arguments> provideArguments(ExtensionContext context) {
@@ -0,0 +1,87 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.sql.pool;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import static java.sql.Statement.NO_GENERATED_KEYS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StatementCacheTest {
+
+    private final Connection connection = mock();
+    private final StatementCache cache = new StatementCache(connection, 2);
+
+    @Test
+    void prepare_shouldReturnReleasedStatement() throws SQLException {
+        when(connection.prepareStatement(anyString(), anyInt())).thenAnswer(i -> mock(PreparedStatement.class));
+
+        var statement = cache.prepare("SELECT 1", NO_GENERATED_KEYS);
+        cache.release("SELECT 1", NO_GENERATED_KEYS, statement);
+
+        assertThat(cache.prepare("SELECT 1", NO_GENERATED_KEYS)).isSameAs(statement);
+        verify(statement).clearParameters();
+    }
+
+    @Test
+    void prepare_shouldPrepareNewStatement_whenCachedOneIsInUse() throws SQLException {
+        when(connection.prepareStatement(anyString(), anyInt())).thenAnswer(i -> mock(PreparedStatement.class));
+
+        var first = cache.prepare("SELECT 1", NO_GENERATED_KEYS);
+        var second = cache.prepare("SELECT 1", NO_GENERATED_KEYS);
+        cache.release("SELECT 1", NO_GENERATED_KEYS, first);
+        cache.release("SELECT 1", NO_GENERATED_KEYS, second);
+
+        assertThat(second).isNotSameAs(first);
+        verify(second).close();
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void release_shouldCloseLeastRecentlyUsedStatement_whenCacheIsFull() throws SQLException {
+        when(connection.prepareStatement(anyString(), anyInt())).thenAnswer(i -> mock(PreparedStatement.class));
+
+        var first = cache.prepare("SELECT 1", NO_GENERATED_KEYS);
+        var second = cache.prepare("SELECT 2", NO_GENERATED_KEYS);
+        var third = cache.prepare("SELECT 3", NO_GENERATED_KEYS);
+        cache.release("SELECT 1", NO_GENERATED_KEYS, first);
+        cache.release("SELECT 2", NO_GENERATED_KEYS, second);
+        cache.release("SELECT 3", NO_GENERATED_KEYS, third);
+
+        verify(first).close();
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    void close_shouldCloseCachedStatements() throws SQLException {
+        var statement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("SELECT 1", NO_GENERATED_KEYS)).thenReturn(statement);
+        cache.release("SELECT 1", NO_GENERATED_KEYS, cache.prepare("SELECT 1", NO_GENERATED_KEYS));
+
+        cache.close();
+
+        verify(statement).close();
+        assertThat(cache.size()).isZero();
+    }
+}
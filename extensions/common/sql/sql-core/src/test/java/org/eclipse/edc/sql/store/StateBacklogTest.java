@@ -0,0 +1,101 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.sql.store;
+
+import org.eclipse.edc.spi.system.StateMachineObserver;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static java.time.ZoneOffset.UTC;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.sql.store.StateBacklog.GAUGE_NAME;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StateBacklogTest {
+
+    private final Supplier<Map<Integer, Long>> countByState = mock();
+    private final Clock clock = mock();
+
+    @Test
+    void count_shouldQueryOnce_whileCountIsFresh() {
+        when(countByState.get()).thenReturn(Map.of(100, 3L, 200, 5L));
+        when(clock.millis()).thenReturn(1000L, 1500L);
+        var backlog = new StateBacklog(countByState, clock, 1000);
+
+        assertThat(backlog.count(100)).isEqualTo(3);
+        assertThat(backlog.count(200)).isEqualTo(5);
+        verify(countByState, times(1)).get();
+    }
+
+    @Test
+    void count_shouldQueryAgain_whenCountIsExpired() {
+        when(countByState.get()).thenReturn(Map.of(100, 3L), Map.of(100, 4L));
+        when(clock.millis()).thenReturn(1000L, 2000L);
+        var backlog = new StateBacklog(countByState, clock, 1000);
+
+        assertThat(backlog.count(100)).isEqualTo(3);
+        assertThat(backlog.count(100)).isEqualTo(4);
+        verify(countByState, times(2)).get();
+    }
+
+    @Test
+    void count_shouldReturnZero_whenNoEntityInState() {
+        when(countByState.get()).thenReturn(Map.of(100, 3L));
+        var backlog = new StateBacklog(countByState, Clock.fixed(Instant.now(), UTC));
+
+        assertThat(backlog.count(200)).isZero();
+    }
+
+    @Test
+    void register_shouldRegisterGaugePerState() {
+        when(countByState.get()).thenReturn(Map.of(100, 3L));
+        var observer = mock(StateMachineObserver.class);
+        var backlog = new StateBacklog(countByState, Clock.fixed(Instant.now(), UTC));
+
+        backlog.register(observer, "TestEntity", List.of(TestState.values()), TestState::code);
+
+        ArgumentCaptor<Supplier<Number>> started = ArgumentCaptor.forClass(Supplier.class);
+        ArgumentCaptor<Supplier<Number>> completed = ArgumentCaptor.forClass(Supplier.class);
+        verify(observer).registerGauge(eq(GAUGE_NAME), eq(Map.of("entity", "TestEntity", "state", "STARTED")), started.capture());
+        verify(observer).registerGauge(eq(GAUGE_NAME), eq(Map.of("entity", "TestEntity", "state", "COMPLETED")), completed.capture());
+        assertThat(started.getValue().get()).isEqualTo(3L);
+        assertThat(completed.getValue().get()).isEqualTo(0L);
+    }
+
+    private enum TestState {
+        STARTED(100),
+        COMPLETED(200);
+
+        private final int code;
+
+        TestState(int code) {
+            this.code = code;
+        }
+
+        int code() {
+            return code;
+        }
+    }
+}
@@ -16,6 +16,8 @@ package org.eclipse.edc.sql.lease;
 
 import org.eclipse.edc.sql.statement.SqlStatements;
 
+import java.util.Collections;
+
 import static java.lang.String.format;
 
 /**
@@ -30,6 +32,71 @@ public interface LeaseStatements extends SqlStatements {
 
     String getFindLeaseByEntityTemplate();
 
+    /**
+     * Name of the table that holds the leased entities, i.e. the table referencing the lease table.
+     */
+    String getLeasedEntityTableName();
+
+    /**
+     * Primary key column of the leased entity table.
+     */
+    String getIdColumn();
+
+    /**
+     * Deletes the expired leases of a batch of entities. Expects the entity IDs followed by the current timestamp as
+     * parameters.
+     *
+     * @param count the number of entities in the batch.
+     */
+    default String getDeleteExpiredLeasesTemplate(int count) {
+        return format("DELETE FROM %s WHERE %s IN (SELECT %s FROM %s WHERE %s IN %s) AND (? > (%s + %s));",
+                getLeaseTableName(), getLeaseIdColumn(), getLeaseIdColumn(), getLeasedEntityTableName(), getIdColumn(),
+                placeholders(count), getLeasedAtColumn(), getLeaseDurationColumn());
+    }
+
+    /**
+     * Inserts a batch of leases with a single statement. Expects lease ID, leased-by, leased-at and lease duration for
+     * every lease as parameters.
+     *
+     * @param count the number of leases in the batch.
+     */
+    default String getInsertLeasesTemplate(int count) {
+        var values = String.join(", ", Collections.nCopies(count, "(?, ?, ?, ?)"));
+        return format("INSERT INTO %s (%s, %s, %s, %s) VALUES %s;", getLeaseTableName(), getLeaseIdColumn(),
+                getLeasedByColumn(), getLeasedAtColumn(), getLeaseDurationColumn(), values);
+    }
+
+    /**
+     * Assigns the leases of a batch to their entities with a single statement. The lease ID of every entity is composed
+     * of a common batch prefix and the entity ID. Only entities that are not leased (anymore) are updated, so that an
+     * entity that was leased concurrently keeps its lease. Expects the batch prefix, the entity IDs and the current
+     * timestamp as parameters.
+     *
+     * @param count the number of entities in the batch.
+     */
+    default String getUpdateLeasesTemplate(int count) {
+        return format("UPDATE %s SET %s = (? || %s) WHERE %s IN %s AND %s;", getLeasedEntityTableName(), getLeaseIdColumn(),
+                getIdColumn(), getIdColumn(), placeholders(count), getNotLeasedFilter());
+    }
+
+    /**
+     * Selects the IDs of the entities that hold one of the given leases.
+     *
+     * @param count the number of leases.
+     */
+    default String getFindEntitiesByLeaseTemplate(int count) {
+        return format("SELECT %s FROM %s WHERE %s IN %s;", getIdColumn(), getLeasedEntityTableName(), getLeaseIdColumn(), placeholders(count));
+    }
+
+    /**
+     * Deletes a batch of leases by their ID.
+     *
+     * @param count the number of leases.
+     */
+    default String getDeleteLeasesTemplate(int count) {
+        return format("DELETE FROM %s WHERE %s IN %s;", getLeaseTableName(), getLeaseIdColumn(), placeholders(count));
+    }
+
     default String getNotLeasedFilter() {
         return format("(%s IS NULL OR %s IN (SELECT %s FROM %s WHERE (? > (%s + %s))))",
                 getLeaseIdColumn(), getLeaseIdColumn(), getLeaseIdColumn(),
@@ -56,4 +123,7 @@ public interface LeaseStatements extends SqlStatements {
         return "lease_id";
     }
 
+    private String placeholders(int count) {
+        return format("(%s)", String.join(", ", Collections.nCopies(count, "?")));
+    }
 }
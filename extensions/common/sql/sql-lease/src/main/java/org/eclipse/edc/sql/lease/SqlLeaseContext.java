@@ -17,6 +17,7 @@ package org.eclipse.edc.sql.lease;
 
 
 import org.eclipse.edc.spi.persistence.LeaseContext;
+import org.eclipse.edc.spi.system.StateMachineObserver;
 import org.eclipse.edc.sql.QueryExecutor;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.jetbrains.annotations.Nullable;
@@ -26,13 +27,20 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.Clock;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * SQL-based implementation of the LeaseContext.
  * Acquiring a lease is implemented by adding an entry into the "lease" table in the database
- * Breaking a lease is implemented by deleting the respective entry
+ * Breaking a lease is implemented by deleting the respective entry.
+ * A whole batch of entities can be leased at once with {@link #acquireLeases(Collection)}, which needs a constant number
+ * of statements regardless of the batch size.
  */
 public class SqlLeaseContext implements LeaseContext {
     private static final long DEFAULT_LEASE_DURATION = 60_000;
@@ -43,8 +51,11 @@ public class SqlLeaseContext implements LeaseContext {
     private final Clock clock;
     private final Duration leaseDuration;
     private final QueryExecutor queryExecutor;
+    private final String entityType;
+    private final StateMachineObserver observer;
 
-    SqlLeaseContext(TransactionContext trxContext, LeaseStatements statements, String leaseHolder, Clock clock, Duration leaseDuration, Connection connection, QueryExecutor queryExecutor) {
+    SqlLeaseContext(TransactionContext trxContext, LeaseStatements statements, String leaseHolder, Clock clock, Duration leaseDuration, Connection connection, QueryExecutor queryExecutor,
+                    String entityType, StateMachineObserver observer) {
         this.trxContext = trxContext;
         this.statements = statements;
         this.leaseHolder = leaseHolder;
@@ -52,6 +63,8 @@ public class SqlLeaseContext implements LeaseContext {
         this.leaseDuration = leaseDuration;
         this.connection = connection;
         this.queryExecutor = queryExecutor;
+        this.entityType = entityType;
+        this.observer = observer;
     }
 
     @Override
@@ -73,12 +86,14 @@ public class SqlLeaseContext implements LeaseContext {
 
     @Override
     public void acquireLease(String entityId) {
+        var start = System.nanoTime();
         trxContext.execute(() -> {
             var now = clock.millis();
 
             var lease = getLease(entityId);
 
             if (lease != null && !lease.isExpired(clock)) {
+                observer.leasesAcquired(entityType, 1, 0, Duration.ofNanos(System.nanoTime() - start));
                 throw new IllegalStateException("Entity is currently leased!");
             }
 
@@ -98,9 +113,30 @@ public class SqlLeaseContext implements LeaseContext {
             var updStmt = statements.getUpdateLeaseTemplate();
             queryExecutor.execute(connection, updStmt, id, entityId);
 
+            observer.leasesAcquired(entityType, 1, 1, Duration.ofNanos(System.nanoTime() - start));
+
         });
     }
 
+    /**
+     * Acquires leases for a batch of entities using a constant number of statements: expired leases are deleted, the new
+     * leases are inserted and assigned to the entities in bulk. Entities that are currently leased by someone else, e.g.
+     * because another runtime leased them concurrently, are skipped.
+     *
+     * @param entityIds The IDs of the entities to lease.
+     * @return The IDs of the entities that were actually leased.
+     */
+    public Set<String> acquireLeases(Collection<String> entityIds) {
+        if (entityIds.isEmpty()) {
+            return Set.of();
+        }
+
+        var start = System.nanoTime();
+        var leased = trxContext.execute(() -> leaseAll(entityIds));
+        observer.leasesAcquired(entityType, entityIds.size(), leased.size(), Duration.ofNanos(System.nanoTime() - start));
+        return leased;
+    }
+
     /**
      * Fetches a lease for a particular entity
      *
@@ -112,6 +148,43 @@ public class SqlLeaseContext implements LeaseContext {
         return queryExecutor.single(connection, false, this::mapLease, stmt, entityId);
     }
 
+    private Set<String> leaseAll(Collection<String> entityIds) {
+        var now = clock.millis();
+        var ids = new ArrayList<>(entityIds);
+        var count = ids.size();
+
+        //clean out expired leases
+        var deleteArgs = Stream.concat(ids.stream(), Stream.of(now)).toArray();
+        queryExecutor.execute(connection, statements.getDeleteExpiredLeasesTemplate(count), deleteArgs);
+
+        // create new leases in DB, the lease id is composed of a batch prefix and the entity id
+        var prefix = UUID.randomUUID() + "-";
+        var duration = leaseDuration != null ? leaseDuration.toMillis() : DEFAULT_LEASE_DURATION;
+        var insertArgs = ids.stream().flatMap(id -> Stream.of(prefix + id, leaseHolder, now, duration)).toArray();
+        queryExecutor.execute(connection, statements.getInsertLeasesTemplate(count), insertArgs);
+
+        //update entities with lease -> effectively lease entities
+        var updateArgs = Stream.of(Stream.of(prefix), ids.stream(), Stream.of(now)).flatMap(s -> s).toArray();
+        var updated = queryExecutor.execute(connection, statements.getUpdateLeasesTemplate(count), updateArgs);
+
+        if (updated == count) {
+            return Set.copyOf(ids);
+        }
+
+        // some entities were leased concurrently: determine the ones we hold and remove the unused leases
+        var leaseIds = ids.stream().map(id -> prefix + id).toArray();
+        Set<String> leased;
+        try (var stream = queryExecutor.query(connection, false, r -> r.getString(statements.getIdColumn()), statements.getFindEntitiesByLeaseTemplate(count), leaseIds)) {
+            leased = stream.collect(Collectors.toSet());
+        }
+
+        var unused = ids.stream().filter(id -> !leased.contains(id)).map(id -> prefix + id).collect(Collectors.toList());
+        if (!unused.isEmpty()) {
+            queryExecutor.execute(connection, statements.getDeleteLeasesTemplate(unused.size()), unused.toArray());
+        }
+        return leased;
+    }
+
     private SqlLease mapLease(ResultSet resultSet) throws SQLException {
         var lease = new SqlLease(resultSet.getString(statements.getLeasedByColumn()),
                 resultSet.getLong(statements.getLeasedAtColumn()),
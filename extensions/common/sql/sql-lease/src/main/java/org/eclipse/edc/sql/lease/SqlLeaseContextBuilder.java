@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.sql.lease;
 
+import org.eclipse.edc.spi.system.StateMachineObserver;
 import org.eclipse.edc.sql.QueryExecutor;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
@@ -47,6 +48,8 @@ public class SqlLeaseContextBuilder {
     private final QueryExecutor queryExecutor;
     private String leaseHolder;
     private Duration leaseDuration;
+    private String entityType = "entity";
+    private StateMachineObserver observer = StateMachineObserver.noop();
 
     private SqlLeaseContextBuilder(TransactionContext trxContext, LeaseStatements statements, String leaseHolder, Clock clock, QueryExecutor queryExecutor) {
         this.trxContext = trxContext;
@@ -80,12 +83,21 @@ public class SqlLeaseContextBuilder {
         return this;
     }
 
+    /**
+     * Reports the outcome of acquiring leases to the given observer, using the entity type as label.
+     */
+    public SqlLeaseContextBuilder observedBy(String entityType, StateMachineObserver observer) {
+        this.entityType = Objects.requireNonNull(entityType, "entityType");
+        this.observer = Objects.requireNonNull(observer, "observer");
+        return this;
+    }
+
     /**
      * sets the {@linkplain Connection} on which the next DB statement is executed.<p>
      * <strong>Storing references to the {@link SqlLeaseContext} is strongly discouraged, as this would keep the database {@link Connection} open!</strong>
      */
     public SqlLeaseContext withConnection(Connection connection) {
         Objects.requireNonNull(connection, "connection");
-        return new SqlLeaseContext(trxContext, statements, leaseHolder, clock, leaseDuration, connection, queryExecutor);
+        return new SqlLeaseContext(trxContext, statements, leaseHolder, clock, leaseDuration, connection, queryExecutor, entityType, observer);
     }
 }
@@ -16,6 +16,7 @@
 package org.eclipse.edc.sql.lease;
 
 import org.eclipse.edc.junit.annotations.ComponentTest;
+import org.eclipse.edc.spi.system.StateMachineObserver;
 import org.eclipse.edc.sql.ResultSetMapper;
 import org.eclipse.edc.sql.SqlQueryExecutor;
 import org.eclipse.edc.sql.testfixtures.PostgresqlLocalInstance;
@@ -38,11 +39,18 @@ import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static java.time.ZoneOffset.UTC;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -145,6 +153,107 @@ class PostgresLeaseContextTest {
         assertThatThrownBy(() -> leaseContext.acquireLease(id)).isInstanceOf(IllegalStateException.class);
     }
 
+    @Test
+    void acquireLeases(Connection connection) {
+        insertTestEntity("id1", connection);
+        insertTestEntity("id2", connection);
+
+        var leased = leaseContext.acquireLeases(List.of("id1", "id2"));
+
+        assertThat(leased).containsExactlyInAnyOrder("id1", "id2");
+        assertThat(isLeased("id1", connection)).isTrue();
+        assertThat(isLeased("id2", connection)).isTrue();
+        assertThat(leaseContext.getLease("id1")).isNotNull()
+                .extracting(SqlLease::getLeasedBy).isEqualTo(LEASE_HOLDER);
+    }
+
+    @Test
+    void acquireLeases_whenEmpty_shouldNotExecuteStatements(Connection connection) throws SQLException {
+        assertThat(leaseContext.acquireLeases(List.of())).isEmpty();
+
+        verify(connection, never()).prepareStatement(anyString(), anyInt());
+    }
+
+    @Test
+    void acquireLeases_shouldSkipEntitiesLeasedByOthers(Connection connection) {
+        insertTestEntity("id1", connection);
+        insertTestEntity("id2", connection);
+        builder.by("someone-else").withConnection(connection).acquireLease("id1");
+
+        var leased = leaseContext.acquireLeases(List.of("id1", "id2"));
+
+        assertThat(leased).containsExactly("id2");
+        assertThat(leaseContext.getLease("id1")).isNotNull()
+                .extracting(SqlLease::getLeasedBy).isEqualTo("someone-else");
+        assertThat(leaseContext.getLease("id2")).isNotNull()
+                .extracting(SqlLease::getLeasedBy).isEqualTo(LEASE_HOLDER);
+    }
+
+    @Test
+    void acquireLeases_whenExpiredLeasePresent_shouldReplaceIt(Connection connection) {
+        insertTestEntity("id1", connection);
+        builder.by("someone-else").withConnection(connection).acquireLease("id1");
+        var oldLeaseId = leaseContext.getLease("id1").getLeaseId();
+
+        var twoMinutesAheadClock = Clock.offset(Clock.fixed(now, UTC), Duration.of(2, ChronoUnit.MINUTES));
+        var twoMinutesAheadContext = SqlLeaseContextBuilder.with(transactionContext, LEASE_HOLDER, dialect, twoMinutesAheadClock, queryExecutor)
+                .withConnection(connection);
+
+        var leased = twoMinutesAheadContext.acquireLeases(List.of("id1"));
+
+        assertThat(leased).containsExactly("id1");
+        var newLease = twoMinutesAheadContext.getLease("id1");
+        assertThat(newLease).isNotNull();
+        assertThat(newLease.getLeaseId()).isNotEqualTo(oldLeaseId);
+        assertThat(newLease.getLeasedBy()).isEqualTo(LEASE_HOLDER);
+    }
+
+    @Test
+    void acquireLease_shouldReportAcquiredLeaseToObserver(Connection connection) {
+        var observer = mock(StateMachineObserver.class);
+        insertTestEntity("id1", connection);
+
+        builder.observedBy("TestEntity", observer).withConnection(connection).acquireLease("id1");
+
+        verify(observer).leasesAcquired(eq("TestEntity"), eq(1), eq(1), any(Duration.class));
+    }
+
+    @Test
+    void acquireLease_whenLeasedByOther_shouldReportConflictToObserver(Connection connection) {
+        var observer = mock(StateMachineObserver.class);
+        insertTestEntity("id1", connection);
+        builder.by("someone-else").withConnection(connection).acquireLease("id1");
+
+        var leaseContext = builder.by(LEASE_HOLDER).observedBy("TestEntity", observer).withConnection(connection);
+
+        assertThatThrownBy(() -> leaseContext.acquireLease("id1")).isInstanceOf(IllegalStateException.class);
+        verify(observer).leasesAcquired(eq("TestEntity"), eq(1), eq(0), any(Duration.class));
+    }
+
+    @Test
+    void acquireLeases_shouldReportRequestedAndAcquiredLeasesToObserver(Connection connection) {
+        var observer = mock(StateMachineObserver.class);
+        insertTestEntity("id1", connection);
+        insertTestEntity("id2", connection);
+        insertTestEntity("id3", connection);
+        builder.by("someone-else").withConnection(connection).acquireLease("id1");
+
+        var leaseContext = builder.by(LEASE_HOLDER).observedBy("TestEntity", observer).withConnection(connection);
+        var leased = leaseContext.acquireLeases(List.of("id1", "id2", "id3"));
+
+        assertThat(leased).containsExactlyInAnyOrder("id2", "id3");
+        verify(observer).leasesAcquired(eq("TestEntity"), eq(3), eq(2), any(Duration.class));
+    }
+
+    @Test
+    void acquireLeases_whenEmpty_shouldNotReportToObserver(Connection connection) {
+        var observer = mock(StateMachineObserver.class);
+
+        builder.observedBy("TestEntity", observer).withConnection(connection).acquireLeases(List.of());
+
+        verify(observer, never()).leasesAcquired(any(), anyInt(), anyInt(), any());
+    }
+
     @Test
     void getLease(Connection connection) {
         var id = "test-id";
@@ -249,6 +358,16 @@ class PostgresLeaseContextTest {
             return "SELECT * FROM edc_lease WHERE lease_id = (SELECT lease_id FROM " + getEntityTableName() + " WHERE id=?)";
         }
 
+        @Override
+        public String getLeasedEntityTableName() {
+            return getEntityTableName();
+        }
+
+        @Override
+        public String getIdColumn() {
+            return "id";
+        }
+
         public String getEntityTableName() {
             return "edc_test_entity";
         }
@@ -23,17 +23,22 @@ import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.persistence.EdcPersistenceException;
 import org.eclipse.edc.sql.pool.ConnectionPool;
+import org.eclipse.edc.sql.pool.StatementCache;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.sql.DataSource;
 
 public final class CommonsConnectionPool implements ConnectionPool, AutoCloseable {
     private final GenericObjectPool<Connection> connectionObjectPool;
     private final CommonsConnectionPoolConfig poolConfig;
+    private final Map<Connection, StatementCache> statementCaches = new ConcurrentHashMap<>();
 
     public CommonsConnectionPool(DataSource dataSource, CommonsConnectionPoolConfig commonsConnectionPoolConfig, Monitor monitor) {
         this.poolConfig = commonsConnectionPoolConfig;
@@ -41,7 +46,7 @@ public final class CommonsConnectionPool implements ConnectionPool, AutoCloseabl
         Objects.requireNonNull(commonsConnectionPoolConfig, "commonsConnectionPoolConfig");
 
         this.connectionObjectPool = new GenericObjectPool<>(
-                new PooledConnectionObjectFactory(dataSource, commonsConnectionPoolConfig.getTestQuery(), monitor),
+                new PooledConnectionObjectFactory(dataSource, commonsConnectionPoolConfig.getTestQuery(), monitor, statementCaches),
                 getGenericObjectPoolConfig(commonsConnectionPoolConfig));
     }
 
@@ -79,6 +84,15 @@ public final class CommonsConnectionPool implements ConnectionPool, AutoCloseabl
         connectionObjectPool.returnObject(connection);
     }
 
+    @Override
+    public @Nullable StatementCache getStatementCache(Connection connection) {
+        var cacheSize = poolConfig.getStatementCacheSize();
+        if (cacheSize <= 0) {
+            return null;
+        }
+        return statementCaches.computeIfAbsent(connection, c -> new StatementCache(c, cacheSize));
+    }
+
     @Override
     public void close() {
         connectionObjectPool.close();
@@ -93,11 +107,13 @@ public final class CommonsConnectionPool implements ConnectionPool, AutoCloseabl
         private final DataSource dataSource;
 
         private final Monitor monitor;
+        private final Map<Connection, StatementCache> statementCaches;
 
-        PooledConnectionObjectFactory(@NotNull DataSource dataSource, @NotNull String testQuery, Monitor monitor) {
+        PooledConnectionObjectFactory(@NotNull DataSource dataSource, @NotNull String testQuery, Monitor monitor, Map<Connection, StatementCache> statementCaches) {
             this.dataSource = Objects.requireNonNull(dataSource);
             this.testQuery = Objects.requireNonNull(testQuery);
             this.monitor = monitor;
+            this.statementCaches = statementCaches;
         }
 
         @Override
@@ -132,6 +148,11 @@ public final class CommonsConnectionPool implements ConnectionPool, AutoCloseabl
 
             Connection connection = pooledObject.getObject();
 
+            var statementCache = connection != null ? statementCaches.remove(connection) : null;
+            if (statementCache != null) {
+                statementCache.close();
+            }
+
             if (connection != null && !connection.isClosed()) {
                 connection.close();
             }
@@ -64,6 +64,9 @@ interface CommonsConnectionPoolConfigKeys {
 
     String POOL_CONNECTION_TEST_QUERY = "pool.connection.test.query";
 
+    @Setting(value = "Number of prepared statements cached per pooled connection, 0 disables the cache", type = "int", defaultValue = "0", required = false)
+    String POOL_CONNECTION_STATEMENT_CACHE_SIZE = "pool.connection.statement-cache.size";
+
     @Setting(required = true)
     String URL = "url";
 
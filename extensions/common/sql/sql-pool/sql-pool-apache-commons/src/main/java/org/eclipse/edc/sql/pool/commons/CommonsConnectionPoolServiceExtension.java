@@ -40,6 +40,7 @@ import static org.eclipse.edc.sql.pool.commons.CommonsConnectionPoolConfigKeys.C
 import static org.eclipse.edc.sql.pool.commons.CommonsConnectionPoolConfigKeys.POOL_CONNECTIONS_MAX_IDLE;
 import static org.eclipse.edc.sql.pool.commons.CommonsConnectionPoolConfigKeys.POOL_CONNECTIONS_MAX_TOTAL;
 import static org.eclipse.edc.sql.pool.commons.CommonsConnectionPoolConfigKeys.POOL_CONNECTIONS_MIN_IDLE;
+import static org.eclipse.edc.sql.pool.commons.CommonsConnectionPoolConfigKeys.POOL_CONNECTION_STATEMENT_CACHE_SIZE;
 import static org.eclipse.edc.sql.pool.commons.CommonsConnectionPoolConfigKeys.POOL_CONNECTION_TEST_ON_BORROW;
 import static org.eclipse.edc.sql.pool.commons.CommonsConnectionPoolConfigKeys.POOL_CONNECTION_TEST_ON_CREATE;
 import static org.eclipse.edc.sql.pool.commons.CommonsConnectionPoolConfigKeys.POOL_CONNECTION_TEST_ON_RETURN;
@@ -148,6 +149,7 @@ public class CommonsConnectionPoolServiceExtension implements ServiceExtension {
         setIfProvidedBoolean(POOL_CONNECTION_TEST_ON_RETURN, builder::testConnectionOnReturn, config);
         setIfProvidedBoolean(POOL_CONNECTION_TEST_WHILE_IDLE, builder::testConnectionWhileIdle, config);
         setIfProvidedString(POOL_CONNECTION_TEST_QUERY, builder::testQuery, config);
+        builder.statementCacheSize(config.getInteger(POOL_CONNECTION_STATEMENT_CACHE_SIZE, 0));
 
         return new CommonsConnectionPool(unPooledDataSource, builder.build(), monitor);
     }
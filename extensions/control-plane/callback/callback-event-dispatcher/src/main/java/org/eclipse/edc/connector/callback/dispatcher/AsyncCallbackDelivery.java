@@ -0,0 +1,163 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.callback.dispatcher;
+
+import org.eclipse.edc.connector.spi.callback.CallbackEventRemoteMessage;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
+import org.eclipse.edc.spi.monitor.Monitor;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.lang.String.format;
+
+/**
+ * Delivers non-transactional callback messages without blocking the publisher. Every callback endpoint has a bounded
+ * queue whose messages are sent in order, one at a time, while different endpoints are served concurrently, so a slow
+ * receiver only delays its own messages. A failed delivery is retried with exponential backoff, up to the configured
+ * number of retries, before the message is dropped.
+ * <p>
+ * When the queue of an endpoint is full, {@link #deliver(CallbackEventRemoteMessage)} blocks the publishing thread until
+ * there is room, at most for the enqueue timeout, after which the message is dropped. The queue of an endpoint is
+ * removed as soon as it has no more messages to send, so endpoints that are not called anymore do not retain memory.
+ */
+public class AsyncCallbackDelivery {
+
+    private final RemoteMessageDispatcherRegistry dispatcher;
+    private final ScheduledExecutorService executor;
+    private final Monitor monitor;
+    private final int queueCapacity;
+    private final int maxRetries;
+    private final long initialBackoffMillis;
+    private final long enqueueTimeoutMillis;
+    private final Map<String, EndpointQueue> queues = new ConcurrentHashMap<>();
+
+    public AsyncCallbackDelivery(RemoteMessageDispatcherRegistry dispatcher, ScheduledExecutorService executor, Monitor monitor,
+                                 int queueCapacity, int maxRetries, long initialBackoffMillis, long enqueueTimeoutMillis) {
+        this.dispatcher = dispatcher;
+        this.executor = executor;
+        this.monitor = monitor;
+        this.queueCapacity = queueCapacity;
+        this.maxRetries = maxRetries;
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.enqueueTimeoutMillis = enqueueTimeoutMillis;
+    }
+
+    /**
+     * Enqueues a message for delivery to its callback endpoint, waiting at most for the enqueue timeout when the queue
+     * of the endpoint is full.
+     */
+    public void deliver(CallbackEventRemoteMessage<?> message) {
+        var uri = message.getCounterPartyAddress();
+        var queue = queues.compute(uri, (k, q) -> {
+            var endpointQueue = q == null ? new EndpointQueue(k, queueCapacity) : q;
+            endpointQueue.publishers++;
+            return endpointQueue;
+        });
+        try {
+            if (!queue.messages.offer(message, enqueueTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                monitor.warning(format("Callback queue of URI: %s is full, the event %s is dropped", uri, message.getEventEnvelope().getPayload().name()));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new EdcException(e);
+        } finally {
+            queues.computeIfPresent(uri, (k, q) -> {
+                q.publishers--;
+                return q;
+            });
+        }
+        drain(queue);
+    }
+
+    private void drain(EndpointQueue queue) {
+        if (queue.sending.compareAndSet(false, true)) {
+            var message = queue.messages.poll();
+            if (message == null) {
+                queue.sending.set(false);
+                // a message may have been enqueued after the poll, before releasing the queue
+                if (!queue.messages.isEmpty()) {
+                    drain(queue);
+                } else {
+                    evictIfIdle(queue);
+                }
+                return;
+            }
+            send(queue, message, 0);
+        }
+    }
+
+    /**
+     * Removes the queue of an endpoint that has nothing to send. Publishers register on the queue while enqueueing, so
+     * a message being enqueued keeps the queue, while a later one gets a new queue.
+     */
+    private void evictIfIdle(EndpointQueue queue) {
+        queues.computeIfPresent(queue.uri, (k, q) -> q == queue && q.publishers == 0 && q.messages.isEmpty() && !q.sending.get() ? null : q);
+    }
+
+    private void send(EndpointQueue queue, CallbackEventRemoteMessage<?> message, int attempt) {
+        try {
+            dispatcher.dispatch(Object.class, message).whenComplete((result, throwable) -> {
+                if (throwable == null) {
+                    next(queue);
+                } else {
+                    retryOrDrop(queue, message, attempt, throwable);
+                }
+            });
+        } catch (Exception e) {
+            retryOrDrop(queue, message, attempt, e);
+        }
+    }
+
+    private void retryOrDrop(EndpointQueue queue, CallbackEventRemoteMessage<?> message, int attempt, Throwable throwable) {
+        if (attempt < maxRetries) {
+            var delay = initialBackoffMillis << Math.min(attempt, 20);
+            monitor.debug(() -> format("Failed to invoke callback at URI: %s, retrying in %d ms", message.getCounterPartyAddress(), delay));
+            executor.schedule(() -> send(queue, message, attempt + 1), delay, TimeUnit.MILLISECONDS);
+        } else {
+            monitor.severe(format("Failed to invoke callback at URI: %s after %d attempts, the event %s is dropped",
+                    message.getCounterPartyAddress(), attempt + 1, message.getEventEnvelope().getPayload().name()), throwable);
+            next(queue);
+        }
+    }
+
+    private void next(EndpointQueue queue) {
+        queue.sending.set(false);
+        executor.execute(() -> drain(queue));
+    }
+
+    int endpointCount() {
+        return queues.size();
+    }
+
+    private static class EndpointQueue {
+        private final String uri;
+        private final BlockingQueue<CallbackEventRemoteMessage<?>> messages;
+        private final AtomicBoolean sending = new AtomicBoolean();
+        // only accessed within compute operations of the queue map on this endpoint
+        private int publishers;
+
+        EndpointQueue(String uri, int capacity) {
+            this.uri = uri;
+            messages = new ArrayBlockingQueue<>(capacity);
+        }
+    }
+}
@@ -24,9 +24,13 @@ import org.eclipse.edc.spi.event.EventSubscriber;
 import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.types.domain.callback.CallbackAddress;
+import org.jetbrains.annotations.Nullable;
 
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -36,6 +40,10 @@ import static java.lang.String.format;
  * Subscriber for invoking callbacks associated to {@link Event}. If the {@link CallbackAddress#getEvents()} matches
  * the {@link Event#name()}, the callback is the invoked using a {@link RemoteMessageDispatcherRegistry} with protocol
  * extracted by {@link CallbackAddress#getUri()}
+ * <p>
+ * The matching callbacks are invoked concurrently. Without an {@link AsyncCallbackDelivery} the subscriber waits for
+ * all of them and fails if any of them fails, otherwise the messages are handed over to it and the subscriber returns
+ * immediately.
  */
 public class CallbackEventDispatcher implements EventSubscriber {
     private final RemoteMessageDispatcherRegistry dispatcher;
@@ -43,8 +51,15 @@ public class CallbackEventDispatcher implements EventSubscriber {
     private final Monitor monitor;
     private final CallbackRegistry callbackRegistry;
     private final CallbackProtocolResolverRegistry resolverRegistry;
+    private final AsyncCallbackDelivery asyncDelivery;
 
     public CallbackEventDispatcher(RemoteMessageDispatcherRegistry dispatcher, CallbackRegistry callbackRegistry, CallbackProtocolResolverRegistry resolveRegistry, boolean transactional, Monitor monitor) {
+        this(dispatcher, callbackRegistry, resolveRegistry, transactional, monitor, null);
+    }
+
+    public CallbackEventDispatcher(RemoteMessageDispatcherRegistry dispatcher, CallbackRegistry callbackRegistry, CallbackProtocolResolverRegistry resolveRegistry, boolean transactional, Monitor monitor,
+                                   @Nullable AsyncCallbackDelivery asyncDelivery) {
+        this.asyncDelivery = asyncDelivery;
         this.dispatcher = dispatcher;
         this.callbackRegistry = callbackRegistry;
         this.transactional = transactional;
@@ -57,14 +72,17 @@ public class CallbackEventDispatcher implements EventSubscriber {
         var callbacks = getCallbacks(eventEnvelope);
         var eventName = eventEnvelope.getPayload().name();
 
+        var dispatches = new ArrayList<Map.Entry<CallbackAddress, CompletableFuture<?>>>();
         for (var callback : callbacks) {
             if (matches(eventName, callback)) {
                 try {
                     var protocol = resolverRegistry.resolve(URI.create(callback.getUri()).getScheme());
-                    if (protocol != null) {
-                        dispatcher.dispatch(Object.class, new CallbackEventRemoteMessage<>(callback, eventEnvelope, protocol)).get();
-                    } else {
+                    if (protocol == null) {
                         monitor.warning(format("Failed to resolve protocol for URI %s", callback.getUri()));
+                    } else if (asyncDelivery != null) {
+                        asyncDelivery.deliver(new CallbackEventRemoteMessage<>(callback, eventEnvelope, protocol));
+                    } else {
+                        dispatches.add(Map.entry(callback, dispatcher.dispatch(Object.class, new CallbackEventRemoteMessage<>(callback, eventEnvelope, protocol))));
                     }
                 } catch (Exception e) {
                     monitor.severe(format("Failed to invoke callback at URI: %s", callback.getUri()), e);
@@ -72,6 +90,16 @@ public class CallbackEventDispatcher implements EventSubscriber {
                 }
             }
         }
+
+        // the dispatches run concurrently, so waiting for them one after the other takes as long as the slowest one
+        for (var dispatch : dispatches) {
+            try {
+                dispatch.getValue().get();
+            } catch (Exception e) {
+                monitor.severe(format("Failed to invoke callback at URI: %s", dispatch.getKey().getUri()), e);
+                throw new EdcException(e);
+            }
+        }
     }
 
     public boolean isTransactional() {
@@ -20,19 +20,33 @@ import org.eclipse.edc.connector.spi.callback.CallbackRegistry;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.event.Event;
 import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
 @Provides(CallbackProtocolResolverRegistry.class)
 @Extension(value = CallbackEventDispatcherExtension.NAME)
 public class CallbackEventDispatcherExtension implements ServiceExtension {
 
     public static final String NAME = "Callback dispatcher extension";
 
+    @Setting(value = "Maximum number of non-transactional callback messages queued per callback endpoint", type = "int", defaultValue = "1000")
+    private static final String ASYNC_QUEUE_SIZE = "edc.callback.async.queue.size";
+    @Setting(value = "Number of times a non-transactional callback is retried", type = "int", defaultValue = "5")
+    private static final String ASYNC_RETRY_MAX = "edc.callback.async.retry.max";
+    @Setting(value = "Delay in milliseconds before the first retry of a non-transactional callback, doubled for each further retry", type = "long", defaultValue = "1000")
+    private static final String ASYNC_RETRY_BACKOFF = "edc.callback.async.retry.backoff-millis";
+    @Setting(value = "Maximum time in milliseconds an event publisher waits for room in the queue of a callback endpoint, before the callback is dropped", type = "long", defaultValue = "5000")
+    private static final String ASYNC_ENQUEUE_TIMEOUT = "edc.callback.async.enqueue.timeout-millis";
+
     @Inject
     RemoteMessageDispatcherRegistry dispatcherRegistry;
 
@@ -45,6 +59,11 @@ public class CallbackEventDispatcherExtension implements ServiceExtension {
     @Inject
     CallbackRegistry callbackRegistry;
 
+    @Inject
+    ExecutorInstrumentation executorInstrumentation;
+
+    private ScheduledExecutorService deliveryExecutor;
+
     @Override
     public String name() {
         return NAME;
@@ -58,7 +77,20 @@ public class CallbackEventDispatcherExtension implements ServiceExtension {
 
         // Event listener for invoking callbacks in sync (transactional) and async (not transactional)
         router.registerSync(Event.class, new CallbackEventDispatcher(dispatcherRegistry, callbackRegistry, resolverRegistry, true, monitor));
-        router.register(Event.class, new CallbackEventDispatcher(dispatcherRegistry, callbackRegistry, resolverRegistry, false, monitor));
+        router.register(Event.class, new CallbackEventDispatcher(dispatcherRegistry, callbackRegistry, resolverRegistry, false, monitor, createAsyncDelivery(context)));
+    }
+
+    @Override
+    public void shutdown() {
+        if (deliveryExecutor != null) {
+            deliveryExecutor.shutdownNow();
+        }
+    }
 
+    private AsyncCallbackDelivery createAsyncDelivery(ServiceExtensionContext context) {
+        deliveryExecutor = executorInstrumentation.instrument(Executors.newSingleThreadScheduledExecutor(), "Callback delivery");
+        return new AsyncCallbackDelivery(dispatcherRegistry, deliveryExecutor, monitor,
+                context.getSetting(ASYNC_QUEUE_SIZE, 1000), context.getSetting(ASYNC_RETRY_MAX, 5), context.getSetting(ASYNC_RETRY_BACKOFF, 1000L),
+                context.getSetting(ASYNC_ENQUEUE_TIMEOUT, 5000L));
     }
 }
@@ -0,0 +1,146 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.callback.dispatcher;
+
+import org.eclipse.edc.connector.spi.callback.CallbackEventRemoteMessage;
+import org.eclipse.edc.connector.transfer.spi.event.TransferProcessCompleted;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.response.StatusResult;
+import org.eclipse.edc.spi.types.domain.callback.CallbackAddress;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.failedFuture;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AsyncCallbackDeliveryTest {
+
+    private final RemoteMessageDispatcherRegistry registry = mock();
+    private final Monitor monitor = mock();
+    private final List<String> delivered = Collections.synchronizedList(new ArrayList<>());
+    private final AsyncCallbackDelivery delivery = new AsyncCallbackDelivery(registry, Executors.newSingleThreadScheduledExecutor(), monitor, 10, 2, 10, 10);
+
+    @AfterEach
+    void tearDown() {
+        delivered.clear();
+    }
+
+    @Test
+    void deliver_shouldSendMessagesOfAnEndpointInOrder() {
+        when(registry.dispatch(any(), any())).thenAnswer(i -> {
+            CallbackEventRemoteMessage<?> message = i.getArgument(1);
+            delivered.add(message.getEventEnvelope().getId());
+            return completedFuture(StatusResult.success("any"));
+        });
+
+        delivery.deliver(message("http://endpoint", "1"));
+        delivery.deliver(message("http://endpoint", "2"));
+        delivery.deliver(message("http://endpoint", "3"));
+
+        await().untilAsserted(() -> assertThat(delivered).containsExactly("1", "2", "3"));
+    }
+
+    @Test
+    void deliver_shouldNotWaitForPendingMessagesOfOtherEndpoints() {
+        var pending = new CompletableFuture<StatusResult<Object>>();
+        when(registry.dispatch(any(), any())).thenAnswer(i -> {
+            CallbackEventRemoteMessage<?> message = i.getArgument(1);
+            if (message.getCounterPartyAddress().equals("http://slow")) {
+                return pending;
+            }
+            delivered.add(message.getEventEnvelope().getId());
+            return completedFuture(StatusResult.success("any"));
+        });
+
+        delivery.deliver(message("http://slow", "1"));
+        delivery.deliver(message("http://fast", "2"));
+
+        await().untilAsserted(() -> assertThat(delivered).containsExactly("2"));
+        pending.complete(StatusResult.success("any"));
+    }
+
+    @Test
+    void deliver_shouldRetryFailedMessages() {
+        when(registry.dispatch(any(), any()))
+                .thenReturn(failedFuture(new RuntimeException("error")))
+                .thenReturn(completedFuture(StatusResult.success("any")));
+
+        delivery.deliver(message("http://endpoint", "1"));
+
+        await().untilAsserted(() -> verify(registry, times(2)).dispatch(any(), any()));
+        verify(monitor, never()).severe(anyString(), any(Throwable.class));
+    }
+
+    @Test
+    void deliver_shouldDropMessage_whenRetriesAreExhausted() {
+        when(registry.dispatch(any(), any())).thenReturn(failedFuture(new RuntimeException("error")));
+
+        delivery.deliver(message("http://endpoint", "1"));
+
+        await().untilAsserted(() -> verify(monitor).severe(anyString(), any(Throwable.class)));
+        verify(registry, times(3)).dispatch(any(), any());
+    }
+
+    @Test
+    void deliver_shouldRemoveQueueOfEndpoint_whenAllMessagesAreSent() {
+        when(registry.dispatch(any(), any())).thenReturn(completedFuture(StatusResult.success("any")));
+
+        delivery.deliver(message("http://endpoint", "1"));
+        delivery.deliver(message("http://other", "2"));
+
+        await().untilAsserted(() -> assertThat(delivery.endpointCount()).isZero());
+        verify(registry, times(2)).dispatch(any(), any());
+    }
+
+    @Test
+    void deliver_shouldDropMessage_whenQueueStaysFull() {
+        var pending = new CompletableFuture<StatusResult<Object>>();
+        when(registry.dispatch(any(), any())).thenReturn(pending);
+        var singleSlotDelivery = new AsyncCallbackDelivery(registry, Executors.newSingleThreadScheduledExecutor(), monitor, 1, 2, 10, 10);
+
+        singleSlotDelivery.deliver(message("http://endpoint", "1"));
+        singleSlotDelivery.deliver(message("http://endpoint", "2"));
+        singleSlotDelivery.deliver(message("http://endpoint", "3"));
+
+        verify(monitor).warning(anyString());
+        pending.complete(StatusResult.success("any"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private CallbackEventRemoteMessage<TransferProcessCompleted> message(String uri, String id) {
+        var callback = CallbackAddress.Builder.newInstance().uri(uri).events(Set.of("transfer.process")).build();
+        var event = TransferProcessCompleted.Builder.newInstance().transferProcessId("id").build();
+        var envelope = EventEnvelope.Builder.newInstance().id(id).at(10).payload(event).build();
+        return new CallbackEventRemoteMessage<>(callback, envelope, "http");
+    }
+}
@@ -36,16 +36,28 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static java.lang.String.format;
+import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.partitioningBy;
 import static java.util.stream.Collectors.toMap;
 
 public class SqlAssetIndex extends AbstractSqlStore implements AssetIndex {
 
+    /**
+     * Number of assets whose properties and data addresses are loaded together by a query.
+     */
+    private static final int BATCH_SIZE = 500;
+
     private final AssetStatements assetStatements;
 
     public SqlAssetIndex(DataSourceRegistry dataSourceRegistry, String dataSourceName, TransactionContext transactionContext,
@@ -61,9 +73,12 @@ public class SqlAssetIndex extends AbstractSqlStore implements AssetIndex {
         return transactionContext.execute(() -> {
             try {
                 var statement = assetStatements.createQuery(querySpec);
+                var connection = getConnection();
+                var rows = queryExecutor.query(connection, true, this::mapAssetRow, statement.getQueryAsString(), statement.getParameters());
 
-                return queryExecutor.query(getConnection(), true, this::mapAssetIds, statement.getQueryAsString(), statement.getParameters())
-                        .map(this::findById);
+                return batches(rows, BATCH_SIZE)
+                        .flatMap(batch -> loadAssets(connection, batch).stream())
+                        .onClose(rows::close);
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
@@ -77,29 +92,14 @@ public class SqlAssetIndex extends AbstractSqlStore implements AssetIndex {
         try (var connection = getConnection()) {
 
             return transactionContext.execute(() -> {
-                if (!existsById(assetId, connection)) {
-                    return null;
+                List<AssetRow> rows;
+                try (var stream = queryExecutor.query(connection, false, this::mapAssetRow, assetStatements.getSelectAssetByIdTemplate(), assetId)) {
+                    rows = stream.toList();
                 }
-
-                var selectAssetByIdSql = assetStatements.getSelectAssetByIdTemplate();
-                var findPropertyByIdSql = assetStatements.getFindPropertyByIdTemplate();
-                try (
-                        var createdAtStream = queryExecutor.query(connection, false, this::mapCreatedAt, selectAssetByIdSql, assetId);
-                        var allPropertiesStream = queryExecutor.query(connection, false, this::mapPropertyResultSet, findPropertyByIdSql, assetId)
-                ) {
-                    var createdAt = createdAtStream.findFirst().orElse(0L);
-                    var groupedProperties = allPropertiesStream.collect(partitioningBy(SqlPropertyWrapper::isPrivate));
-                    var assetProperties = groupedProperties.get(false).stream().collect(toMap(SqlPropertyWrapper::getPropertyKey, SqlPropertyWrapper::getPropertyValue));
-                    var assetPrivateProperties = groupedProperties.get(true).stream().collect(toMap(SqlPropertyWrapper::getPropertyKey, SqlPropertyWrapper::getPropertyValue));
-                    var dataAddress = resolveForAsset(assetId);
-                    return Asset.Builder.newInstance()
-                            .id(assetId)
-                            .properties(assetProperties)
-                            .privateProperties(assetPrivateProperties)
-                            .createdAt(createdAt)
-                            .dataAddress(dataAddress)
-                            .build();
+                if (rows.isEmpty()) {
+                    return null;
                 }
+                return loadAssets(connection, rows).get(0);
             });
 
         } catch (Exception e) {
@@ -227,8 +227,68 @@ public class SqlAssetIndex extends AbstractSqlStore implements AssetIndex {
         });
     }
 
-    private long mapCreatedAt(ResultSet resultSet) throws SQLException {
-        return resultSet.getLong(assetStatements.getCreatedAtColumn());
+    /**
+     * Loads properties and data addresses of a batch of assets with one statement each, and assembles the assets in
+     * the order of the rows.
+     */
+    private List<Asset> loadAssets(Connection connection, List<AssetRow> rows) {
+        var ids = rows.stream().map(AssetRow::id).toArray();
+
+        Map<String, List<SqlPropertyWrapper>> properties;
+        try (var stream = queryExecutor.query(connection, false, this::mapPropertyResultSet, assetStatements.getFindPropertiesByIdsTemplate(ids.length), ids)) {
+            properties = stream.collect(groupingBy(SqlPropertyWrapper::getAssetId));
+        }
+
+        Map<String, DataAddress> dataAddresses;
+        try (var stream = queryExecutor.query(connection, false, this::mapAssetDataAddress, assetStatements.getFindDataAddressesByIdsTemplate(ids.length), ids)) {
+            dataAddresses = stream.collect(toMap(Map.Entry::getKey, Map.Entry::getValue));
+        }
+
+        return rows.stream()
+                .map(row -> {
+                    var groupedProperties = properties.getOrDefault(row.id(), List.of()).stream().collect(partitioningBy(SqlPropertyWrapper::isPrivate));
+                    var assetProperties = groupedProperties.get(false).stream().collect(toMap(SqlPropertyWrapper::getPropertyKey, SqlPropertyWrapper::getPropertyValue));
+                    var assetPrivateProperties = groupedProperties.get(true).stream().collect(toMap(SqlPropertyWrapper::getPropertyKey, SqlPropertyWrapper::getPropertyValue));
+                    return Asset.Builder.newInstance()
+                            .id(row.id())
+                            .properties(assetProperties)
+                            .privateProperties(assetPrivateProperties)
+                            .createdAt(row.createdAt())
+                            .dataAddress(dataAddresses.get(row.id()))
+                            .build();
+                })
+                .toList();
+    }
+
+    /**
+     * Lazily splits a stream into lists of at most the given size.
+     */
+    private static <T> Stream<List<T>> batches(Stream<T> stream, int size) {
+        var iterator = stream.iterator();
+        var batchIterator = new Iterator<List<T>>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public List<T> next() {
+                var batch = new ArrayList<T>(size);
+                while (batch.size() < size && iterator.hasNext()) {
+                    batch.add(iterator.next());
+                }
+                return batch;
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(batchIterator, Spliterator.ORDERED), false);
+    }
+
+    private AssetRow mapAssetRow(ResultSet resultSet) throws SQLException {
+        return new AssetRow(resultSet.getString(assetStatements.getAssetIdColumn()), resultSet.getLong(assetStatements.getCreatedAtColumn()));
+    }
+
+    private Map.Entry<String, DataAddress> mapAssetDataAddress(ResultSet resultSet) throws SQLException {
+        return new AbstractMap.SimpleImmutableEntry<>(resultSet.getString(assetStatements.getDataAddressAssetIdFkColumn()), mapDataAddress(resultSet));
     }
 
     private int mapRowCount(ResultSet resultSet) throws SQLException {
@@ -236,11 +296,12 @@ public class SqlAssetIndex extends AbstractSqlStore implements AssetIndex {
     }
 
     private SqlPropertyWrapper mapPropertyResultSet(ResultSet resultSet) throws SQLException, ClassNotFoundException {
+        var assetId = resultSet.getString(assetStatements.getPropertyAssetIdFkColumn());
         var name = resultSet.getString(assetStatements.getAssetPropertyNameColumn());
         var value = resultSet.getString(assetStatements.getAssetPropertyValueColumn());
         var type = resultSet.getString(assetStatements.getAssetPropertyTypeColumn());
         var isPrivate = resultSet.getBoolean(assetStatements.getAssetPropertyIsPrivateColumn());
-        return new SqlPropertyWrapper(isPrivate, new AbstractMap.SimpleImmutableEntry<>(name, fromPropertyValue(value, type)));
+        return new SqlPropertyWrapper(assetId, isPrivate, new AbstractMap.SimpleImmutableEntry<>(name, fromPropertyValue(value, type)));
     }
 
     /**
@@ -269,40 +330,39 @@ public class SqlAssetIndex extends AbstractSqlStore implements AssetIndex {
                 .build();
     }
 
-    private String mapAssetIds(ResultSet resultSet) throws SQLException {
-        return resultSet.getString(assetStatements.getAssetIdColumn());
-    }
-
     private void insertProperties(Asset asset, String assetId, Connection connection) {
+        var rows = new ArrayList<Object[]>();
         for (var property : asset.getProperties().entrySet()) {
-            queryExecutor.execute(connection,
-                    assetStatements.getInsertPropertyTemplate(),
-                    assetId,
-                    property.getKey(),
-                    toJson(property.getValue()),
-                    property.getValue().getClass().getName(),
-                    false);
+            rows.add(propertyRow(assetId, property, false));
         }
         for (var privateProperty : asset.getPrivateProperties().entrySet()) {
-            queryExecutor.execute(connection,
-                    assetStatements.getInsertPropertyTemplate(),
-                    assetId,
-                    privateProperty.getKey(),
-                    toJson(privateProperty.getValue()),
-                    privateProperty.getValue().getClass().getName(),
-                    true);
+            rows.add(propertyRow(assetId, privateProperty, true));
         }
+        queryExecutor.executeBatch(connection, assetStatements.getInsertPropertyTemplate(), rows);
+    }
+
+    private Object[] propertyRow(String assetId, Map.Entry<String, Object> property, boolean isPrivate) {
+        return new Object[]{ assetId, property.getKey(), toJson(property.getValue()), property.getValue().getClass().getName(), isPrivate };
+    }
+
+    private record AssetRow(String id, long createdAt) {
     }
 
     private static class SqlPropertyWrapper {
+        private final String assetId;
         private final boolean isPrivate;
         private final AbstractMap.SimpleImmutableEntry<String, Object> property;
 
-        protected SqlPropertyWrapper(boolean isPrivate, AbstractMap.SimpleImmutableEntry<String, Object> kvSimpleImmutableEntry) {
+        protected SqlPropertyWrapper(String assetId, boolean isPrivate, AbstractMap.SimpleImmutableEntry<String, Object> kvSimpleImmutableEntry) {
+            this.assetId = assetId;
             this.isPrivate = isPrivate;
             this.property = kvSimpleImmutableEntry;
         }
 
+        protected String getAssetId() {
+            return assetId;
+        }
+
         protected boolean isPrivate() {
             return isPrivate;
         }
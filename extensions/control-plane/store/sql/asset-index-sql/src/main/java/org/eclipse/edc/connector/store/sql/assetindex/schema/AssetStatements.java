@@ -129,11 +129,25 @@ public interface AssetStatements extends SqlStatements {
      */
     String getFindPropertyByIdTemplate();
 
+    /**
+     * SELECT clause for the properties of multiple assets.
+     *
+     * @param idCount the number of asset ids in the IN list.
+     */
+    String getFindPropertiesByIdsTemplate(int idCount);
+
     /**
      * SELECT clause for data addresses.
      */
     String getFindDataAddressByIdTemplate();
 
+    /**
+     * SELECT clause for the data addresses of multiple assets.
+     *
+     * @param idCount the number of asset ids in the IN list.
+     */
+    String getFindDataAddressesByIdsTemplate(int idCount);
+
     /**
      * SELECT clause for all assets.
      */
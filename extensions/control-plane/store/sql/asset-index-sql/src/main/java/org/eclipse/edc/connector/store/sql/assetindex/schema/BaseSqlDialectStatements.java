@@ -22,6 +22,7 @@ import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.sql.translation.SqlConditionExpression;
 import org.eclipse.edc.sql.translation.SqlQueryStatement;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -71,6 +72,14 @@ public class BaseSqlDialectStatements implements AssetStatements {
                 getPropertyAssetIdFkColumn());
     }
 
+    @Override
+    public String getFindPropertiesByIdsTemplate(int idCount) {
+        return format("SELECT * FROM %s WHERE %s IN (%s)",
+                getAssetPropertyTable(),
+                getPropertyAssetIdFkColumn(),
+                placeholders(idCount));
+    }
+
     @Override
     public String getFindDataAddressByIdTemplate() {
         return format("SELECT * FROM %s WHERE %s = ?",
@@ -78,6 +87,14 @@ public class BaseSqlDialectStatements implements AssetStatements {
                 getDataAddressAssetIdFkColumn());
     }
 
+    @Override
+    public String getFindDataAddressesByIdsTemplate(int idCount) {
+        return format("SELECT * FROM %s WHERE %s IN (%s)",
+                getDataAddressTable(),
+                getDataAddressAssetIdFkColumn(),
+                placeholders(idCount));
+    }
+
     @Override
     public String getSelectAssetTemplate() {
         return format("SELECT * FROM %s AS a", getAssetTable());
@@ -166,6 +183,10 @@ public class BaseSqlDialectStatements implements AssetStatements {
         return format(" WHERE %s", String.join(" AND ", subSelects));
     }
 
+    private String placeholders(int count) {
+        return String.join(",", Collections.nCopies(count, "?"));
+    }
+
     /**
      * Converts a {@linkplain Criterion} into a dynamically assembled SELECT statement.
      */
@@ -20,18 +20,23 @@ import org.eclipse.edc.connector.store.sql.assetindex.schema.BaseSqlDialectState
 import org.eclipse.edc.connector.store.sql.assetindex.schema.postgres.PostgresDialectStatements;
 import org.eclipse.edc.junit.annotations.ComponentTest;
 import org.eclipse.edc.policy.model.PolicyRegistrationTypes;
+import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.testfixtures.asset.AssetIndexTestBase;
 import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.sql.QueryExecutor;
 import org.eclipse.edc.sql.testfixtures.PostgresqlStoreSetupExtension;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 
+import static java.util.stream.IntStream.range;
+import static org.assertj.core.api.Assertions.assertThat;
+
 @ComponentTest
 @ExtendWith(PostgresqlStoreSetupExtension.class)
 class PostgresAssetIndexTest extends AssetIndexTestBase {
@@ -59,6 +64,20 @@ class PostgresAssetIndexTest extends AssetIndexTestBase {
         setupExtension.runQuery("DROP TABLE " + sqlStatements.getAssetPropertyTable() + " CASCADE");
     }
 
+    @Test
+    void queryAssets_shouldLoadAssetsSpanningMultipleBatches() {
+        range(0, 1100)
+                .mapToObj(i -> createAssetBuilder("id" + i).privateProperty("pKey", "pValue" + i).build())
+                .forEach(sqlAssetIndex::create);
+
+        var result = sqlAssetIndex.queryAssets(QuerySpec.Builder.newInstance().limit(2000).build()).toList();
+
+        assertThat(result).hasSize(1100).allSatisfy(asset -> {
+            assertThat(asset.getDataAddress()).isNotNull();
+            assertThat(asset.getPrivateProperty("pKey")).isEqualTo("pValue" + asset.getId().substring(2));
+        });
+    }
+
     @Override
     protected SqlAssetIndex getAssetIndex() {
         return sqlAssetIndex;
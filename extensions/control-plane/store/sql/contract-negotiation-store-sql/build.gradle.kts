@@ -24,6 +24,7 @@ dependencies {
     implementation(project(":spi:common:transaction-datasource-spi"))
     implementation(project(":extensions:common:sql:sql-core"))
     implementation(project(":extensions:common:sql:sql-lease"))
+    implementation(project(":core:common:util"))
 
 
     testImplementation(project(":core:common:junit"))
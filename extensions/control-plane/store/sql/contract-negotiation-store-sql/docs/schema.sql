@@ -58,6 +58,7 @@ CREATE TABLE IF NOT EXISTS edc_contract_negotiation
     callback_addresses   JSON,
     trace_context        JSON,
     pending              BOOLEAN DEFAULT FALSE,
+    next_attempt_at      BIGINT  DEFAULT 0 NOT NULL,
     lease_id             VARCHAR
         CONSTRAINT contract_negotiation_lease_lease_id_fk
             REFERENCES edc_lease
@@ -71,6 +72,8 @@ COMMENT ON COLUMN edc_contract_negotiation.contract_offers IS 'List<ContractOffe
 
 COMMENT ON COLUMN edc_contract_negotiation.trace_context IS 'Map<String,String> serialized as JSON';
 
+COMMENT ON COLUMN edc_contract_negotiation.next_attempt_at IS 'posix timestamp before which the negotiation must not be picked up again';
+
 
 CREATE INDEX IF NOT EXISTS contract_negotiation_correlationid_index
     ON edc_contract_negotiation (correlation_id);
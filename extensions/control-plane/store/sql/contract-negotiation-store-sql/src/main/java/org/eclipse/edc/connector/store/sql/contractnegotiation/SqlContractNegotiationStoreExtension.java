@@ -21,8 +21,10 @@ import org.eclipse.edc.connector.store.sql.contractnegotiation.store.schema.post
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.system.StateMachineObserver;
 import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.sql.QueryExecutor;
 import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
@@ -36,6 +38,11 @@ public class SqlContractNegotiationStoreExtension implements ServiceExtension {
 
     public static final String DATASOURCE_NAME_SETTING = "edc.datasource.contractnegotiation.name";
 
+    private static final int DEFAULT_AGREEMENT_CACHE_SIZE = 1000;
+
+    @Setting(value = "Maximum number of contract agreements kept in memory by the store, 0 disables the cache", type = "int", defaultValue = DEFAULT_AGREEMENT_CACHE_SIZE + "")
+    public static final String AGREEMENT_CACHE_SIZE_SETTING = "edc.sql.store.contractnegotiation.agreement.cache.size";
+
     @Inject
     private DataSourceRegistry dataSourceRegistry;
 
@@ -54,10 +61,14 @@ public class SqlContractNegotiationStoreExtension implements ServiceExtension {
     @Inject
     private QueryExecutor queryExecutor;
 
+    @Inject
+    private StateMachineObserver stateMachineObserver;
+
     @Override
     public void initialize(ServiceExtensionContext context) {
         var sqlStore = new SqlContractNegotiationStore(dataSourceRegistry, getDataSourceName(context), trxContext,
-                typeManager.getMapper(), getStatementImpl(), context.getConnectorId(), clock, queryExecutor);
+                typeManager.getMapper(), getStatementImpl(), context.getConnectorId(), clock, queryExecutor,
+                context.getSetting(AGREEMENT_CACHE_SIZE_SETTING, DEFAULT_AGREEMENT_CACHE_SIZE), stateMachineObserver);
         context.registerService(ContractNegotiationStore.class, sqlStore);
     }
 
@@ -20,17 +20,21 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.eclipse.edc.connector.contract.spi.negotiation.store.ContractNegotiationStore;
 import org.eclipse.edc.connector.contract.spi.types.agreement.ContractAgreement;
 import org.eclipse.edc.connector.contract.spi.types.negotiation.ContractNegotiation;
+import org.eclipse.edc.connector.contract.spi.types.negotiation.ContractNegotiationStates;
 import org.eclipse.edc.connector.store.sql.contractnegotiation.store.schema.ContractNegotiationStatements;
 import org.eclipse.edc.spi.persistence.EdcPersistenceException;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.StoreResult;
+import org.eclipse.edc.spi.system.StateMachineObserver;
 import org.eclipse.edc.sql.QueryExecutor;
 import org.eclipse.edc.sql.ResultSetMapper;
 import org.eclipse.edc.sql.lease.SqlLeaseContextBuilder;
 import org.eclipse.edc.sql.store.AbstractSqlStore;
+import org.eclipse.edc.sql.store.StateBacklog;
 import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
 import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.eclipse.edc.util.collection.LruCache;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -40,6 +44,8 @@ import java.sql.SQLException;
 import java.time.Clock;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
@@ -48,21 +54,60 @@ import static java.util.stream.Collectors.toList;
 
 /**
  * SQL-based implementation of the {@link ContractNegotiationStore}
+ * <p>
+ * Contract agreements never change once created, so the store can keep the most recently read ones, including their
+ * deserialized policy, in a size-bounded cache. The cache is filled on reads and an entry is evicted whenever its
+ * agreement is written, so a rolled back write never leaves an agreement behind that is not in the database.
  */
 public class SqlContractNegotiationStore extends AbstractSqlStore implements ContractNegotiationStore {
 
+    // finalized and terminated negotiations are never processed again
+    private static final List<ContractNegotiationStates> BACKLOG_STATES = Stream.of(ContractNegotiationStates.values())
+            .filter(state -> state != ContractNegotiationStates.FINALIZED && state != ContractNegotiationStates.TERMINATED)
+            .toList();
+
     private final ContractNegotiationStatements statements;
     private final SqlLeaseContextBuilder leaseContext;
     private final Clock clock;
+    private final Map<String, ContractAgreement> agreementCache;
+    private long agreementCacheGeneration;
 
     public SqlContractNegotiationStore(DataSourceRegistry dataSourceRegistry, String dataSourceName,
                                        TransactionContext transactionContext, ObjectMapper objectMapper,
                                        ContractNegotiationStatements statements, String connectorId, Clock clock,
                                        QueryExecutor queryExecutor) {
+        this(dataSourceRegistry, dataSourceName, transactionContext, objectMapper, statements, connectorId, clock, queryExecutor, 0);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param agreementCacheSize how many contract agreements are cached, 0 disables the cache
+     */
+    public SqlContractNegotiationStore(DataSourceRegistry dataSourceRegistry, String dataSourceName,
+                                       TransactionContext transactionContext, ObjectMapper objectMapper,
+                                       ContractNegotiationStatements statements, String connectorId, Clock clock,
+                                       QueryExecutor queryExecutor, int agreementCacheSize) {
+        this(dataSourceRegistry, dataSourceName, transactionContext, objectMapper, statements, connectorId, clock, queryExecutor, agreementCacheSize, StateMachineObserver.noop());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param agreementCacheSize how many contract agreements are cached, 0 disables the cache
+     * @param observer receives the outcome of acquiring leases on contract negotiations and samples their number by state
+     */
+    public SqlContractNegotiationStore(DataSourceRegistry dataSourceRegistry, String dataSourceName,
+                                       TransactionContext transactionContext, ObjectMapper objectMapper,
+                                       ContractNegotiationStatements statements, String connectorId, Clock clock,
+                                       QueryExecutor queryExecutor, int agreementCacheSize, StateMachineObserver observer) {
         super(dataSourceRegistry, dataSourceName, transactionContext, objectMapper, queryExecutor);
         this.statements = statements;
         this.clock = clock;
-        leaseContext = SqlLeaseContextBuilder.with(transactionContext, connectorId, statements, clock, queryExecutor);
+        this.agreementCache = agreementCacheSize > 0 ? new LruCache<>(agreementCacheSize) : null;
+        leaseContext = SqlLeaseContextBuilder.with(transactionContext, connectorId, statements, clock, queryExecutor)
+                .observedBy(ContractNegotiation.class.getSimpleName(), observer);
+        new StateBacklog(this::countByState, clock).register(observer, ContractNegotiation.class.getSimpleName(), BACKLOG_STATES, ContractNegotiationStates::code);
     }
 
     @Override
@@ -89,6 +134,10 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
 
     @Override
     public @Nullable ContractAgreement findContractAgreement(String contractId) {
+        var cached = cachedAgreement(contractId);
+        if (cached != null) {
+            return cached;
+        }
         return transactionContext.execute(() -> {
             try (var connection = getConnection()) {
                 return findContractAgreementInternal(connection, contractId);
@@ -177,14 +226,17 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
             var statement = statements.createNegotiationsQuery(querySpec);
             statement.addWhereClause(statements.getNotLeasedFilter());
             statement.addParameter(clock.millis());
+            statement.addWhereClause(statements.getNextAttemptAtColumn() + " <= ?");
+            statement.addParameter(clock.millis());
 
             try (
                     var connection = getConnection();
                     var stream = queryExecutor.query(getConnection(), true, contractNegotiationWithAgreementMapper(connection), statement.getQueryAsString(), statement.getParameters())
             ) {
                 var negotiations = stream.collect(toList());
-                negotiations.forEach(cn -> leaseContext.withConnection(connection).acquireLease(cn.getId()));
-                return negotiations;
+                var ids = negotiations.stream().map(ContractNegotiation::getId).collect(toList());
+                var leased = leaseContext.withConnection(connection).acquireLeases(ids);
+                return negotiations.stream().filter(cn -> leased.contains(cn.getId())).collect(toList());
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
@@ -233,6 +285,20 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
         });
     }
 
+    private Map<Integer, Long> countByState() {
+        return transactionContext.execute(() -> {
+            try (
+                    var connection = getConnection();
+                    var stream = queryExecutor.query(connection, true, r -> Map.entry(r.getInt(statements.getStateColumn()), r.getLong("count")),
+                            statements.getCountByStateTemplate(BACKLOG_STATES.size()), BACKLOG_STATES.stream().map(ContractNegotiationStates::code).toArray())
+            ) {
+                return stream.collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
     private QuerySpec correlationIdQuerySpec(String correlationId) {
         return QuerySpec.Builder.newInstance().filter(List.of(new Criterion("correlationId", "=", correlationId))).build();
     }
@@ -243,8 +309,56 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
     }
 
     private ContractAgreement findContractAgreementInternal(Connection connection, String contractId) {
+        var cached = cachedAgreement(contractId);
+        if (cached != null) {
+            return cached;
+        }
+        var generation = agreementCacheGeneration();
         var stmt = statements.getFindContractAgreementTemplate();
-        return queryExecutor.single(connection, false, this::mapContractAgreement, stmt, contractId);
+        var agreement = queryExecutor.single(connection, false, this::mapContractAgreement, stmt, contractId);
+        cacheAgreement(agreement, generation);
+        return agreement;
+    }
+
+    private @Nullable ContractAgreement cachedAgreement(String contractId) {
+        if (agreementCache == null || contractId == null) {
+            return null;
+        }
+        synchronized (agreementCache) {
+            return agreementCache.get(contractId);
+        }
+    }
+
+    private long agreementCacheGeneration() {
+        if (agreementCache == null) {
+            return 0;
+        }
+        synchronized (agreementCache) {
+            return agreementCacheGeneration;
+        }
+    }
+
+    /**
+     * Caches an agreement read from the database, unless an agreement got evicted since the read started, as the read
+     * may then have returned the row as it was before the write.
+     */
+    private void cacheAgreement(@Nullable ContractAgreement agreement, long generation) {
+        if (agreementCache != null && agreement != null) {
+            synchronized (agreementCache) {
+                if (agreementCacheGeneration == generation) {
+                    agreementCache.put(agreement.getId(), agreement);
+                }
+            }
+        }
+    }
+
+    private void evictAgreement(String contractId) {
+        if (agreementCache != null) {
+            synchronized (agreementCache) {
+                agreementCacheGeneration++;
+                agreementCache.remove(contractId);
+            }
+        }
     }
 
     private @Nullable ContractNegotiation findInternal(Connection connection, String id) {
@@ -270,6 +384,7 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
                 ofNullable(updatedValues.getContractAgreement()).map(ContractAgreement::getId).orElse(null),
                 updatedValues.getUpdatedAt(),
                 updatedValues.isPending(),
+                updatedValues.getNextAttemptAt(),
                 negotiationId);
     }
 
@@ -299,15 +414,21 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
                 toJson(negotiation.getTraceContext()),
                 negotiation.getCreatedAt(),
                 negotiation.getUpdatedAt(),
-                negotiation.isPending());
+                negotiation.isPending(),
+                negotiation.getNextAttemptAt());
     }
 
     private void upsertAgreement(ContractAgreement contractAgreement) {
         transactionContext.execute(() -> {
             try (var connection = getConnection()) {
                 var agrId = contractAgreement.getId();
+                // a reader can cache the previous row until the transaction commits: evict it again at the end of the
+                // transaction, as close to the commit as the transaction context allows
+                evictAgreement(agrId);
+                transactionContext.registerSynchronization(() -> evictAgreement(agrId));
 
-                if (findContractAgreement(agrId) == null) {
+                var existing = queryExecutor.single(connection, false, this::mapContractAgreement, statements.getFindContractAgreementTemplate(), agrId);
+                if (existing == null) {
                     // insert agreement
                     var sql = statements.getInsertAgreementTemplate();
                     queryExecutor.execute(connection, sql, contractAgreement.getId(),
@@ -398,11 +519,21 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
                 .createdAt(resultSet.getLong(statements.getCreatedAtColumn()))
                 .updatedAt(resultSet.getLong(statements.getUpdatedAtColumn()))
                 .pending(resultSet.getBoolean(statements.getPendingColumn()))
+                .nextAttemptAt(resultSet.getLong(statements.getNextAttemptAtColumn()))
                 .build();
     }
 
     private ContractAgreement extractContractAgreement(ResultSet resultSet) throws SQLException {
-        return resultSet.getString(statements.getContractAgreementIdFkColumn()) == null ? null : mapContractAgreement(resultSet);
+        var agreementId = resultSet.getString(statements.getContractAgreementIdFkColumn());
+        if (agreementId == null) {
+            return null;
+        }
+        var cached = cachedAgreement(agreementId);
+        if (cached != null) {
+            return cached;
+        }
+        // not cached: the row was read before this point, possibly before a concurrent write of the agreement
+        return mapContractAgreement(resultSet);
     }
 
 }
@@ -17,6 +17,8 @@ package org.eclipse.edc.connector.store.sql.contractnegotiation.store.schema;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.sql.translation.SqlQueryStatement;
 
+import java.util.Collections;
+
 import static java.lang.String.format;
 import static org.eclipse.edc.sql.statement.SqlExecuteStatement.equalTo;
 import static org.eclipse.edc.sql.statement.SqlExecuteStatement.isNull;
@@ -50,6 +52,7 @@ public class BaseSqlDialectStatements implements ContractNegotiationStatements {
                 .column(getContractAgreementIdFkColumn())
                 .column(getUpdatedAtColumn())
                 .column(getPendingColumn())
+                .column(getNextAttemptAtColumn())
                 .update(getContractNegotiationTable(), getIdColumn());
     }
 
@@ -73,6 +76,7 @@ public class BaseSqlDialectStatements implements ContractNegotiationStatements {
                 .column(getCreatedAtColumn())
                 .column(getUpdatedAtColumn())
                 .column(getPendingColumn())
+                .column(getNextAttemptAtColumn())
                 .insertInto(getContractNegotiationTable());
     }
 
@@ -112,6 +116,12 @@ public class BaseSqlDialectStatements implements ContractNegotiationStatements {
 
     }
 
+    @Override
+    public String getCountByStateTemplate(int stateCount) {
+        return format("SELECT %s, COUNT(*) AS count FROM %s WHERE %s IN (%s) GROUP BY %s", getStateColumn(), getContractNegotiationTable(), getStateColumn(),
+                String.join(",", Collections.nCopies(stateCount, "?")), getStateColumn());
+    }
+
     @Override
     public String getSelectNegotiationsTemplate() {
         return format("SELECT * FROM %s LEFT JOIN %s agr ON %s.%s = agr.%s", getContractNegotiationTable(), getContractAgreementTable(), getContractNegotiationTable(), getContractAgreementIdFkColumn(), getContractAgreementIdColumn());
@@ -153,6 +163,11 @@ public class BaseSqlDialectStatements implements ContractNegotiationStatements {
                 .insertInto(getLeaseTableName());
     }
 
+    @Override
+    public String getLeasedEntityTableName() {
+        return getContractNegotiationTable();
+    }
+
     @Override
     public String getUpdateLeaseTemplate() {
         return executeStatement()
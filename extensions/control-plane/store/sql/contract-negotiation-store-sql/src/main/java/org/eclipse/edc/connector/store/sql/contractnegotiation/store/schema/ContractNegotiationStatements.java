@@ -41,6 +41,8 @@ public interface ContractNegotiationStatements extends LeaseStatements {
 
     String getSelectNegotiationsTemplate();
 
+    String getCountByStateTemplate(int stateCount);
+
     default String getContractNegotiationTable() {
         return "edc_contract_negotiation";
     }
@@ -141,6 +143,10 @@ public interface ContractNegotiationStatements extends LeaseStatements {
         return "pending";
     }
 
+    default String getNextAttemptAtColumn() {
+        return "next_attempt_at";
+    }
+
     SqlQueryStatement createNegotiationsQuery(QuerySpec querySpec);
 
     SqlQueryStatement createAgreementsQuery(QuerySpec querySpec);
@@ -14,7 +14,9 @@
 
 package org.eclipse.edc.connector.store.sql.contractnegotiation.store;
 
+import org.eclipse.edc.connector.contract.spi.ContractOfferId;
 import org.eclipse.edc.connector.contract.spi.testfixtures.negotiation.store.ContractNegotiationStoreTestBase;
+import org.eclipse.edc.connector.contract.spi.types.agreement.ContractAgreement;
 import org.eclipse.edc.connector.store.sql.contractnegotiation.store.schema.postgres.PostgresDialectStatements;
 import org.eclipse.edc.junit.annotations.ComponentTest;
 import org.eclipse.edc.policy.model.PolicyRegistrationTypes;
@@ -24,6 +26,7 @@ import org.eclipse.edc.sql.lease.testfixtures.LeaseUtil;
 import org.eclipse.edc.sql.testfixtures.PostgresqlStoreSetupExtension;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.io.IOException;
@@ -32,6 +35,11 @@ import java.nio.file.Paths;
 import java.time.Clock;
 import java.time.Duration;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.connector.contract.spi.testfixtures.negotiation.store.TestFunctions.createContract;
+import static org.eclipse.edc.connector.contract.spi.testfixtures.negotiation.store.TestFunctions.createContractBuilder;
+import static org.eclipse.edc.connector.contract.spi.testfixtures.negotiation.store.TestFunctions.createNegotiation;
+
 /**
  * This test aims to verify those parts of the contract negotiation store, that are specific to Postgres, e.g. JSON
  * query operators.
@@ -51,7 +59,7 @@ class PostgresContractNegotiationStoreTest extends ContractNegotiationStoreTestB
 
         manager.registerTypes(PolicyRegistrationTypes.TYPES.toArray(Class<?>[]::new));
         store = new SqlContractNegotiationStore(extension.getDataSourceRegistry(), extension.getDatasourceName(),
-                extension.getTransactionContext(), manager.getMapper(), statements, CONNECTOR_NAME, clock, queryExecutor);
+                extension.getTransactionContext(), manager.getMapper(), statements, CONNECTOR_NAME, clock, queryExecutor, 10);
 
         var schema = Files.readString(Paths.get("./docs/schema.sql"));
         extension.runQuery(schema);
@@ -66,6 +74,30 @@ class PostgresContractNegotiationStoreTest extends ContractNegotiationStoreTestB
         extension.runQuery("DROP TABLE " + dialect.getLeaseTableName() + " CASCADE");
     }
 
+    @Test
+    void findContractAgreement_shouldReturnCachedAgreement() {
+        var agreement = createContract(ContractOfferId.create("test-cd1", "test-as1"));
+        store.save(createNegotiation("test-cn1", agreement));
+
+        var found = store.findContractAgreement(agreement.getId());
+
+        assertThat(store.findContractAgreement(agreement.getId())).isSameAs(found);
+        assertThat(store.findById("test-cn1").getContractAgreement()).isSameAs(found);
+    }
+
+    @Test
+    void save_shouldEvictCachedAgreement() {
+        var agreement = createContract(ContractOfferId.create("test-cd1", "test-as1"));
+        store.save(createNegotiation("test-cn1", agreement));
+        store.findContractAgreement(agreement.getId());
+
+        var updated = createContractBuilder(agreement.getId()).assetId("other-asset").build();
+        store.save(createNegotiation("test-cn1", updated));
+
+        assertThat(store.findContractAgreement(agreement.getId())).isNotNull()
+                .extracting(ContractAgreement::getAssetId).isEqualTo("other-asset");
+    }
+
     @Override
     protected SqlContractNegotiationStore getContractNegotiationStore() {
         return store;
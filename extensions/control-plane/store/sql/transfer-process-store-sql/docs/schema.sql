@@ -34,6 +34,7 @@ CREATE TABLE IF NOT EXISTS edc_transfer_process
     private_properties JSON,
     callback_addresses         JSON,
     pending                    BOOLEAN  DEFAULT FALSE,
+    next_attempt_at            BIGINT   DEFAULT 0 NOT NULL,
     lease_id                   VARCHAR
         CONSTRAINT transfer_process_lease_lease_id_fk
             REFERENCES edc_lease
@@ -50,6 +51,8 @@ COMMENT ON COLUMN edc_transfer_process.content_data_address IS 'DataAddress seri
 
 COMMENT ON COLUMN edc_transfer_process.deprovisioned_resources IS 'List of deprovisioned resources, serialized as JSON';
 
+COMMENT ON COLUMN edc_transfer_process.next_attempt_at IS 'posix timestamp before which the process must not be picked up again';
+
 
 CREATE UNIQUE INDEX IF NOT EXISTS transfer_process_id_uindex
     ON edc_transfer_process (transferprocess_id);
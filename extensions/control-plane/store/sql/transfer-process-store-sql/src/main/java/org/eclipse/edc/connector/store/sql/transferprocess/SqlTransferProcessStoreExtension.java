@@ -24,6 +24,7 @@ import org.eclipse.edc.runtime.metamodel.annotation.Provides;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.system.StateMachineObserver;
 import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.sql.QueryExecutor;
 import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
@@ -54,10 +55,13 @@ public class SqlTransferProcessStoreExtension implements ServiceExtension {
     @Inject
     private QueryExecutor queryExecutor;
 
+    @Inject
+    private StateMachineObserver stateMachineObserver;
+
     @Override
     public void initialize(ServiceExtensionContext context) {
         var store = new SqlTransferProcessStore(dataSourceRegistry, getDataSourceName(context), trxContext,
-                typeManager.getMapper(), getStatementImpl(), context.getConnectorId(), clock, queryExecutor);
+                typeManager.getMapper(), getStatementImpl(), context.getConnectorId(), clock, queryExecutor, stateMachineObserver);
         context.registerService(TransferProcessStore.class, store);
     }
 
@@ -22,14 +22,17 @@ import org.eclipse.edc.connector.transfer.spi.types.DataRequest;
 import org.eclipse.edc.connector.transfer.spi.types.ProvisionedResourceSet;
 import org.eclipse.edc.connector.transfer.spi.types.ResourceManifest;
 import org.eclipse.edc.connector.transfer.spi.types.TransferProcess;
+import org.eclipse.edc.connector.transfer.spi.types.TransferProcessStates;
 import org.eclipse.edc.spi.persistence.EdcPersistenceException;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.StoreResult;
+import org.eclipse.edc.spi.system.StateMachineObserver;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.sql.QueryExecutor;
 import org.eclipse.edc.sql.lease.SqlLeaseContextBuilder;
 import org.eclipse.edc.sql.store.AbstractSqlStore;
+import org.eclipse.edc.sql.store.StateBacklog;
 import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.jetbrains.annotations.NotNull;
@@ -41,6 +44,7 @@ import java.sql.SQLException;
 import java.time.Clock;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -53,6 +57,12 @@ import static org.eclipse.edc.spi.query.Criterion.criterion;
  * Implementation of the {@link TransferProcessStore} based on SQL.
  */
 public class SqlTransferProcessStore extends AbstractSqlStore implements TransferProcessStore {
+
+    // completed, terminated and deprovisioned transfer processes are never processed again
+    private static final List<TransferProcessStates> BACKLOG_STATES = Stream.of(TransferProcessStates.values())
+            .filter(state -> state != TransferProcessStates.COMPLETED && state != TransferProcessStates.TERMINATED && state != TransferProcessStates.DEPROVISIONED)
+            .toList();
+
     private final TransferProcessStoreStatements statements;
     private final String leaseHolderName;
     private final SqlLeaseContextBuilder leaseContext;
@@ -62,11 +72,25 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
                                    TransactionContext transactionContext, ObjectMapper objectMapper,
                                    TransferProcessStoreStatements statements, String leaseHolderName, Clock clock,
                                    QueryExecutor queryExecutor) {
+        this(dataSourceRegistry, datasourceName, transactionContext, objectMapper, statements, leaseHolderName, clock, queryExecutor, StateMachineObserver.noop());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param observer receives the outcome of acquiring leases on transfer processes and samples their number by state
+     */
+    public SqlTransferProcessStore(DataSourceRegistry dataSourceRegistry, String datasourceName,
+                                   TransactionContext transactionContext, ObjectMapper objectMapper,
+                                   TransferProcessStoreStatements statements, String leaseHolderName, Clock clock,
+                                   QueryExecutor queryExecutor, StateMachineObserver observer) {
         super(dataSourceRegistry, datasourceName, transactionContext, objectMapper, queryExecutor);
         this.statements = statements;
         this.leaseHolderName = leaseHolderName;
         this.clock = clock;
-        leaseContext = SqlLeaseContextBuilder.with(transactionContext, leaseHolderName, statements, clock, queryExecutor);
+        leaseContext = SqlLeaseContextBuilder.with(transactionContext, leaseHolderName, statements, clock, queryExecutor)
+                .observedBy(TransferProcess.class.getSimpleName(), observer);
+        new StateBacklog(this::countByState, clock).register(observer, TransferProcess.class.getSimpleName(), BACKLOG_STATES, TransferProcessStates::code);
     }
 
     @Override
@@ -77,14 +101,17 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
             var statement = statements.createQuery(querySpec);
             statement.addWhereClause(statements.getNotLeasedFilter());
             statement.addParameter(clock.millis());
+            statement.addWhereClause(statements.getNextAttemptAtColumn() + " <= ?");
+            statement.addParameter(clock.millis());
 
             try (
                     var connection = getConnection();
                     var stream = queryExecutor.query(connection, true, this::mapTransferProcess, statement.getQueryAsString(), statement.getParameters())
             ) {
                 var transferProcesses = stream.collect(Collectors.toList());
-                transferProcesses.forEach(transferProcess -> leaseContext.withConnection(connection).acquireLease(transferProcess.getId()));
-                return transferProcesses;
+                var ids = transferProcesses.stream().map(TransferProcess::getId).collect(toList());
+                var leased = leaseContext.withConnection(connection).acquireLeases(ids);
+                return transferProcesses.stream().filter(transferProcess -> leased.contains(transferProcess.getId())).collect(toList());
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
@@ -210,6 +237,20 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
         });
     }
 
+    private Map<Integer, Long> countByState() {
+        return transactionContext.execute(() -> {
+            try (
+                    var connection = getConnection();
+                    var stream = queryExecutor.query(connection, true, r -> Map.entry(r.getInt(statements.getStateColumn()), r.getLong("count")),
+                            statements.getCountByStateTemplate(BACKLOG_STATES.size()), BACKLOG_STATES.stream().map(TransferProcessStates::code).toArray())
+            ) {
+                return stream.collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
     private DataRequest mapDataRequest(ResultSet resultSet) throws SQLException {
         return DataRequest.Builder.newInstance()
                 .id(resultSet.getString("edc_data_request_id"))
@@ -255,6 +296,7 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
                 toJson(process.getDeprovisionedResources()),
                 toJson(process.getCallbackAddresses()),
                 process.isPending(),
+                process.getNextAttemptAt(),
                 process.getId());
 
         var newDr = process.getDataRequest();
@@ -310,7 +352,8 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
                 toJson(process.getDeprovisionedResources()),
                 toJson(process.getPrivateProperties()),
                 toJson(process.getCallbackAddresses()),
-                process.isPending());
+                process.isPending(),
+                process.getNextAttemptAt());
 
         //insert DataRequest
         var dr = process.getDataRequest();
@@ -354,6 +397,7 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
                 }))
                 .privateProperties(fromJson(resultSet.getString(statements.getPrivatePropertiesColumn()), getTypeRef()))
                 .pending(resultSet.getBoolean(statements.getPendingColumn()))
+                .nextAttemptAt(resultSet.getLong(statements.getNextAttemptAtColumn()))
                 .build();
     }
 
@@ -18,6 +18,8 @@ import org.eclipse.edc.connector.store.sql.transferprocess.store.schema.postgres
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.sql.translation.SqlQueryStatement;
 
+import java.util.Collections;
+
 import static java.lang.String.format;
 
 /**
@@ -40,6 +42,11 @@ public abstract class BaseSqlDialectStatements implements TransferProcessStoreSt
                 .insertInto(getLeaseTableName());
     }
 
+    @Override
+    public String getLeasedEntityTableName() {
+        return getTransferProcessTableName();
+    }
+
     @Override
     public String getUpdateLeaseTemplate() {
         return executeStatement()
@@ -72,6 +79,7 @@ public abstract class BaseSqlDialectStatements implements TransferProcessStoreSt
                 .jsonColumn(getPrivatePropertiesColumn())
                 .jsonColumn(getCallbackAddressesColumn())
                 .column(getPendingColumn())
+                .column(getNextAttemptAtColumn())
                 .insertInto(getTransferProcessTableName());
     }
 
@@ -95,6 +103,7 @@ public abstract class BaseSqlDialectStatements implements TransferProcessStoreSt
                 .jsonColumn(getDeprovisionedResourcesColumn())
                 .jsonColumn(getCallbackAddressesColumn())
                 .column(getPendingColumn())
+                .column(getNextAttemptAtColumn())
                 .update(getTransferProcessTableName(), getIdColumn());
     }
 
@@ -113,6 +122,12 @@ public abstract class BaseSqlDialectStatements implements TransferProcessStoreSt
                 .insertInto(getDataRequestTable());
     }
 
+    @Override
+    public String getCountByStateTemplate(int stateCount) {
+        return format("SELECT %s, COUNT(*) AS count FROM %s WHERE %s IN (%s) GROUP BY %s", getStateColumn(), getTransferProcessTableName(), getStateColumn(),
+                String.join(",", Collections.nCopies(stateCount, "?")), getStateColumn());
+    }
+
     @Override
     public String getSelectTemplate() {
         return format("SELECT *, edr.%s as edc_data_request_id FROM %s LEFT OUTER JOIN %s edr on %s.%s = edr.%s", getDataRequestIdColumn(),
@@ -37,6 +37,8 @@ public interface TransferProcessStoreStatements extends LeaseStatements {
 
     String getUpdateDataRequestTemplate();
 
+    String getCountByStateTemplate(int stateCount);
+
     default String getIdColumn() {
         return "transferprocess_id";
     }
@@ -145,5 +147,9 @@ public interface TransferProcessStoreStatements extends LeaseStatements {
         return "pending";
     }
 
+    default String getNextAttemptAtColumn() {
+        return "next_attempt_at";
+    }
+
     SqlQueryStatement createQuery(QuerySpec querySpec);
 }
@@ -18,14 +18,17 @@ import org.eclipse.edc.connector.store.sql.transferprocess.store.SqlTransferProc
 import org.eclipse.edc.connector.store.sql.transferprocess.store.schema.postgres.PostgresDialectStatements;
 import org.eclipse.edc.connector.transfer.spi.testfixtures.store.TestFunctions;
 import org.eclipse.edc.connector.transfer.spi.testfixtures.store.TransferProcessStoreTestBase;
+import org.eclipse.edc.connector.transfer.spi.types.TransferProcessStates;
 import org.eclipse.edc.junit.annotations.ComponentTest;
 import org.eclipse.edc.policy.model.PolicyRegistrationTypes;
+import org.eclipse.edc.spi.system.StateMachineObserver;
 import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.sql.QueryExecutor;
 import org.eclipse.edc.sql.lease.testfixtures.LeaseUtil;
 import org.eclipse.edc.sql.testfixtures.PostgresqlStoreSetupExtension;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.io.IOException;
@@ -33,19 +36,32 @@ import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.time.Clock;
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.connector.transfer.spi.testfixtures.store.TestFunctions.createTransferProcess;
+import static org.eclipse.edc.connector.transfer.spi.types.TransferProcessStates.COMPLETED;
+import static org.eclipse.edc.connector.transfer.spi.types.TransferProcessStates.DEPROVISIONED;
+import static org.eclipse.edc.connector.transfer.spi.types.TransferProcessStates.INITIAL;
+import static org.eclipse.edc.connector.transfer.spi.types.TransferProcessStates.REQUESTED;
+import static org.eclipse.edc.connector.transfer.spi.types.TransferProcessStates.STARTED;
+import static org.eclipse.edc.connector.transfer.spi.types.TransferProcessStates.TERMINATED;
+import static org.eclipse.edc.sql.store.StateBacklog.GAUGE_NAME;
 
 @ComponentTest
 @ExtendWith(PostgresqlStoreSetupExtension.class)
 class PostgresTransferProcessStoreTest extends TransferProcessStoreTestBase {
 
     private final PostgresDialectStatements statements = new PostgresDialectStatements();
+    private final TypeManager typeManager = new TypeManager();
     private LeaseUtil leaseUtil;
     private SqlTransferProcessStore store;
 
     @BeforeEach
     void setUp(PostgresqlStoreSetupExtension extension, QueryExecutor queryExecutor) throws IOException {
         var clock = Clock.systemUTC();
-        var typeManager = new TypeManager();
         typeManager.registerTypes(TestFunctions.TestResourceDef.class, TestFunctions.TestProvisionedResource.class);
         typeManager.registerTypes(PolicyRegistrationTypes.TYPES.toArray(Class<?>[]::new));
 
@@ -65,6 +81,33 @@ class PostgresTransferProcessStoreTest extends TransferProcessStoreTestBase {
         extension.runQuery("DROP TABLE " + statements.getLeaseTableName() + " CASCADE");
     }
 
+    @Test
+    void backlogGauges_shouldCountTransferProcessesByState(PostgresqlStoreSetupExtension extension, QueryExecutor queryExecutor) {
+        var gauges = new HashMap<String, Supplier<Number>>();
+        var observer = new StateMachineObserver() {
+            @Override
+            public void registerGauge(String name, Map<String, String> tags, Supplier<Number> value) {
+                assertThat(name).isEqualTo(GAUGE_NAME);
+                assertThat(tags).containsEntry("entity", "TransferProcess");
+                gauges.put(tags.get("state"), value);
+            }
+        };
+        var store = new SqlTransferProcessStore(extension.getDataSourceRegistry(), extension.getDatasourceName(),
+                extension.getTransactionContext(), typeManager.getMapper(), statements, "test-connector",
+                Clock.systemUTC(), queryExecutor, observer);
+
+        store.save(createTransferProcess("id1", STARTED));
+        store.save(createTransferProcess("id2", STARTED));
+        store.save(createTransferProcess("id3", REQUESTED));
+        store.save(createTransferProcess("id4", COMPLETED));
+
+        assertThat(gauges).doesNotContainKeys(COMPLETED.name(), TERMINATED.name(), DEPROVISIONED.name())
+                .hasSize(TransferProcessStates.values().length - 3);
+        assertThat(gauges.get(STARTED.name()).get()).isEqualTo(2L);
+        assertThat(gauges.get(REQUESTED.name()).get()).isEqualTo(1L);
+        assertThat(gauges.get(INITIAL.name()).get()).isEqualTo(0L);
+    }
+
     @Override
     protected SqlTransferProcessStore getTransferProcessStore() {
         return store;
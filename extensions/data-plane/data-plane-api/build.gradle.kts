@@ -23,6 +23,7 @@ dependencies {
     api(project(":spi:common:http-spi"))
     api(project(":spi:common:web-spi"))
     api(project(":spi:data-plane:data-plane-spi"))
+    implementation(project(":core:common:util"))
     implementation(project(":core:data-plane:data-plane-util"))
     implementation(project(":extensions:common:api:control-api-configuration"))
 
@@ -17,8 +17,10 @@ package org.eclipse.edc.connector.dataplane.api;
 import org.eclipse.edc.connector.api.control.configuration.ControlApiConfiguration;
 import org.eclipse.edc.connector.dataplane.api.controller.DataPlaneControlApiController;
 import org.eclipse.edc.connector.dataplane.api.controller.DataPlanePublicApiController;
+import org.eclipse.edc.connector.dataplane.api.validation.CachingDataAddressResolver;
 import org.eclipse.edc.connector.dataplane.api.validation.ConsumerPullTransferDataAddressResolver;
 import org.eclipse.edc.connector.dataplane.spi.manager.DataPlaneManager;
+import org.eclipse.edc.connector.dataplane.spi.resolver.DataAddressResolver;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
@@ -32,7 +34,11 @@ import org.eclipse.edc.web.spi.WebService;
 import org.eclipse.edc.web.spi.configuration.WebServiceConfigurer;
 import org.eclipse.edc.web.spi.configuration.WebServiceSettings;
 
-import java.util.concurrent.Executors;
+import java.time.Clock;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
 
 /**
  * This extension provides the Data Plane API:
@@ -47,9 +53,26 @@ public class DataPlaneApiExtension implements ServiceExtension {
     private static final String PUBLIC_CONTEXT_ALIAS = "public";
     private static final String PUBLIC_CONTEXT_PATH = "/api/v1/public";
 
+    private static final long DEFAULT_TOKEN_CACHE_TTL = 0;
+    private static final int DEFAULT_TOKEN_CACHE_SIZE = 1000;
+    private static final int DEFAULT_PUBLIC_API_THREADS = 10;
+    private static final int DEFAULT_PUBLIC_API_QUEUE_SIZE = 100;
+
     @Setting
     private static final String CONTROL_PLANE_VALIDATION_ENDPOINT = "edc.dataplane.token.validation.endpoint";
 
+    @Setting(value = "the maximum time in milliseconds for which a token resolved by the control plane is cached, within the token expiration. 0 disables the cache", type = "long", defaultValue = DEFAULT_TOKEN_CACHE_TTL + "")
+    private static final String TOKEN_CACHE_TTL = "edc.dataplane.token.validation.cache.ttl-millis";
+
+    @Setting(value = "the maximum number of tokens cached by the data plane public API", type = "int", defaultValue = DEFAULT_TOKEN_CACHE_SIZE + "")
+    private static final String TOKEN_CACHE_SIZE = "edc.dataplane.token.validation.cache.size";
+
+    @Setting(value = "the maximum number of responses the data plane public API streams concurrently", type = "int", defaultValue = DEFAULT_PUBLIC_API_THREADS + "")
+    private static final String PUBLIC_API_THREADS = "edc.dataplane.api.public.threads";
+
+    @Setting(value = "the maximum number of responses waiting for a data plane public API thread, further requests are rejected", type = "int", defaultValue = DEFAULT_PUBLIC_API_QUEUE_SIZE + "")
+    private static final String PUBLIC_API_QUEUE_SIZE = "edc.dataplane.api.public.queue.size";
+
     private static final WebServiceSettings PUBLIC_SETTINGS = WebServiceSettings.Builder.newInstance()
             .apiConfigKey(PUBLIC_API_CONFIG)
             .contextAlias(PUBLIC_CONTEXT_ALIAS)
@@ -79,6 +102,9 @@ public class DataPlaneApiExtension implements ServiceExtension {
     @Inject
     private TypeManager typeManager;
 
+    @Inject
+    private Clock clock;
+
     @Override
     public String name() {
         return NAME;
@@ -90,10 +116,19 @@ public class DataPlaneApiExtension implements ServiceExtension {
 
         var validationEndpoint = context.getConfig().getString(CONTROL_PLANE_VALIDATION_ENDPOINT);
 
-        var dataAddressResolver = new ConsumerPullTransferDataAddressResolver(httpClient, validationEndpoint, typeManager.getMapper());
-
+        DataAddressResolver dataAddressResolver = new ConsumerPullTransferDataAddressResolver(httpClient, validationEndpoint, typeManager.getMapper());
+        var tokenCacheTtl = context.getSetting(TOKEN_CACHE_TTL, DEFAULT_TOKEN_CACHE_TTL);
+        if (tokenCacheTtl > 0) {
+            var tokenCacheSize = context.getSetting(TOKEN_CACHE_SIZE, DEFAULT_TOKEN_CACHE_SIZE);
+            dataAddressResolver = new CachingDataAddressResolver(dataAddressResolver, typeManager.getMapper(), clock, tokenCacheTtl, tokenCacheSize);
+        }
+
+        var threads = context.getSetting(PUBLIC_API_THREADS, DEFAULT_PUBLIC_API_THREADS);
+        var queueSize = context.getSetting(PUBLIC_API_QUEUE_SIZE, DEFAULT_PUBLIC_API_QUEUE_SIZE);
+        var threadPool = new ThreadPoolExecutor(threads, threads, 60, SECONDS, new ArrayBlockingQueue<>(queueSize));
+        threadPool.allowCoreThreadTimeOut(true);
         var executorService = context.getService(ExecutorInstrumentation.class)
-                .instrument(Executors.newSingleThreadExecutor(), DataPlanePublicApiController.class.getSimpleName());
+                .instrument(threadPool, DataPlanePublicApiController.class.getSimpleName());
 
         webService.registerResource(controlApiConfiguration.getContextAlias(), new DataPlaneControlApiController(dataPlaneManager));
 
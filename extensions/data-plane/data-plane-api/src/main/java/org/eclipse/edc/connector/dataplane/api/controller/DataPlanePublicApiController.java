@@ -29,14 +29,13 @@ import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import org.eclipse.edc.connector.dataplane.api.pipeline.AsyncStreamingDataSink;
 import org.eclipse.edc.connector.dataplane.spi.manager.DataPlaneManager;
 import org.eclipse.edc.connector.dataplane.spi.resolver.DataAddressResolver;
-import org.eclipse.edc.connector.dataplane.util.sink.OutputStreamDataSink;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.web.spi.exception.NotAuthorizedException;
 
-import java.io.ByteArrayOutputStream;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
 
@@ -140,14 +139,14 @@ public class DataPlanePublicApiController implements DataPlanePublicApi {
             return;
         }
 
-        var stream = new ByteArrayOutputStream();
-        var sink = new OutputStreamDataSink(dataFlowRequest.getId(), stream, executorService, monitor);
+        // the sink resumes the response as soon as the source is open: the resumes below only apply if it did not
+        var sink = new AsyncStreamingDataSink(response, executorService, monitor);
 
         dataPlaneManager.transfer(sink, dataFlowRequest)
                 .whenComplete((result, throwable) -> {
                     if (throwable == null) {
                         if (result.succeeded()) {
-                            response.resume(Response.ok(stream.toString()).build());
+                            response.resume(Response.ok().build());
                         } else {
                             response.resume(internalErrors(result.getFailureMessages()));
                         }
@@ -0,0 +1,107 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.api.pipeline;
+
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSink;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.spi.monitor.Monitor;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult.error;
+import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult.failure;
+
+/**
+ * Streams the parts of a {@link DataSource} sequentially into the body of a suspended {@link AsyncResponse}, without
+ * buffering them. The response carries the media type of the first part, so binary content is passed through as is.
+ * Writing blocks on the response output stream, which makes slow clients throttle the read from the source.
+ * <p>
+ * The returned future completes when the whole body has been written. If the source cannot be opened the response is
+ * not resumed, letting the caller report the failure. If the source has no parts, the response is not resumed either.
+ * The same applies when the executor rejects the response because it is saturated.
+ */
+public class AsyncStreamingDataSink implements DataSink {
+
+    private final AsyncResponse response;
+    private final ExecutorService executorService;
+    private final Monitor monitor;
+
+    public AsyncStreamingDataSink(AsyncResponse response, ExecutorService executorService, Monitor monitor) {
+        this.response = response;
+        this.executorService = executorService;
+        this.monitor = monitor;
+    }
+
+    @Override
+    public CompletableFuture<StreamResult<Void>> transfer(DataSource source) {
+        var streamResult = source.openPartStream();
+        if (streamResult.failed()) {
+            return completedFuture(failure(streamResult.getFailure()));
+        }
+
+        var partStream = streamResult.getContent();
+        var parts = partStream.iterator();
+        if (!parts.hasNext()) {
+            partStream.close();
+            return completedFuture(StreamResult.success());
+        }
+
+        var first = parts.next();
+        var result = new CompletableFuture<StreamResult<Void>>();
+        StreamingOutput output = outputStream -> {
+            try (partStream) {
+                write(first, outputStream);
+                while (parts.hasNext()) {
+                    write(parts.next(), outputStream);
+                }
+                result.complete(StreamResult.success());
+            } catch (IOException | RuntimeException e) {
+                monitor.severe("Error writing data", e);
+                result.complete(error("Error writing data: " + e.getMessage()));
+                throw e;
+            }
+        };
+
+        try {
+            executorService.execute(() -> {
+                if (!response.resume(Response.ok(output).type(first.mediaType()).build())) {
+                    partStream.close();
+                    result.complete(error("Response could not be resumed"));
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            partStream.close();
+            return completedFuture(error("Too many concurrent transfers, request rejected"));
+        }
+
+        return result;
+    }
+
+    private void write(DataSource.Part part, OutputStream outputStream) throws IOException {
+        try (var content = part.openStream()) {
+            content.transferTo(outputStream);
+        }
+        outputStream.flush();
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.api.validation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.connector.dataplane.spi.resolver.DataAddressResolver;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.eclipse.edc.util.collection.LruCache;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.util.Base64;
+
+/**
+ * Caches the {@link DataAddress} resolved from a token by a delegate resolver. An entry never outlives the expiration
+ * time (the `exp` claim) of its token nor the configured maximum time-to-live: tokens without an expiration time are
+ * never cached. Only successful resolutions are cached, so the expiration time is read from a token that the delegate
+ * already validated.
+ */
+public class CachingDataAddressResolver implements DataAddressResolver {
+
+    private static final String EXPIRATION_TIME = "exp";
+
+    private final DataAddressResolver delegate;
+    private final ObjectMapper mapper;
+    private final Clock clock;
+    private final long maxTtlMillis;
+    private final LruCache<String, Entry> cache;
+
+    public CachingDataAddressResolver(DataAddressResolver delegate, ObjectMapper mapper, Clock clock, long maxTtlMillis, int capacity) {
+        this.delegate = delegate;
+        this.mapper = mapper;
+        this.clock = clock;
+        this.maxTtlMillis = maxTtlMillis;
+        this.cache = new LruCache<>(capacity);
+    }
+
+    @Override
+    public Result<DataAddress> resolve(String token) {
+        var now = clock.millis();
+        synchronized (cache) {
+            var entry = cache.get(token);
+            if (entry != null && entry.expiresAt() > now) {
+                return Result.success(copy(entry.dataAddress()));
+            }
+        }
+
+        var result = delegate.resolve(token);
+        if (result.succeeded()) {
+            var expiresAt = Math.min(now + maxTtlMillis, expirationTime(token));
+            if (expiresAt > now) {
+                synchronized (cache) {
+                    cache.put(token, new Entry(copy(result.getContent()), expiresAt));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Reads the expiration time of a JWT in milliseconds, without verifying it. Returns 0 if it cannot be determined.
+     */
+    private long expirationTime(String token) {
+        var parts = token.split("\\.");
+        if (parts.length < 2) {
+            return 0;
+        }
+        try {
+            var expiration = mapper.readTree(Base64.getUrlDecoder().decode(parts[1])).get(EXPIRATION_TIME);
+            return expiration != null && expiration.canConvertToLong() ? expiration.asLong() * 1000 : 0;
+        } catch (IOException | IllegalArgumentException e) {
+            return 0;
+        }
+    }
+
+    private DataAddress copy(DataAddress dataAddress) {
+        return DataAddress.Builder.newInstance().properties(dataAddress.getProperties()).build();
+    }
+
+    private record Entry(DataAddress dataAddress, long expiresAt) {
+    }
+}
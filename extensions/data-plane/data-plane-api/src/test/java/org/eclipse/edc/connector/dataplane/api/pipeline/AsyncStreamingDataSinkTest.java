@@ -0,0 +1,123 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.api.pipeline;
+
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class AsyncStreamingDataSinkTest {
+
+    private final AsyncResponse asyncResponse = mock();
+    private final ExecutorService executorService = Executors.newSingleThreadExecutor();
+    private final AsyncStreamingDataSink sink = new AsyncStreamingDataSink(asyncResponse, executorService, mock(Monitor.class));
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    void transfer_shouldStreamPartsSequentially() throws Exception {
+        var body = new ByteArrayOutputStream();
+        var mediaType = new String[1];
+        when(asyncResponse.resume(any(Response.class))).thenAnswer(i -> {
+            Response response = i.getArgument(0);
+            mediaType[0] = response.getMediaType().toString();
+            ((StreamingOutput) response.getEntity()).write(body);
+            return true;
+        });
+        DataSource source = () -> StreamResult.success(Stream.of(part("first", "image/png"), part("second", "image/png")));
+
+        var result = sink.transfer(source).get(10, TimeUnit.SECONDS);
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(body.toString()).isEqualTo("firstsecond");
+        assertThat(mediaType[0]).isEqualTo("image/png");
+    }
+
+    @Test
+    void transfer_shouldNotResume_whenSourceFails() throws Exception {
+        DataSource source = StreamResult::notFound;
+
+        var result = sink.transfer(source).get(10, TimeUnit.SECONDS);
+
+        assertThat(result.failed()).isTrue();
+        verifyNoInteractions(asyncResponse);
+    }
+
+    @Test
+    void transfer_shouldFail_whenResponseCannotBeResumed() throws Exception {
+        when(asyncResponse.resume(any(Response.class))).thenReturn(false);
+        DataSource source = () -> StreamResult.success(Stream.of(part("content", "text/plain")));
+
+        var result = sink.transfer(source).get(10, TimeUnit.SECONDS);
+
+        assertThat(result.failed()).isTrue();
+    }
+
+    @Test
+    void transfer_shouldFailWithoutResuming_whenExecutorIsSaturated() throws Exception {
+        ExecutorService saturatedExecutor = mock();
+        doThrow(new RejectedExecutionException()).when(saturatedExecutor).execute(any());
+        var rejectingSink = new AsyncStreamingDataSink(asyncResponse, saturatedExecutor, mock(Monitor.class));
+        DataSource source = () -> StreamResult.success(Stream.of(part("content", "text/plain")));
+
+        var result = rejectingSink.transfer(source).get(10, TimeUnit.SECONDS);
+
+        assertThat(result.failed()).isTrue();
+        verifyNoInteractions(asyncResponse);
+    }
+
+    private DataSource.Part part(String content, String mediaType) {
+        return new DataSource.Part() {
+            @Override
+            public String name() {
+                return content;
+            }
+
+            @Override
+            public String mediaType() {
+                return mediaType;
+            }
+
+            @Override
+            public InputStream openStream() {
+                return new ByteArrayInputStream(content.getBytes());
+            }
+        };
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.api.validation;
+
+import org.eclipse.edc.connector.dataplane.spi.resolver.DataAddressResolver;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingDataAddressResolverTest {
+
+    private final Instant now = Instant.now();
+    private final Clock clock = Clock.fixed(now, ZoneOffset.UTC);
+    private final DataAddressResolver delegate = mock();
+    private final CachingDataAddressResolver resolver = new CachingDataAddressResolver(delegate, new TypeManager().getMapper(), clock, 60_000, 10);
+
+    @Test
+    void resolve_shouldCacheUntilTokenExpiration() {
+        var token = token(now.getEpochSecond() + 30);
+        when(delegate.resolve(any())).thenReturn(Result.success(DataAddress.Builder.newInstance().type("test").build()));
+
+        var first = resolver.resolve(token);
+        var second = resolver.resolve(token);
+
+        assertThat(first).isSucceeded();
+        assertThat(second).isSucceeded().satisfies(address -> assertThat(address.getType()).isEqualTo("test"));
+        verify(delegate, times(1)).resolve(token);
+    }
+
+    @Test
+    void resolve_shouldNotCache_whenTokenExpired() {
+        var token = token(now.getEpochSecond() - 1);
+        when(delegate.resolve(any())).thenReturn(Result.success(DataAddress.Builder.newInstance().type("test").build()));
+
+        resolver.resolve(token);
+        resolver.resolve(token);
+
+        verify(delegate, times(2)).resolve(token);
+    }
+
+    @Test
+    void resolve_shouldNotCache_whenTokenHasNoExpiration() {
+        when(delegate.resolve(any())).thenReturn(Result.success(DataAddress.Builder.newInstance().type("test").build()));
+
+        resolver.resolve("opaque-token");
+        resolver.resolve("opaque-token");
+
+        verify(delegate, times(2)).resolve("opaque-token");
+    }
+
+    @Test
+    void resolve_shouldNotCacheFailures() {
+        var token = token(now.getEpochSecond() + 30);
+        when(delegate.resolve(any())).thenReturn(Result.failure("invalid"));
+
+        resolver.resolve(token);
+        var result = resolver.resolve(token);
+
+        assertThat(result).isFailed();
+        verify(delegate, times(2)).resolve(token);
+    }
+
+    private String token(long expiration) {
+        var encoder = Base64.getUrlEncoder().withoutPadding();
+        var header = encoder.encodeToString("{\"alg\":\"RS256\"}".getBytes());
+        var payload = encoder.encodeToString(("{\"exp\":" + expiration + "}").getBytes());
+        return header + "." + payload + ".signature";
+    }
+}
@@ -28,10 +28,14 @@ import org.eclipse.edc.runtime.metamodel.annotation.Provides;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.http.EdcHttpClient;
 import org.eclipse.edc.spi.security.Vault;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 /**
  * Provides support for reading data from an HTTP endpoint and sending data to an HTTP endpoint.
  */
@@ -41,9 +45,23 @@ public class DataPlaneHttpExtension implements ServiceExtension {
     public static final String NAME = "Data Plane HTTP";
     private static final int DEFAULT_PART_SIZE = 5;
 
+    private static final long DEFAULT_RANGE_SIZE = 8 * 1024 * 1024;
+
     @Setting
     private static final String EDC_DATAPLANE_HTTP_SINK_PARTITION_SIZE = "edc.dataplane.http.sink.partition.size";
 
+    @Setting(value = "Maximum number of concurrent HTTP requests a transfer uses to write to its destination", type = "int", defaultValue = HttpDataSinkFactory.DEFAULT_MAX_CONCURRENT_UPLOADS + "")
+    private static final String EDC_DATAPLANE_HTTP_SINK_UPLOADS_MAX = "edc.dataplane.http.sink.uploads.max";
+
+    @Setting(value = "Size in bytes of the chunks in which large random access parts are uploaded with a Content-Range header, 0 uploads every part as one request", type = "long", defaultValue = "0")
+    private static final String EDC_DATAPLANE_HTTP_SINK_CHUNK_SIZE = "edc.dataplane.http.sink.chunk.size";
+
+    @Setting(value = "How many byte ranges of large HTTP sources are downloaded concurrently, across all transfers, 1 downloads every source as a single stream", type = "int", defaultValue = "1")
+    private static final String EDC_DATAPLANE_HTTP_SOURCE_RANGE_PARALLELISM = "edc.dataplane.http.source.range.parallelism";
+
+    @Setting(value = "Size in bytes of the ranges in which a large HTTP source is downloaded", type = "long", defaultValue = DEFAULT_RANGE_SIZE + "")
+    private static final String EDC_DATAPLANE_HTTP_SOURCE_RANGE_SIZE = "edc.dataplane.http.source.range.size";
+
     @Inject
     private EdcHttpClient httpClient;
 
@@ -59,6 +77,11 @@ public class DataPlaneHttpExtension implements ServiceExtension {
     @Inject
     private TypeManager typeManager;
 
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    private ExecutorService rangeExecutorService;
+
     @Override
     public String name() {
         return NAME;
@@ -74,11 +97,27 @@ public class DataPlaneHttpExtension implements ServiceExtension {
 
         var httpRequestFactory = new HttpRequestFactory();
 
-        var sourceFactory = new HttpDataSourceFactory(httpClient, paramsProvider, monitor, httpRequestFactory);
+        var rangeParallelism = context.getSetting(EDC_DATAPLANE_HTTP_SOURCE_RANGE_PARALLELISM, 1);
+        var rangeSize = context.getSetting(EDC_DATAPLANE_HTTP_SOURCE_RANGE_SIZE, DEFAULT_RANGE_SIZE);
+        if (rangeParallelism > 1) {
+            // ranges are fetched on their own threads, as the transfer threads block while waiting for them. The pool is
+            // shared by all the transfers, so at most the configured parallelism of ranges is downloaded at a time
+            rangeExecutorService = executorInstrumentation.instrument(Executors.newFixedThreadPool(rangeParallelism), "HTTP source ranges");
+        }
+        var sourceFactory = new HttpDataSourceFactory(httpClient, paramsProvider, monitor, httpRequestFactory, rangeExecutorService, rangeSize, rangeParallelism);
         pipelineService.registerFactory(sourceFactory);
 
-        var sinkFactory = new HttpDataSinkFactory(httpClient, executorContainer.getExecutorService(), sinkPartitionSize, monitor, paramsProvider, httpRequestFactory);
+        var sinkFactory = new HttpDataSinkFactory(httpClient, executorContainer.getExecutorService(), sinkPartitionSize, monitor, paramsProvider, httpRequestFactory,
+                context.getSetting(EDC_DATAPLANE_HTTP_SINK_UPLOADS_MAX, HttpDataSinkFactory.DEFAULT_MAX_CONCURRENT_UPLOADS),
+                context.getSetting(EDC_DATAPLANE_HTTP_SINK_CHUNK_SIZE, 0L));
         pipelineService.registerFactory(sinkFactory);
     }
 
+    @Override
+    public void shutdown() {
+        if (rangeExecutorService != null) {
+            rangeExecutorService.shutdownNow();
+        }
+    }
+
 }
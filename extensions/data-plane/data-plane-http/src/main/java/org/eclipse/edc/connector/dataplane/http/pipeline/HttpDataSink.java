@@ -15,46 +15,117 @@
 
 package org.eclipse.edc.connector.dataplane.http.pipeline;
 
+import okhttp3.Request;
 import org.eclipse.edc.connector.dataplane.http.params.HttpRequestFactory;
 import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParams;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
 import org.eclipse.edc.connector.dataplane.util.sink.ParallelSink;
 import org.eclipse.edc.spi.http.EdcHttpClient;
+import org.eclipse.edc.spi.http.FallbackFactory;
 
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
 
 import static java.lang.String.format;
+import static org.eclipse.edc.spi.http.FallbackFactories.retryWhenStatusNot2xxOr4xx;
 
 /**
- * Writes data in a streaming fashion to an HTTP endpoint.
+ * Writes data in a streaming fashion to an HTTP endpoint. The parts of a partition are uploaded concurrently, up to a
+ * maximum number of uploads in flight per sink. Parts that support random access and are larger than the configured
+ * chunk size are uploaded as concurrent requests carrying a {@code Content-Range} header. Requests whose content can
+ * be read again are retried when the endpoint answers with a server error.
  */
 public class HttpDataSink extends ParallelSink {
     private static final StreamResult<Void> ERROR_WRITING_DATA = StreamResult.error("Error writing data");
+    private static final String CONTENT_RANGE_HEADER = "Content-Range";
 
     private HttpRequestParams params;
     private EdcHttpClient httpClient;
     private HttpRequestFactory requestFactory;
+    private int maxConcurrentUploads = HttpDataSinkFactory.DEFAULT_MAX_CONCURRENT_UPLOADS;
+    private long chunkSize = 0;
+    private Semaphore uploads;
 
     @Override
     protected StreamResult<Void> transferParts(List<DataSource.Part> parts) {
-        for (var part : parts) {
-            var request = requestFactory.toRequest(params, part::openStream);
-            try (var response = httpClient.execute(request)) {
-                if (!response.isSuccessful()) {
-                    monitor.severe(format("Error {%s: %s} received writing HTTP data %s to endpoint %s for request: %s",
-                            response.code(), response.message(), part.name(), request.url().url(), request));
-                    return ERROR_WRITING_DATA;
-                }
+        var results = parts.stream().map(this::upload).toList();
+        return results.stream()
+                .map(CompletableFuture::join)
+                .filter(StreamResult::failed)
+                .findFirst()
+                .orElseGet(StreamResult::success);
+    }
+
+    private CompletableFuture<StreamResult<Void>> upload(DataSource.Part part) {
+        if (chunkSize > 0 && part.supportsRandomAccess() && part.size() > chunkSize) {
+            return uploadChunks(part);
+        }
+        var fallbacks = part.supportsRandomAccess() ? List.of(retryWhenStatusNot2xxOr4xx()) : List.<FallbackFactory>of();
+        return send(part, () -> requestFactory.toRequest(params, part::openStream), fallbacks);
+    }
 
-                return StreamResult.success();
-            } catch (Exception e) {
-                monitor.severe(format("Error writing HTTP data %s to endpoint %s for request: %s", part.name(), request.url().url(), request), e);
-                return ERROR_WRITING_DATA;
-            }
+    private CompletableFuture<StreamResult<Void>> uploadChunks(DataSource.Part part) {
+        var size = part.size();
+        var chunks = new ArrayList<CompletableFuture<StreamResult<Void>>>();
+        for (var offset = 0L; offset < size; offset += chunkSize) {
+            var start = offset;
+            var end = Math.min(offset + chunkSize, size) - 1;
+            chunks.add(send(part, () -> {
+                var content = part.read(start, end - start + 1);
+                return requestFactory.toRequest(params, () -> new ByteArrayInputStream(content))
+                        .newBuilder()
+                        .header(CONTENT_RANGE_HEADER, format("bytes %d-%d/%d", start, end, size))
+                        .build();
+            }, List.of(retryWhenStatusNot2xxOr4xx())));
         }
-        return StreamResult.success();
+        return CompletableFuture.allOf(chunks.toArray(CompletableFuture[]::new))
+                .thenApply(v -> chunks.stream()
+                        .map(CompletableFuture::join)
+                        .filter(StreamResult::failed)
+                        .findFirst()
+                        .orElseGet(StreamResult::success));
+    }
+
+    /**
+     * Sends a request once an upload slot is free. The request is created only then, so that no more content than the
+     * uploads in flight is held in memory.
+     */
+    private CompletableFuture<StreamResult<Void>> send(DataSource.Part part, Supplier<Request> requestSupplier, List<FallbackFactory> fallbacks) {
+        try {
+            uploads.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.completedFuture(ERROR_WRITING_DATA);
+        }
+
+        Request request;
+        try {
+            request = requestSupplier.get();
+        } catch (Exception e) {
+            uploads.release();
+            monitor.severe(format("Error reading data %s for request: %s", part.name(), requestId), e);
+            return CompletableFuture.completedFuture(ERROR_WRITING_DATA);
+        }
+
+        return httpClient.executeAsync(request, fallbacks, response -> {
+                    if (!response.isSuccessful()) {
+                        monitor.severe(format("Error {%s: %s} received writing HTTP data %s to endpoint %s for request: %s",
+                                response.code(), response.message(), part.name(), request.url().url(), request));
+                        return ERROR_WRITING_DATA;
+                    }
+                    return StreamResult.<Void>success();
+                })
+                .exceptionally(throwable -> {
+                    monitor.severe(format("Error writing HTTP data %s to endpoint %s for request: %s", part.name(), request.url().url(), request), throwable);
+                    return ERROR_WRITING_DATA;
+                })
+                .whenComplete((result, throwable) -> uploads.release());
     }
 
     private HttpDataSink() {
@@ -85,6 +156,28 @@ public class HttpDataSink extends ParallelSink {
             return this;
         }
 
+        /**
+         * Maximum number of requests this sink has in flight at the same time.
+         */
+        public Builder maxConcurrentUploads(int maxConcurrentUploads) {
+            sink.maxConcurrentUploads = maxConcurrentUploads;
+            return this;
+        }
+
+        /**
+         * Size of the chunks in which large random access parts are uploaded, 0 uploads every part as one request.
+         */
+        public Builder chunkSize(long chunkSize) {
+            sink.chunkSize = chunkSize;
+            return this;
+        }
+
+        @Override
+        public HttpDataSink build() {
+            sink.uploads = new Semaphore(sink.maxConcurrentUploads);
+            return super.build();
+        }
+
         @Override
         protected void validate() {
             Objects.requireNonNull(sink.requestFactory, "requestFactory");
@@ -34,24 +34,39 @@ import static org.eclipse.edc.spi.types.domain.HttpDataAddress.HTTP_DATA;
  * Instantiates {@link HttpDataSink}s for requests whose source data type is {@link HttpDataAddress#HTTP_DATA}.
  */
 public class HttpDataSinkFactory implements DataSinkFactory {
+    public static final int DEFAULT_MAX_CONCURRENT_UPLOADS = 8;
+
     private final EdcHttpClient httpClient;
     private final ExecutorService executorService;
     private final int partitionSize;
     private final Monitor monitor;
     private final HttpRequestParamsProvider requestParamsProvider;
     private final HttpRequestFactory requestFactory;
+    private final int maxConcurrentUploads;
+    private final long chunkSize;
 
     public HttpDataSinkFactory(EdcHttpClient httpClient,
                                ExecutorService executorService,
                                int partitionSize,
                                Monitor monitor,
                                HttpRequestParamsProvider requestParamsProvider, HttpRequestFactory requestFactory) {
+        this(httpClient, executorService, partitionSize, monitor, requestParamsProvider, requestFactory, DEFAULT_MAX_CONCURRENT_UPLOADS, 0);
+    }
+
+    public HttpDataSinkFactory(EdcHttpClient httpClient,
+                               ExecutorService executorService,
+                               int partitionSize,
+                               Monitor monitor,
+                               HttpRequestParamsProvider requestParamsProvider, HttpRequestFactory requestFactory,
+                               int maxConcurrentUploads, long chunkSize) {
         this.httpClient = httpClient;
         this.executorService = executorService;
         this.partitionSize = partitionSize;
         this.monitor = monitor;
         this.requestParamsProvider = requestParamsProvider;
         this.requestFactory = requestFactory;
+        this.maxConcurrentUploads = maxConcurrentUploads;
+        this.chunkSize = chunkSize;
     }
 
     @Override
@@ -79,6 +94,8 @@ public class HttpDataSinkFactory implements DataSinkFactory {
                 .executorService(executorService)
                 .monitor(monitor)
                 .requestFactory(requestFactory)
+                .maxConcurrentUploads(maxConcurrentUploads)
+                .chunkSize(chunkSize)
                 .build();
     }
 }
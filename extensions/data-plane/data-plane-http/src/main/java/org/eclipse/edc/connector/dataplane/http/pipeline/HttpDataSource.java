@@ -15,6 +15,10 @@
 package org.eclipse.edc.connector.dataplane.http.pipeline;
 
 
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
 import org.eclipse.edc.connector.dataplane.http.params.HttpRequestFactory;
 import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParams;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
@@ -23,19 +27,29 @@ import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.http.EdcHttpClient;
 import org.eclipse.edc.spi.monitor.Monitor;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
 import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult.error;
 import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult.success;
 
+/**
+ * Reads data from an HTTP endpoint. When an executor and a parallelism greater than 1 are configured, a GET resource
+ * whose server supports byte ranges and which is larger than one range is exposed as a random access part, whose
+ * ranges are fetched concurrently.
+ */
 public class HttpDataSource implements DataSource {
     private static final int FORBIDDEN = 401;
     private static final int NOT_AUTHORIZED = 403;
     private static final int NOT_FOUND = 404;
+    private static final int RANGE_NOT_SATISFIABLE = 416;
+    private static final long DEFAULT_RANGE_SIZE = 8 * 1024 * 1024;
 
     private String name;
     private HttpRequestParams params;
@@ -43,43 +57,105 @@ public class HttpDataSource implements DataSource {
     private Monitor monitor;
     private EdcHttpClient httpClient;
     private HttpRequestFactory requestFactory;
+    private ExecutorService executorService;
+    private long rangeSize = DEFAULT_RANGE_SIZE;
+    private int parallelism = 1;
 
     @Override
     public StreamResult<Stream<Part>> openPartStream() {
         var request = requestFactory.toRequest(params);
         monitor.debug(() -> "Executing HTTP request: " + request.url());
         try {
-            // NB: Do not close the response as the body input stream needs to be read after this method returns. The response closes the body stream.
-            var response = httpClient.execute(request);
-            if (response.isSuccessful()) {
-                var body = response.body();
-                if (body == null) {
-                    throw new EdcException(format("Received empty response body transferring HTTP data for request %s: %s", requestId, response.code()));
-                }
-                return success(Stream.of(new HttpPart(name, body.byteStream())));
-            } else {
-                try {
-                    if (NOT_AUTHORIZED == response.code() || FORBIDDEN == response.code()) {
-                        return StreamResult.notAuthorized();
-                    } else if (NOT_FOUND == response.code()) {
-                        return StreamResult.notFound();
-                    } else {
-                        return error(format("Received code transferring HTTP data: %s - %s.", response.code(), response.message()));
-                    }
-                } finally {
-                    try {
-                        response.close();
-                    } catch (Exception e) {
-                        monitor.info("Error closing failed response", e);
-                    }
-                }
+            if (isRangedDownloadEnabled(request)) {
+                return openProbedPartStream(request);
             }
+            // NB: Do not close the response as the body input stream needs to be read after this method returns. The response closes the body stream.
+            return openPartStream(httpClient.execute(request));
         } catch (IOException e) {
             throw new EdcException(e);
         }
 
     }
 
+    private StreamResult<Stream<Part>> openPartStream(Response response) {
+        if (response.isSuccessful()) {
+            var body = response.body();
+            if (body == null) {
+                throw new EdcException(format("Received empty response body transferring HTTP data for request %s: %s", requestId, response.code()));
+            }
+            return success(Stream.of(new HttpPart(name, mediaType(body), body.byteStream())));
+        } else {
+            return failure(response);
+        }
+    }
+
+    private boolean isRangedDownloadEnabled(Request request) {
+        return executorService != null && parallelism > 1 && "GET".equals(request.method());
+    }
+
+    /**
+     * Requests the first range of the resource, and reuses the response whenever it holds the whole resource, so that
+     * the resource is requested a second time only when the range cannot be served, or its total size or version is
+     * unknown:
+     * <ul>
+     *     <li>partial content of a resource larger than one range, with a validator: a {@link RangedHttpPart} is returned</li>
+     *     <li>partial content of a resource that fits in one range: the probe body is the whole resource</li>
+     *     <li>any other response, e.g. the server ignores the range: it is handled as the response to the original request</li>
+     * </ul>
+     */
+    private StreamResult<Stream<Part>> openProbedPartStream(Request request) throws IOException {
+        var probe = request.newBuilder().header(RangedHttpPart.RANGE_HEADER, RangedHttpPart.range(0, rangeSize)).build();
+        var response = httpClient.execute(probe);
+        if (response.code() == RANGE_NOT_SATISFIABLE) {
+            // e.g. an empty resource
+            response.close();
+            return openPartStream(httpClient.execute(request));
+        }
+        var body = response.body();
+        if (response.code() != RangedHttpPart.PARTIAL_CONTENT || body == null) {
+            return openPartStream(response);
+        }
+
+        try (response) {
+            var size = RangedHttpPart.totalSize(response.header(RangedHttpPart.CONTENT_RANGE_HEADER));
+            if (size == Part.SIZE_UNKNOWN) {
+                return openPartStream(httpClient.execute(request));
+            }
+            if (size <= rangeSize) {
+                return success(Stream.of(new HttpPart(name, mediaType(body), new ByteArrayInputStream(body.bytes()))));
+            }
+            var validator = RangedHttpPart.validator(response);
+            if (validator == null) {
+                // without a validator, ranges of different versions of the resource could be mixed up
+                return openPartStream(httpClient.execute(request));
+            }
+            monitor.debug(() -> format("Downloading %s bytes from %s in ranges of %s bytes", size, request.url(), rangeSize));
+            return success(Stream.of(new RangedHttpPart(name, mediaType(body), request, size, body.bytes(), validator, httpClient, executorService, rangeSize, parallelism)));
+        }
+    }
+
+    private String mediaType(ResponseBody body) {
+        return Optional.ofNullable(body.contentType()).map(MediaType::toString).orElse(Part.DEFAULT_MEDIA_TYPE);
+    }
+
+    private StreamResult<Stream<Part>> failure(Response response) {
+        try {
+            if (NOT_AUTHORIZED == response.code() || FORBIDDEN == response.code()) {
+                return StreamResult.notAuthorized();
+            } else if (NOT_FOUND == response.code()) {
+                return StreamResult.notFound();
+            } else {
+                return error(format("Received code transferring HTTP data: %s - %s.", response.code(), response.message()));
+            }
+        } finally {
+            try {
+                response.close();
+            } catch (Exception e) {
+                monitor.info("Error closing failed response", e);
+            }
+        }
+    }
+
     private HttpDataSource() {
     }
 
@@ -124,6 +200,28 @@ public class HttpDataSource implements DataSource {
             return this;
         }
 
+        /**
+         * Executor on which the ranges of large resources are fetched. Without it, resources are always downloaded
+         * as a single stream.
+         */
+        public Builder executorService(ExecutorService executorService) {
+            dataSource.executorService = executorService;
+            return this;
+        }
+
+        public Builder rangeSize(long rangeSize) {
+            dataSource.rangeSize = rangeSize;
+            return this;
+        }
+
+        /**
+         * How many ranges of a resource are fetched concurrently, 1 disables ranged downloads.
+         */
+        public Builder parallelism(int parallelism) {
+            dataSource.parallelism = parallelism;
+            return this;
+        }
+
         public HttpDataSource build() {
             Objects.requireNonNull(dataSource.requestId, "requestId");
             Objects.requireNonNull(dataSource.httpClient, "httpClient");
@@ -135,10 +233,12 @@ public class HttpDataSource implements DataSource {
 
     private static class HttpPart implements Part {
         private final String name;
+        private final String mediaType;
         private final InputStream content;
 
-        HttpPart(String name, InputStream content) {
+        HttpPart(String name, String mediaType, InputStream content) {
             this.name = name;
+            this.mediaType = mediaType;
             this.content = content;
         }
 
@@ -152,6 +252,11 @@ public class HttpDataSource implements DataSource {
             return SIZE_UNKNOWN;
         }
 
+        @Override
+        public String mediaType() {
+            return mediaType;
+        }
+
         @Override
         public InputStream openStream() {
             return content;
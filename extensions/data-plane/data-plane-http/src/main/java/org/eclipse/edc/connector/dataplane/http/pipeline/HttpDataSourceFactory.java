@@ -25,6 +25,9 @@ import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.types.domain.HttpDataAddress;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowRequest;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.ExecutorService;
 
 import static org.eclipse.edc.spi.types.domain.HttpDataAddress.HTTP_DATA;
 
@@ -37,12 +40,30 @@ public class HttpDataSourceFactory implements DataSourceFactory {
     private final HttpRequestParamsProvider requestParamsProvider;
     private final Monitor monitor;
     private final HttpRequestFactory requestFactory;
+    private final ExecutorService rangeExecutorService;
+    private final long rangeSize;
+    private final int rangeParallelism;
 
     public HttpDataSourceFactory(EdcHttpClient httpClient, HttpRequestParamsProvider requestParamsProvider, Monitor monitor, HttpRequestFactory requestFactory) {
+        this(httpClient, requestParamsProvider, monitor, requestFactory, null, 0, 1);
+    }
+
+    /**
+     * Constructor enabling ranged downloads.
+     *
+     * @param rangeExecutorService executor on which the ranges are fetched, must not be the one running the transfers
+     * @param rangeSize the size of every range
+     * @param rangeParallelism how many ranges of a resource are fetched concurrently, 1 disables ranged downloads
+     */
+    public HttpDataSourceFactory(EdcHttpClient httpClient, HttpRequestParamsProvider requestParamsProvider, Monitor monitor, HttpRequestFactory requestFactory,
+                                 @Nullable ExecutorService rangeExecutorService, long rangeSize, int rangeParallelism) {
         this.httpClient = httpClient;
         this.requestParamsProvider = requestParamsProvider;
         this.monitor = monitor;
         this.requestFactory = requestFactory;
+        this.rangeExecutorService = rangeExecutorService;
+        this.rangeSize = rangeSize;
+        this.rangeParallelism = rangeParallelism;
     }
 
     @Override
@@ -65,13 +86,18 @@ public class HttpDataSourceFactory implements DataSourceFactory {
         var dataAddress = HttpDataAddress.Builder.newInstance()
                 .copyFrom(request.getSourceDataAddress())
                 .build();
-        return HttpDataSource.Builder.newInstance()
+        var builder = HttpDataSource.Builder.newInstance()
                 .httpClient(httpClient)
                 .monitor(monitor)
                 .requestId(request.getId())
                 .name(dataAddress.getName())
                 .params(requestParamsProvider.provideSourceParams(request))
                 .requestFactory(requestFactory)
-                .build();
+                .executorService(rangeExecutorService)
+                .parallelism(rangeParallelism);
+        if (rangeSize > 0) {
+            builder.rangeSize(rangeSize);
+        }
+        return builder.build();
     }
 }
@@ -0,0 +1,268 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.http.pipeline;
+
+import okhttp3.Request;
+import okhttp3.Response;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.http.EdcHttpClient;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+
+import static java.lang.String.format;
+
+/**
+ * A part of an HTTP resource whose server supports byte range requests. The content is fetched with ranged GET
+ * requests, so it can be read at random offsets, and {@link #openStream()} downloads several ranges concurrently while
+ * returning them in order.
+ * <p>
+ * Every range request carries an {@code If-Range} header with the validator of the probe response, its strong
+ * {@code ETag} or else its {@code Last-Modified} date, so a range is never taken from a different version of the
+ * resource: a server that answers with the whole resource, or with another validator, makes the read fail.
+ */
+class RangedHttpPart implements DataSource.Part {
+
+    static final String RANGE_HEADER = "Range";
+    static final String CONTENT_RANGE_HEADER = "Content-Range";
+    static final String IF_RANGE_HEADER = "If-Range";
+    static final String ETAG_HEADER = "ETag";
+    static final String LAST_MODIFIED_HEADER = "Last-Modified";
+    static final int PARTIAL_CONTENT = 206;
+
+    private final String name;
+    private final String mediaType;
+    private final long size;
+    private final Request request;
+    private final EdcHttpClient httpClient;
+    private final ExecutorService executorService;
+    private final long rangeSize;
+    private final int parallelism;
+    private final byte[] firstRange;
+    private final Validator validator;
+
+    /**
+     * Constructor.
+     *
+     * @param request the request of the resource, without range header
+     * @param size the total size of the resource
+     * @param firstRange the content of the first range, already fetched while probing the server
+     * @param validator the validator of the probe response, see {@link #validator(Response)}
+     * @param rangeSize the size of every range
+     * @param parallelism how many ranges are fetched concurrently by {@link #openStream()}
+     */
+    RangedHttpPart(String name, String mediaType, Request request, long size, byte[] firstRange, Validator validator,
+                   EdcHttpClient httpClient, ExecutorService executorService, long rangeSize, int parallelism) {
+        this.name = name;
+        this.mediaType = mediaType;
+        this.request = request;
+        this.size = size;
+        this.firstRange = firstRange;
+        this.validator = validator;
+        this.httpClient = httpClient;
+        this.executorService = executorService;
+        this.rangeSize = rangeSize;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Returns the value of a range header for the given bytes.
+     */
+    static String range(long offset, long bytes) {
+        return format("bytes=%d-%d", offset, offset + bytes - 1);
+    }
+
+    /**
+     * Parses the total size out of a {@code Content-Range} header, e.g. {@code bytes 0-1023/146515}.
+     *
+     * @return the total size, or {@link #SIZE_UNKNOWN} if the header is missing or does not contain it
+     */
+    static long totalSize(String contentRange) {
+        if (contentRange == null) {
+            return SIZE_UNKNOWN;
+        }
+        var separator = contentRange.lastIndexOf('/');
+        if (separator < 0) {
+            return SIZE_UNKNOWN;
+        }
+        try {
+            return Long.parseLong(contentRange.substring(separator + 1).trim());
+        } catch (NumberFormatException e) {
+            return SIZE_UNKNOWN;
+        }
+    }
+
+    /**
+     * Returns the validator of a response, which identifies the version of the resource: its {@code ETag} if it is a
+     * strong one, as weak ones cannot be used in {@code If-Range}, otherwise its {@code Last-Modified} date.
+     *
+     * @return the validator, or null if the response has none
+     */
+    @Nullable
+    static Validator validator(Response response) {
+        var etag = response.header(ETAG_HEADER);
+        if (etag != null && !etag.startsWith("W/")) {
+            return new Validator(ETAG_HEADER, etag);
+        }
+        var lastModified = response.header(LAST_MODIFIED_HEADER);
+        if (lastModified != null) {
+            return new Validator(LAST_MODIFIED_HEADER, lastModified);
+        }
+        return null;
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public long size() {
+        return size;
+    }
+
+    @Override
+    public String mediaType() {
+        return mediaType;
+    }
+
+    @Override
+    public boolean supportsRandomAccess() {
+        return true;
+    }
+
+    @Override
+    public byte[] read(long offset, long bytes) {
+        var length = Math.min(bytes, size - offset);
+        if (length <= 0) {
+            return new byte[0];
+        }
+        if (offset == 0 && length <= firstRange.length) {
+            return length == firstRange.length ? firstRange.clone() : Arrays.copyOf(firstRange, (int) length);
+        }
+
+        var rangeRequest = request.newBuilder()
+                .header(RANGE_HEADER, range(offset, length))
+                .header(IF_RANGE_HEADER, validator.value())
+                .build();
+        try (var response = httpClient.execute(rangeRequest)) {
+            var body = response.body();
+            if (response.code() != PARTIAL_CONTENT || body == null) {
+                throw new EdcException(format("Failed to read range %s of %s: %s - %s", range(offset, length), request.url(), response.code(), response.message()));
+            }
+            var header = response.header(validator.header());
+            if (!validator.value().equals(header)) {
+                throw new EdcException(format("Resource %s changed while reading range %s: %s %s instead of %s",
+                        request.url(), range(offset, length), validator.header(), header, validator.value()));
+            }
+            var content = body.bytes();
+            if (content.length != length) {
+                throw new EdcException(format("Received %s bytes instead of %s for range %s of %s", content.length, length, range(offset, length), request.url()));
+            }
+            return content;
+        } catch (IOException e) {
+            throw new EdcException(e);
+        }
+    }
+
+    @Override
+    public InputStream openStream() {
+        return new RangesInputStream();
+    }
+
+    /**
+     * Returns the ranges in order while keeping up to {@link #parallelism} of them in flight.
+     */
+    private class RangesInputStream extends InputStream {
+        private final Queue<CompletableFuture<byte[]>> pending = new ArrayDeque<>();
+        private long nextOffset;
+        private byte[] current;
+        private int position;
+
+        RangesInputStream() {
+            current = firstRange;
+            nextOffset = firstRange.length;
+            fill();
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (!ensureAvailable()) {
+                return -1;
+            }
+            return current[position++] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            if (!ensureAvailable()) {
+                return -1;
+            }
+            var count = Math.min(length, current.length - position);
+            System.arraycopy(current, position, buffer, offset, count);
+            position += count;
+            return count;
+        }
+
+        @Override
+        public void close() {
+            pending.forEach(future -> future.cancel(true));
+            pending.clear();
+        }
+
+        private boolean ensureAvailable() throws IOException {
+            while (position >= current.length) {
+                var next = pending.poll();
+                if (next == null) {
+                    return false;
+                }
+                try {
+                    current = next.join();
+                } catch (CompletionException e) {
+                    close();
+                    throw new IOException(e.getCause());
+                }
+                position = 0;
+                fill();
+            }
+            return true;
+        }
+
+        private void fill() {
+            while (pending.size() < parallelism && nextOffset < size) {
+                var offset = nextOffset;
+                pending.add(CompletableFuture.supplyAsync(() -> RangedHttpPart.this.read(offset, rangeSize), executorService));
+                nextOffset += rangeSize;
+            }
+        }
+    }
+
+    /**
+     * The header identifying the version of the resource, and its value in the probe response.
+     */
+    record Validator(String header, String value) {
+    }
+}
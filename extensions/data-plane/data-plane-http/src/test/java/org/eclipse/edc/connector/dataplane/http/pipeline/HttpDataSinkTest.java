@@ -0,0 +1,145 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.http.pipeline;
+
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import org.eclipse.edc.connector.dataplane.http.params.HttpRequestFactory;
+import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParams;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.junit.testfixtures.TestUtils.testHttpClient;
+import static org.mockito.Mockito.mock;
+
+class HttpDataSinkTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+    private final RecordingInterceptor interceptor = new RecordingInterceptor();
+    private final HttpRequestParams params = HttpRequestParams.Builder.newInstance()
+            .baseUrl("https://example.com/sink")
+            .method("POST")
+            .contentType("application/octet-stream")
+            .build();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void transfer_shouldUploadEveryPartOfPartition() {
+        var sink = sinkBuilder().partitionSize(5).build();
+        var parts = IntStream.range(0, 5).mapToObj(i -> (DataSource.Part) new TestPart("part" + i, ("content" + i).getBytes())).toList();
+
+        assertThat(sink.transfer(() -> StreamResult.success(parts.stream()))).succeedsWithin(5, TimeUnit.SECONDS)
+                .matches(StreamResult::succeeded);
+
+        assertThat(interceptor.bodies.values()).containsExactlyInAnyOrder("content0", "content1", "content2", "content3", "content4");
+    }
+
+    @Test
+    void transfer_shouldUploadLargeRandomAccessPartInChunks() {
+        var sink = sinkBuilder().chunkSize(4).maxConcurrentUploads(2).build();
+        var part = new TestPart("part", "0123456789".getBytes());
+
+        assertThat(sink.transfer(() -> StreamResult.success(Stream.<DataSource.Part>of(part)))).succeedsWithin(5, TimeUnit.SECONDS)
+                .matches(StreamResult::succeeded);
+
+        assertThat(interceptor.bodies).containsOnly(
+                Map.entry("bytes 0-3/10", "0123"),
+                Map.entry("bytes 4-7/10", "4567"),
+                Map.entry("bytes 8-9/10", "89"));
+    }
+
+    private HttpDataSink.Builder sinkBuilder() {
+        return HttpDataSink.Builder.newInstance()
+                .params(params)
+                .requestId("1")
+                .httpClient(testHttpClient(interceptor))
+                .executorService(executor)
+                .monitor(mock(Monitor.class))
+                .requestFactory(new HttpRequestFactory());
+    }
+
+    /**
+     * Records the bodies of the requests, by {@code Content-Range} header if present.
+     */
+    private static class RecordingInterceptor implements Interceptor {
+        private final Map<String, String> bodies = new ConcurrentHashMap<>();
+
+        @NotNull
+        @Override
+        public Response intercept(@NotNull Chain chain) throws IOException {
+            var request = chain.request();
+            var buffer = new Buffer();
+            request.body().writeTo(buffer);
+            var contentRange = request.header("Content-Range");
+            bodies.put(contentRange != null ? contentRange : UUID.randomUUID().toString(), buffer.readUtf8());
+            return new Response.Builder()
+                    .protocol(Protocol.HTTP_1_1)
+                    .request(request)
+                    .code(200)
+                    .message("")
+                    .body(ResponseBody.create("", MediaType.parse("application/json")))
+                    .build();
+        }
+    }
+
+    private record TestPart(String name, byte[] content) implements DataSource.Part {
+
+        @Override
+        public long size() {
+            return content.length;
+        }
+
+        @Override
+        public InputStream openStream() {
+            return new ByteArrayInputStream(content);
+        }
+
+        @Override
+        public boolean supportsRandomAccess() {
+            return true;
+        }
+
+        @Override
+        public byte[] read(long offset, long bytes) {
+            return Arrays.copyOfRange(content, (int) offset, (int) (offset + bytes));
+        }
+    }
+}
@@ -23,6 +23,7 @@ import okhttp3.ResponseBody;
 import org.eclipse.edc.connector.dataplane.http.params.HttpRequestFactory;
 import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParams;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamFailureArgument;
+import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.types.TypeManager;
 import org.jetbrains.annotations.NotNull;
@@ -33,14 +34,19 @@ import org.junit.jupiter.params.provider.MethodSource;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static okhttp3.Protocol.HTTP_1_1;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamFailure.Reason.GENERAL_ERROR;
 import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamFailure.Reason.NOT_AUTHORIZED;
 import static org.eclipse.edc.junit.testfixtures.TestUtils.testHttpClient;
@@ -114,6 +120,143 @@ class HttpDataSourceTest {
                 new StreamFailureArgument(500, GENERAL_ERROR));
     }
 
+    @Test
+    void verifyRangedDownload() throws IOException {
+        var content = new byte[10_000];
+        new Random().nextBytes(content);
+        var interceptor = new RangeInterceptor(content);
+        var request = new Request.Builder().url(url).get().build();
+        var executor = Executors.newFixedThreadPool(2);
+        var source = defaultBuilder(interceptor)
+                .params(mock(HttpRequestParams.class))
+                .requestFactory(requestFactory)
+                .executorService(executor)
+                .rangeSize(1_000)
+                .parallelism(3)
+                .build();
+
+        when(requestFactory.toRequest(any())).thenReturn(request);
+
+        var parts = source.openPartStream().getContent().collect(Collectors.toList());
+
+        assertThat(parts).hasSize(1);
+        var part = parts.get(0);
+        assertThat(part.size()).isEqualTo(content.length);
+        assertThat(part.supportsRandomAccess()).isTrue();
+        assertThat(part.read(2_500, 100)).isEqualTo(Arrays.copyOfRange(content, 2_500, 2_600));
+        try (var is = part.openStream()) {
+            assertThat(is.readAllBytes()).isEqualTo(content);
+        }
+        assertThat(interceptor.ranges).contains("bytes=0-999", "bytes=9000-9999");
+        assertThat(interceptor.ifRanges).isNotEmpty().allMatch("\"v1\""::equals);
+        executor.shutdownNow();
+    }
+
+    @Test
+    void verifyRangedDownloadFails_whenResourceChanges() {
+        var content = new byte[10_000];
+        new Random().nextBytes(content);
+        var interceptor = new RangeInterceptor(content);
+        var request = new Request.Builder().url(url).get().build();
+        var executor = Executors.newFixedThreadPool(2);
+        var source = defaultBuilder(interceptor)
+                .params(mock(HttpRequestParams.class))
+                .requestFactory(requestFactory)
+                .executorService(executor)
+                .rangeSize(1_000)
+                .parallelism(3)
+                .build();
+
+        when(requestFactory.toRequest(any())).thenReturn(request);
+
+        var part = source.openPartStream().getContent().findFirst().orElseThrow();
+        interceptor.etag = "\"v2\"";
+
+        assertThatThrownBy(() -> part.read(2_500, 100)).isInstanceOf(EdcException.class);
+        assertThatThrownBy(() -> {
+            try (var is = part.openStream()) {
+                is.readAllBytes();
+            }
+        }).isInstanceOf(IOException.class);
+        executor.shutdownNow();
+    }
+
+    @Test
+    void verifySingleStream_whenResourceHasNoValidator() throws IOException {
+        var content = new byte[10_000];
+        new Random().nextBytes(content);
+        var interceptor = new RangeInterceptor(content, null);
+        var request = new Request.Builder().url(url).get().build();
+        var executor = Executors.newSingleThreadExecutor();
+        var source = defaultBuilder(interceptor)
+                .params(mock(HttpRequestParams.class))
+                .requestFactory(requestFactory)
+                .executorService(executor)
+                .rangeSize(1_000)
+                .parallelism(3)
+                .build();
+
+        when(requestFactory.toRequest(any())).thenReturn(request);
+
+        var part = source.openPartStream().getContent().findFirst().orElseThrow();
+
+        assertThat(part.supportsRandomAccess()).isFalse();
+        try (var is = part.openStream()) {
+            assertThat(is.readAllBytes()).isEqualTo(content);
+        }
+        assertThat(interceptor.ranges).containsExactly("bytes=0-999");
+        executor.shutdownNow();
+    }
+
+    @Test
+    void verifySingleStream_whenServerIgnoresRanges() throws IOException {
+        var interceptor = new CustomInterceptor(200, ResponseBody.create("content", MediaType.parse("text/plain")), "Test message");
+        var request = new Request.Builder().url(url).get().build();
+        var source = defaultBuilder(interceptor)
+                .params(mock(HttpRequestParams.class))
+                .requestFactory(requestFactory)
+                .executorService(Executors.newSingleThreadExecutor())
+                .parallelism(3)
+                .build();
+
+        when(requestFactory.toRequest(any())).thenReturn(request);
+
+        var part = source.openPartStream().getContent().findFirst().orElseThrow();
+
+        assertThat(part.supportsRandomAccess()).isFalse();
+        try (var is = part.openStream()) {
+            assertThat(new String(is.readAllBytes())).isEqualTo("content");
+        }
+        assertThat(interceptor.requests).hasSize(1);
+    }
+
+    @Test
+    void verifySingleRequest_whenResourceFitsInOneRange() throws IOException {
+        var content = new byte[500];
+        new Random().nextBytes(content);
+        var interceptor = new RangeInterceptor(content);
+        var request = new Request.Builder().url(url).get().build();
+        var executor = Executors.newSingleThreadExecutor();
+        var source = defaultBuilder(interceptor)
+                .params(mock(HttpRequestParams.class))
+                .requestFactory(requestFactory)
+                .executorService(executor)
+                .rangeSize(1_000)
+                .parallelism(3)
+                .build();
+
+        when(requestFactory.toRequest(any())).thenReturn(request);
+
+        var part = source.openPartStream().getContent().findFirst().orElseThrow();
+
+        assertThat(part.supportsRandomAccess()).isFalse();
+        try (var is = part.openStream()) {
+            assertThat(is.readAllBytes()).isEqualTo(content);
+        }
+        assertThat(interceptor.ranges).containsExactly("bytes=0-999");
+        executor.shutdownNow();
+    }
+
     private HttpDataSource.Builder defaultBuilder(Interceptor interceptor) {
         var httpClient = testHttpClient(interceptor);
         return HttpDataSource.Builder.newInstance()
@@ -123,6 +266,59 @@ class HttpDataSourceTest {
                 .requestId(requestId);
     }
 
+    /**
+     * Serves the byte ranges of a content, identified by an {@code ETag}. The whole content is served to requests
+     * without range, or whose {@code If-Range} header does not match the {@code ETag}.
+     */
+    static final class RangeInterceptor implements Interceptor {
+        private final List<String> ranges = new CopyOnWriteArrayList<>();
+        private final List<String> ifRanges = new CopyOnWriteArrayList<>();
+        private final byte[] content;
+        private volatile String etag;
+
+        RangeInterceptor(byte[] content) {
+            this(content, "\"v1\"");
+        }
+
+        RangeInterceptor(byte[] content, String etag) {
+            this.content = content;
+            this.etag = etag;
+        }
+
+        @NotNull
+        @Override
+        public Response intercept(@NotNull Interceptor.Chain chain) {
+            var range = chain.request().header("Range");
+            if (range != null) {
+                ranges.add(range);
+            }
+            var ifRange = chain.request().header("If-Range");
+            if (ifRange != null) {
+                ifRanges.add(ifRange);
+            }
+            var builder = new Response.Builder()
+                    .request(chain.request())
+                    .protocol(HTTP_1_1);
+            if (etag != null) {
+                builder.header("ETag", etag);
+            }
+            if (range == null || ifRange != null && !ifRange.equals(etag)) {
+                return builder.code(200)
+                        .body(ResponseBody.create(content, MediaType.parse("application/octet-stream")))
+                        .message("OK")
+                        .build();
+            }
+            var bounds = range.substring("bytes=".length()).split("-");
+            var start = Integer.parseInt(bounds[0]);
+            var end = Math.min(Integer.parseInt(bounds[1]), content.length - 1);
+            return builder.code(206)
+                    .header("Content-Range", "bytes %d-%d/%d".formatted(start, end, content.length))
+                    .body(ResponseBody.create(Arrays.copyOfRange(content, start, end + 1), MediaType.parse("application/octet-stream")))
+                    .message("Partial Content")
+                    .build();
+        }
+    }
+
     static final class CustomInterceptor implements Interceptor {
         private final List<Request> requests = new ArrayList<>();
         private final int statusCode;
@@ -183,7 +183,7 @@ class KafkaDataSource implements DataSource, Closeable {
         }
 
         private void debug(String message) {
-            monitor.debug(String.format("KafkaDataSource %s %s", name, message));
+            monitor.debug(() -> String.format("KafkaDataSource %s %s", name, message));
         }
     }
 }
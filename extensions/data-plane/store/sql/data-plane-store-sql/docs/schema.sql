@@ -31,10 +31,12 @@ CREATE TABLE IF NOT EXISTS edc_data_plane
                     ON DELETE SET NULL,
     source               JSON,
     destination          JSON,
-    properties           JSON
+    properties           JSON,
+    next_attempt_at      BIGINT  DEFAULT 0 NOT NULL
 );
 
 COMMENT ON COLUMN edc_data_plane.trace_context IS 'Java Map serialized as JSON';
 COMMENT ON COLUMN edc_data_plane.source IS 'DataAddress serialized as JSON';
 COMMENT ON COLUMN edc_data_plane.destination IS 'DataAddress serialized as JSON';
 COMMENT ON COLUMN edc_data_plane.properties IS 'Java Map serialized as JSON';
+COMMENT ON COLUMN edc_data_plane.next_attempt_at IS 'posix timestamp before which the flow must not be picked up again';
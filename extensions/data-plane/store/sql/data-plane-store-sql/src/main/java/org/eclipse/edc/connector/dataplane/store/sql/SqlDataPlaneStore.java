@@ -16,16 +16,19 @@ package org.eclipse.edc.connector.dataplane.store.sql;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.eclipse.edc.connector.dataplane.spi.DataFlow;
+import org.eclipse.edc.connector.dataplane.spi.DataFlowStates;
 import org.eclipse.edc.connector.dataplane.spi.store.DataPlaneStore;
 import org.eclipse.edc.connector.dataplane.store.sql.schema.DataPlaneStatements;
 import org.eclipse.edc.spi.persistence.EdcPersistenceException;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.StoreResult;
+import org.eclipse.edc.spi.system.StateMachineObserver;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.sql.QueryExecutor;
 import org.eclipse.edc.sql.lease.SqlLeaseContextBuilder;
 import org.eclipse.edc.sql.store.AbstractSqlStore;
+import org.eclipse.edc.sql.store.StateBacklog;
 import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.jetbrains.annotations.NotNull;
@@ -38,8 +41,10 @@ import java.sql.SQLException;
 import java.time.Clock;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static java.lang.String.format;
 import static java.util.stream.Collectors.toList;
@@ -50,6 +55,11 @@ import static org.eclipse.edc.spi.query.Criterion.criterion;
  */
 public class SqlDataPlaneStore extends AbstractSqlStore implements DataPlaneStore {
 
+    // notified data flows are never processed again
+    private static final List<DataFlowStates> BACKLOG_STATES = Stream.of(DataFlowStates.values())
+            .filter(state -> state != DataFlowStates.NOTIFIED)
+            .toList();
+
     private final DataPlaneStatements statements;
     private final SqlLeaseContextBuilder leaseContext;
     private final Clock clock;
@@ -58,11 +68,24 @@ public class SqlDataPlaneStore extends AbstractSqlStore implements DataPlaneStor
     public SqlDataPlaneStore(DataSourceRegistry dataSourceRegistry, String dataSourceName, TransactionContext transactionContext,
                              DataPlaneStatements statements, ObjectMapper objectMapper, Clock clock, QueryExecutor queryExecutor,
                              String leaseHolderName) {
+        this(dataSourceRegistry, dataSourceName, transactionContext, statements, objectMapper, clock, queryExecutor, leaseHolderName, StateMachineObserver.noop());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param observer receives the outcome of acquiring leases on data flows and samples their number by state
+     */
+    public SqlDataPlaneStore(DataSourceRegistry dataSourceRegistry, String dataSourceName, TransactionContext transactionContext,
+                             DataPlaneStatements statements, ObjectMapper objectMapper, Clock clock, QueryExecutor queryExecutor,
+                             String leaseHolderName, StateMachineObserver observer) {
         super(dataSourceRegistry, dataSourceName, transactionContext, objectMapper, queryExecutor);
         this.statements = statements;
         this.clock = clock;
         this.leaseHolderName = leaseHolderName;
-        leaseContext = SqlLeaseContextBuilder.with(transactionContext, leaseHolderName, statements, clock, queryExecutor);
+        leaseContext = SqlLeaseContextBuilder.with(transactionContext, leaseHolderName, statements, clock, queryExecutor)
+                .observedBy(DataFlow.class.getSimpleName(), observer);
+        new StateBacklog(this::countByState, clock).register(observer, DataFlow.class.getSimpleName(), BACKLOG_STATES, DataFlowStates::code);
     }
 
     @Override
@@ -84,14 +107,17 @@ public class SqlDataPlaneStore extends AbstractSqlStore implements DataPlaneStor
             var statement = statements.createQuery(querySpec);
             statement.addWhereClause(statements.getNotLeasedFilter());
             statement.addParameter(clock.millis());
+            statement.addWhereClause(statements.getNextAttemptAtColumn() + " <= ?");
+            statement.addParameter(clock.millis());
 
             try (
                     var connection = getConnection();
                     var stream = queryExecutor.query(connection, true, this::mapDataFlow, statement.getQueryAsString(), statement.getParameters())
             ) {
-                var transferProcesses = stream.collect(Collectors.toList());
-                transferProcesses.forEach(transferProcess -> leaseContext.withConnection(connection).acquireLease(transferProcess.getId()));
-                return transferProcesses;
+                var dataFlows = stream.collect(Collectors.toList());
+                var ids = dataFlows.stream().map(DataFlow::getId).collect(toList());
+                var leased = leaseContext.withConnection(connection).acquireLeases(ids);
+                return dataFlows.stream().filter(dataFlow -> leased.contains(dataFlow.getId())).collect(toList());
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
@@ -134,6 +160,20 @@ public class SqlDataPlaneStore extends AbstractSqlStore implements DataPlaneStor
         });
     }
 
+    private Map<Integer, Long> countByState() {
+        return transactionContext.execute(() -> {
+            try (
+                    var connection = getConnection();
+                    var stream = queryExecutor.query(connection, true, r -> Map.entry(r.getInt(statements.getStateColumn()), r.getLong("count")),
+                            statements.getCountByStateTemplate(BACKLOG_STATES.size()), BACKLOG_STATES.stream().map(DataFlowStates::code).toArray())
+            ) {
+                return stream.collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
     private void insert(Connection connection, DataFlow dataFlow) {
         var sql = statements.getInsertTemplate();
         queryExecutor.execute(connection, sql,
@@ -149,7 +189,8 @@ public class SqlDataPlaneStore extends AbstractSqlStore implements DataPlaneStor
                 dataFlow.isTrackable(),
                 toJson(dataFlow.getSource()),
                 toJson(dataFlow.getDestination()),
-                toJson(dataFlow.getProperties())
+                toJson(dataFlow.getProperties()),
+                dataFlow.getNextAttemptAt()
         );
     }
 
@@ -167,6 +208,7 @@ public class SqlDataPlaneStore extends AbstractSqlStore implements DataPlaneStor
                 toJson(dataFlow.getSource()),
                 toJson(dataFlow.getDestination()),
                 toJson(dataFlow.getProperties()),
+                dataFlow.getNextAttemptAt(),
                 dataFlow.getId());
     }
 
@@ -185,6 +227,7 @@ public class SqlDataPlaneStore extends AbstractSqlStore implements DataPlaneStor
                 .source(fromJson(resultSet.getString(statements.getSourceColumn()), DataAddress.class))
                 .destination(fromJson(resultSet.getString(statements.getDestinationColumn()), DataAddress.class))
                 .properties(fromJson(resultSet.getString(statements.getPropertiesColumn()), getTypeRef()))
+                .nextAttemptAt(resultSet.getLong(statements.getNextAttemptAtColumn()))
                 .build();
     }
 
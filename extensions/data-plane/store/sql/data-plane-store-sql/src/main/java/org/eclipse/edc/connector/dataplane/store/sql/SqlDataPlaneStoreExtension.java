@@ -23,6 +23,7 @@ import org.eclipse.edc.runtime.metamodel.annotation.Provider;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.system.StateMachineObserver;
 import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.sql.QueryExecutor;
 import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
@@ -59,6 +60,9 @@ public class SqlDataPlaneStoreExtension implements ServiceExtension {
     @Inject
     private QueryExecutor queryExecutor;
 
+    @Inject
+    private StateMachineObserver stateMachineObserver;
+
     @Override
     public String name() {
         return NAME;
@@ -67,7 +71,7 @@ public class SqlDataPlaneStoreExtension implements ServiceExtension {
     @Provider
     public DataPlaneStore dataPlaneStore(ServiceExtensionContext context) {
         return new SqlDataPlaneStore(dataSourceRegistry, getDataSourceName(context), transactionContext,
-                getStatementImpl(), typeManager.getMapper(), clock, queryExecutor, context.getConnectorId());
+                getStatementImpl(), typeManager.getMapper(), clock, queryExecutor, context.getConnectorId(), stateMachineObserver);
     }
 
     /**
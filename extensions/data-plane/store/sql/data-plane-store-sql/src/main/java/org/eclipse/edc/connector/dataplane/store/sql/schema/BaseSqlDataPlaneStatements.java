@@ -18,6 +18,8 @@ import org.eclipse.edc.connector.dataplane.store.sql.schema.postgres.DataPlaneMa
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.sql.translation.SqlQueryStatement;
 
+import java.util.Collections;
+
 import static java.lang.String.format;
 
 public class BaseSqlDataPlaneStatements implements DataPlaneStatements {
@@ -43,6 +45,7 @@ public class BaseSqlDataPlaneStatements implements DataPlaneStatements {
                 .jsonColumn(getSourceColumn())
                 .jsonColumn(getDestinationColumn())
                 .jsonColumn(getPropertiesColumn())
+                .column(getNextAttemptAtColumn())
                 .insertInto(getDataPlaneTable());
     }
 
@@ -60,9 +63,16 @@ public class BaseSqlDataPlaneStatements implements DataPlaneStatements {
                 .jsonColumn(getSourceColumn())
                 .jsonColumn(getDestinationColumn())
                 .jsonColumn(getPropertiesColumn())
+                .column(getNextAttemptAtColumn())
                 .update(getDataPlaneTable(), getIdColumn());
     }
 
+    @Override
+    public String getCountByStateTemplate(int stateCount) {
+        return format("SELECT %s, COUNT(*) AS count FROM %s WHERE %s IN (%s) GROUP BY %s", getStateColumn(), getDataPlaneTable(), getStateColumn(),
+                String.join(",", Collections.nCopies(stateCount, "?")), getStateColumn());
+    }
+
     @Override
     public String getSelectTemplate() {
         return "SELECT * FROM %s".formatted(getDataPlaneTable());
@@ -88,6 +98,11 @@ public class BaseSqlDataPlaneStatements implements DataPlaneStatements {
                 .insertInto(getLeaseTableName());
     }
 
+    @Override
+    public String getLeasedEntityTableName() {
+        return getDataPlaneTable();
+    }
+
     @Override
     public String getUpdateLeaseTemplate() {
         return executeStatement()
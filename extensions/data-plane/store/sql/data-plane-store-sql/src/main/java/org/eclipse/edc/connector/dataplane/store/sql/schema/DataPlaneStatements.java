@@ -79,6 +79,10 @@ public interface DataPlaneStatements extends LeaseStatements {
         return "properties";
     }
 
+    default String getNextAttemptAtColumn() {
+        return "next_attempt_at";
+    }
+
     String getFindByIdTemplate();
 
     String getInsertTemplate();
@@ -87,6 +91,8 @@ public interface DataPlaneStatements extends LeaseStatements {
 
     String getSelectTemplate();
 
+    String getCountByStateTemplate(int stateCount);
+
     SqlQueryStatement createQuery(QuerySpec querySpec);
 
 }
@@ -112,6 +112,7 @@ include(":extensions:common:iam:oauth2:oauth2-client")
 include(":extensions:common:iam:oauth2:oauth2-service")
 include(":extensions:common:json-ld")
 include(":extensions:common:metrics:micrometer-core")
+include(":extensions:common:monitor:monitor-async")
 include(":extensions:common:monitor:monitor-jdk-logger")
 include(":extensions:common:sql:sql-core")
 include(":extensions:common:sql:sql-lease")
@@ -206,6 +207,7 @@ include(":spi:data-plane-selector:data-plane-selector-spi")
 include(":spi:policy-monitor:policy-monitor-spi")
 
 // modules for system tests ------------------------------------------------------------------------
+include(":system-tests:benchmarks")
 include(":system-tests:e2e-transfer-test:backend-service")
 include(":system-tests:e2e-transfer-test:control-plane")
 include(":system-tests:e2e-transfer-test:control-plane-postgresql")
@@ -36,6 +36,7 @@ public abstract class StatefulEntity<T extends StatefulEntity<T>> extends Mutabl
     protected Map<String, String> traceContext = new HashMap<>();
     protected String errorDetail;
     protected boolean pending = false;
+    protected long nextAttemptAt;
 
     protected StatefulEntity() {
     }
@@ -65,6 +66,18 @@ public abstract class StatefulEntity<T extends StatefulEntity<T>> extends Mutabl
         return pending;
     }
 
+    /**
+     * Timestamp before which the entity should not be picked up by the state machine, e.g. because it's waiting for
+     * the delay of a retry to expire. 0 means that the entity can be processed right away.
+     */
+    public long getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public void setNextAttemptAt(long nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
     public void setErrorDetail(String errorDetail) {
         this.errorDetail = errorDetail;
     }
@@ -94,6 +107,7 @@ public abstract class StatefulEntity<T extends StatefulEntity<T>> extends Mutabl
     protected void transitionTo(int targetState) {
         stateCount = state == targetState ? stateCount + 1 : 1;
         state = targetState;
+        nextAttemptAt = 0;
         updateStateTimestamp();
         setModified();
     }
@@ -110,6 +124,7 @@ public abstract class StatefulEntity<T extends StatefulEntity<T>> extends Mutabl
                 .errorDetail(errorDetail)
                 .clock(clock)
                 .pending(pending)
+                .nextAttemptAt(nextAttemptAt)
                 .build();
     }
 
@@ -156,6 +171,11 @@ public abstract class StatefulEntity<T extends StatefulEntity<T>> extends Mutabl
             return self();
         }
 
+        public B nextAttemptAt(long nextAttemptAt) {
+            entity.nextAttemptAt = nextAttemptAt;
+            return self();
+        }
+
         protected T build() {
             super.build();
             if (entity.id == null) {
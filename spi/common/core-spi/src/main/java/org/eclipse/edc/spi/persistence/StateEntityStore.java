@@ -63,6 +63,11 @@ public interface StateEntityStore<T> {
      *         This will avoid consecutive fetches in the state machine loop
      *         <p><p>
      *     </li>
+     *     <li>
+     *         * entities whose next attempt timestamp ({@link org.eclipse.edc.spi.entity.StatefulEntity#getNextAttemptAt()}) is in the future
+     *         should not be fetched, so that entities waiting for a retry delay are not leased until they are due
+     *         <p><p>
+     *     </li>
      * </ul>
      *
      * @param max      The maximum amount of result items.
@@ -0,0 +1,108 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.spi.system;
+
+import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Receives notifications about the work of the state machines and of the leasing of their entities, to collect
+ * metrics when available. Callbacks are invoked on the state machine threads, so implementations must be thread-safe
+ * and return quickly. Values that are sampled rather than notified, like the size of a backlog or of a queue, are
+ * registered as gauges.
+ * <p>
+ * The default implementation ignores all notifications. Extension modules can provide implementations, such as for
+ * collecting metrics.
+ */
+@ExtensionPoint
+public interface StateMachineObserver {
+
+    /**
+     * Default implementation that ignores all notifications.
+     *
+     * @return a default {@link StateMachineObserver} implementation.
+     */
+    static StateMachineObserver noop() {
+        return new StateMachineObserver() {
+        };
+    }
+
+    /**
+     * Called when a state machine loop has run all its processors once.
+     *
+     * @param manager   name of the state machine.
+     * @param processed number of entities processed in the iteration.
+     * @param duration  duration of the iteration.
+     */
+    default void iterationCompleted(String manager, long processed, Duration duration) {
+    }
+
+    /**
+     * Called when a processor has handled a batch of entities. Entities that were fetched but not processed have been
+     * handed back to the store, e.g. by breaking their lease.
+     *
+     * @param manager         name of the state machine.
+     * @param state           state of the entities handled by the processor.
+     * @param fetched         number of entities fetched, and leased, from the store.
+     * @param processed       number of entities processed.
+     * @param fetchDuration   time spent fetching and leasing the entities.
+     * @param processDuration time spent processing the entities.
+     */
+    default void batchProcessed(String manager, String state, int fetched, long processed, Duration fetchDuration, Duration processDuration) {
+    }
+
+    /**
+     * Called when an entity is processed again after a failure.
+     *
+     * @param entityType type of the entity.
+     * @param attempt    number of the retry.
+     */
+    default void retryAttempted(String entityType, int attempt) {
+    }
+
+    /**
+     * Called when the retry of an entity is postponed because its backoff delay has not expired yet.
+     *
+     * @param entityType  type of the entity.
+     * @param attempt     number of the retry.
+     * @param delayMillis remaining delay before the retry.
+     */
+    default void retryDelayed(String entityType, int attempt, long delayMillis) {
+    }
+
+    /**
+     * Called when leases on a set of entities have been requested.
+     *
+     * @param entityType type of the entities.
+     * @param requested  number of entities to lease.
+     * @param acquired   number of entities actually leased, the others were leased by someone else.
+     * @param duration   time spent acquiring the leases.
+     */
+    default void leasesAcquired(String entityType, int requested, int acquired, Duration duration) {
+    }
+
+    /**
+     * Called once to register a value that is sampled whenever metrics are collected.
+     *
+     * @param name  name of the gauge.
+     * @param tags  tags that tell apart the gauges with the same name.
+     * @param value supplier of the current value, called on the thread that collects the metrics.
+     */
+    default void registerGauge(String name, Map<String, String> tags, Supplier<Number> value) {
+    }
+}
@@ -21,6 +21,9 @@ import org.eclipse.edc.spi.retry.WaitStrategy;
  * Implements a wait strategy for the contract negotiation managers.
  * <p>
  * Implementations may choose to enforce an incremental backoff period when successive errors are encountered.
+ * <p>
+ * The registered instance is shared by all the state machine loops of the managers, so it must be stateless: a
+ * strategy that keeps track of failures must be provided through a {@link NegotiationWaitStrategyFactory} instead.
  */
 @FunctionalInterface
 @ExtensionPoint
@@ -711,6 +711,19 @@ public abstract class ContractNegotiationStoreTestBase {
             assertThat(batch).hasSize(5).isSubsetOf(negotiations);
         }
 
+        @Test
+        void shouldNotReturnItemsBeforeNextAttempt() {
+            var now = Clock.systemUTC().millis();
+            var notDue = createNegotiationBuilder("not-due").state(REQUESTED.code()).nextAttemptAt(now + 60_000).build();
+            var due = createNegotiationBuilder("due").state(REQUESTED.code()).nextAttemptAt(now - 1).build();
+            getContractNegotiationStore().save(notDue);
+            getContractNegotiationStore().save(due);
+
+            var result = getContractNegotiationStore().nextNotLeased(10, hasState(REQUESTED.code()));
+
+            assertThat(result).hasSize(1).extracting(ContractNegotiation::getId).containsExactly("due");
+        }
+
         @Test
         void typeFilter() {
             range(0, 5).mapToObj(it -> createNegotiationBuilder("1" + it)
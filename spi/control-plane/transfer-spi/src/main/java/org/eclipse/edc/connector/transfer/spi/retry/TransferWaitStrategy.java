@@ -21,6 +21,9 @@ import org.eclipse.edc.spi.retry.WaitStrategy;
  * Implements a wait strategy for the {@link TransferProcessManager}.
  * <p>
  * Implementations may choose to enforce an incremental backoff period when successive errors are encountered.
+ * <p>
+ * The registered instance is shared by all the state machine loops of the managers, so it must be stateless: a
+ * strategy that keeps track of failures must be provided through a {@link TransferWaitStrategyFactory} instead.
  */
 @FunctionalInterface
 public interface TransferWaitStrategy extends WaitStrategy {
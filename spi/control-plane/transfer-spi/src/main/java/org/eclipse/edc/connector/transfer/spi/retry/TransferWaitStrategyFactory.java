@@ -0,0 +1,34 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.transfer.spi.retry;
+
+import org.eclipse.edc.connector.transfer.spi.TransferProcessManager;
+import org.eclipse.edc.spi.retry.WaitStrategy;
+
+/**
+ * Creates the wait strategies of the {@link TransferProcessManager}. Every state machine loop gets its own instance, so
+ * that the backoff applied by one loop does not affect the others. Takes precedence over a registered
+ * {@link TransferWaitStrategy}.
+ */
+@FunctionalInterface
+public interface TransferWaitStrategyFactory {
+
+    /**
+     * Creates a new wait strategy, not shared with any other loop.
+     *
+     * @return the wait strategy.
+     */
+    WaitStrategy create();
+}
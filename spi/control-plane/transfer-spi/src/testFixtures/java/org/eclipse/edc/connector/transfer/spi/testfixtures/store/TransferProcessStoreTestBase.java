@@ -29,6 +29,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
 import java.time.Duration;
 import java.util.Comparator;
 import java.util.List;
@@ -136,6 +137,21 @@ public abstract class TransferProcessStoreTestBase {
                     .doesNotContainAnyElementsOf(leasedTp);
         }
 
+        @Test
+        void shouldNotReturnItemsBeforeNextAttempt() {
+            var state = STARTED;
+            var now = Clock.systemUTC().millis();
+            var notDue = createTransferProcessBuilder("not-due").state(state.code()).nextAttemptAt(now + 60_000).build();
+            var due = createTransferProcessBuilder("due").state(state.code()).nextAttemptAt(now - 1).build();
+            getTransferProcessStore().save(notDue);
+            getTransferProcessStore().save(due);
+
+            assertThat(getTransferProcessStore().nextNotLeased(10, hasState(state.code())))
+                    .hasSize(1)
+                    .extracting(TransferProcess::getId)
+                    .containsExactly("due");
+        }
+
         @Test
         void noFreeItem_shouldReturnEmpty() {
             var state = STARTED;
@@ -26,6 +26,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.net.URI;
+import java.time.Clock;
 import java.time.Duration;
 import java.util.UUID;
 
@@ -109,6 +110,21 @@ public abstract class DataPlaneStoreTestBase {
                     .doesNotContainAnyElementsOf(firstLeased.stream().map(Entity::getId).toList());
         }
 
+        @Test
+        void shouldNotReturnEntitiesBeforeNextAttempt() {
+            var now = Clock.systemUTC().millis();
+            var notDue = createDataFlow("not-due", RECEIVED);
+            notDue.setNextAttemptAt(now + 60_000);
+            var due = createDataFlow("due", RECEIVED);
+            due.setNextAttemptAt(now - 1);
+            getStore().save(notDue);
+            getStore().save(due);
+
+            var leased = getStore().nextNotLeased(10, hasState(RECEIVED.code()));
+
+            assertThat(leased).hasSize(1).extracting(DataFlow::getId).containsExactly("due");
+        }
+
         @Test
         void shouldReturnFreeItemInTheExpectedState() {
             range(0, 5)
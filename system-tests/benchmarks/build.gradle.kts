@@ -0,0 +1,93 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+import groovy.json.JsonSlurper
+
+plugins {
+    java
+    alias(libs.plugins.jmh)
+}
+
+dependencies {
+    jmh(project(":core:common:connector-core"))
+    jmh(project(":core:common:policy-engine"))
+    jmh(project(":core:common:transform-core"))
+    jmh(project(":core:common:util"))
+    jmh(project(":core:control-plane:catalog-core"))
+    jmh(project(":core:control-plane:control-plane-core"))
+    jmh(project(":core:data-plane:data-plane-util"))
+    jmh(project(":extensions:common:json-ld"))
+    jmh(project(":extensions:common:sql:sql-core"))
+    jmh(project(":spi:common:json-ld-spi"))
+    jmh(project(":spi:control-plane:control-plane-spi"))
+    jmh(project(":spi:data-plane:data-plane-spi"))
+
+    jmh(libs.postgres)
+    jmh(libs.testcontainers.postgres)
+}
+
+edcBuild {
+    publish.set(false)
+}
+
+val jmhResults = layout.buildDirectory.file("results/jmh/results.json")
+val jmhBaselineResults = layout.projectDirectory.file("baseline/results.json")
+
+jmh {
+    jmhVersion.set(libs.versions.jmh)
+    resultFormat.set("JSON")
+    resultsFile.set(jmhResults)
+    fork.set(1)
+    warmupIterations.set(3)
+    warmup.set("2s")
+    iterations.set(5)
+    timeOnIteration.set("2s")
+    // run a subset with e.g. -PbenchmarkIncludes=PolicyEngine
+    project.findProperty("benchmarkIncludes")?.let { includes.set(listOf(it.toString())) }
+}
+
+// stores the results of the last run as the baseline, to be committed when cutting a release
+tasks.register<Copy>("jmhBaseline") {
+    from(jmhResults)
+    into(jmhBaselineResults.asFile.parentFile)
+}
+
+// prints the relative change of every benchmark score between the baseline and the last run
+tasks.register("jmhCompare") {
+    doLast {
+        val baseline = jmhBaselineResults.asFile
+        val results = jmhResults.get().asFile
+        if (!baseline.exists() || !results.exists()) {
+            throw GradleException("Both ${baseline} and ${results} are needed, run the jmh and jmhBaseline tasks first")
+        }
+
+        fun scores(file: File): Map<String, Pair<Double, String>> {
+            @Suppress("UNCHECKED_CAST")
+            val entries = JsonSlurper().parse(file) as List<Map<String, Any>>
+            return entries.associate { entry ->
+                val params = (entry["params"] as Map<*, *>?)?.entries?.joinToString(",", "(", ")") { "${it.key}=${it.value}" } ?: ""
+                val metric = entry["primaryMetric"] as Map<*, *>
+                "${entry["benchmark"]}$params" to ((metric["score"] as Number).toDouble() to metric["scoreUnit"].toString())
+            }
+        }
+
+        val before = scores(baseline)
+        val after = scores(results)
+        after.toSortedMap().forEach { (name, score) ->
+            val previous = before[name]
+            val change = previous?.let { String.format("%+.1f%%", (score.first - it.first) / it.first * 100) } ?: "new"
+            println(String.format("%-110s %14.3f %-8s %s", name, score.first, score.second, change))
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.test.benchmark;
+
+import org.eclipse.edc.catalog.spi.Catalog;
+import org.eclipse.edc.catalog.spi.DataService;
+import org.eclipse.edc.catalog.spi.Dataset;
+import org.eclipse.edc.catalog.spi.Distribution;
+import org.eclipse.edc.connector.contract.spi.types.offer.ContractDefinition;
+import org.eclipse.edc.policy.model.Action;
+import org.eclipse.edc.policy.model.AtomicConstraint;
+import org.eclipse.edc.policy.model.LiteralExpression;
+import org.eclipse.edc.policy.model.Permission;
+import org.eclipse.edc.policy.model.Policy;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.eclipse.edc.spi.types.domain.asset.Asset;
+
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.eclipse.edc.policy.model.Operator.EQ;
+import static org.eclipse.edc.spi.CoreConstants.EDC_NAMESPACE;
+
+/**
+ * Generates the entities used by the benchmarks. Every generator is deterministic: the same arguments always produce
+ * the same entities, so the results of different runs and releases can be compared.
+ */
+public final class BenchmarkData {
+
+    public static final String CATEGORY_PROPERTY = EDC_NAMESPACE + "category";
+    public static final int CATEGORIES = 10;
+    public static final String USE_ACTION = "use";
+
+    private static final long SEED = 42;
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Returns a random generator with a fixed seed.
+     */
+    public static Random random() {
+        return new Random(SEED);
+    }
+
+    /**
+     * Assets with a handful of properties, spread evenly over {@link #CATEGORIES} categories.
+     */
+    public static List<Asset> assets(int count) {
+        var random = random();
+        return IntStream.range(0, count)
+                .mapToObj(i -> Asset.Builder.newInstance()
+                        .id("asset-" + i)
+                        .name("Asset " + i)
+                        .description("Benchmark asset number " + i)
+                        .version("1." + random.nextInt(10))
+                        .contentType("application/json")
+                        .property(CATEGORY_PROPERTY, "category-" + i % CATEGORIES)
+                        .property(EDC_NAMESPACE + "size", random.nextInt(1_000_000))
+                        .dataAddress(DataAddress.Builder.newInstance().type("HttpData").property("baseUrl", "http://localhost/" + i).build())
+                        .build())
+                .toList();
+    }
+
+    /**
+     * Contract definitions that select the assets of one category each, with access and contract policies chosen among
+     * {@code policies} ids of the form {@code policy-N}.
+     */
+    public static List<ContractDefinition> contractDefinitions(int count, int policies) {
+        var random = random();
+        return IntStream.range(0, count)
+                .mapToObj(i -> ContractDefinition.Builder.newInstance()
+                        .id("definition-" + i)
+                        .accessPolicyId("policy-" + random.nextInt(policies))
+                        .contractPolicyId("policy-" + random.nextInt(policies))
+                        .assetsSelectorCriterion(new Criterion(CATEGORY_PROPERTY, "=", "category-" + i % CATEGORIES))
+                        .build())
+                .toList();
+    }
+
+    /**
+     * A policy with one permission to {@link #USE_ACTION} constrained by {@code constraints} atomic constraints, with
+     * left operands {@code constraint-0} to {@code constraint-N}.
+     */
+    public static Policy policy(int constraints) {
+        var permission = Permission.Builder.newInstance()
+                .action(Action.Builder.newInstance().type(USE_ACTION).build());
+        IntStream.range(0, constraints)
+                .mapToObj(i -> AtomicConstraint.Builder.newInstance()
+                        .leftExpression(new LiteralExpression("constraint-" + i))
+                        .operator(EQ)
+                        .rightExpression(new LiteralExpression("value-" + i))
+                        .build())
+                .forEach(permission::constraint);
+        return Policy.Builder.newInstance().permission(permission.build()).build();
+    }
+
+    /**
+     * A catalog of {@code datasets} datasets, each with an offer and a distribution.
+     */
+    public static Catalog catalog(int datasets) {
+        var dataService = DataService.Builder.newInstance()
+                .id("data-service")
+                .terms("connector")
+                .endpointUrl("http://localhost/protocol")
+                .build();
+        var policy = policy(3);
+        var catalog = Catalog.Builder.newInstance()
+                .id("catalog")
+                .dataService(dataService)
+                .property(EDC_NAMESPACE + "participantId", "provider");
+        assets(datasets).stream()
+                .map(asset -> Dataset.Builder.newInstance()
+                        .id(asset.getId())
+                        .offer("offer-" + asset.getId(), policy)
+                        .distribution(Distribution.Builder.newInstance().format("HttpData").dataService(dataService).build())
+                        .properties(asset.getProperties())
+                        .build())
+                .forEach(catalog::dataset);
+        return catalog.build();
+    }
+
+    /**
+     * Random bytes of the given size.
+     */
+    public static byte[] bytes(int size) {
+        var bytes = new byte[size];
+        random().nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.test.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import org.eclipse.edc.catalog.spi.Catalog;
+import org.eclipse.edc.core.transform.TypeTransformerRegistryImpl;
+import org.eclipse.edc.core.transform.transformer.from.JsonObjectFromCatalogTransformer;
+import org.eclipse.edc.core.transform.transformer.from.JsonObjectFromDataServiceTransformer;
+import org.eclipse.edc.core.transform.transformer.from.JsonObjectFromDatasetTransformer;
+import org.eclipse.edc.core.transform.transformer.from.JsonObjectFromDistributionTransformer;
+import org.eclipse.edc.core.transform.transformer.from.JsonObjectFromPolicyTransformer;
+import org.eclipse.edc.jsonld.util.JacksonJsonLd;
+import org.eclipse.edc.policy.model.AtomicConstraint;
+import org.eclipse.edc.policy.model.LiteralExpression;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Transforms a catalog into its JSON-LD representation through the {@link TypeTransformerRegistry}, with the
+ * transformers registered by the DSP API, as done for every catalog request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CatalogTransformationBenchmark {
+
+    @Param({ "10", "100", "1000" })
+    private int datasets;
+
+    private TypeTransformerRegistry registry;
+    private Catalog catalog;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper mapper = JacksonJsonLd.createObjectMapper();
+        mapper.registerSubtypes(AtomicConstraint.class, LiteralExpression.class);
+        var jsonFactory = Json.createBuilderFactory(Map.of());
+
+        registry = new TypeTransformerRegistryImpl();
+        registry.register(new JsonObjectFromCatalogTransformer(jsonFactory, mapper));
+        registry.register(new JsonObjectFromDatasetTransformer(jsonFactory, mapper));
+        registry.register(new JsonObjectFromPolicyTransformer(jsonFactory));
+        registry.register(new JsonObjectFromDistributionTransformer(jsonFactory));
+        registry.register(new JsonObjectFromDataServiceTransformer(jsonFactory));
+
+        catalog = BenchmarkData.catalog(datasets);
+    }
+
+    @Benchmark
+    public Result<JsonObject> transformCatalog() {
+        return registry.transform(catalog, JsonObject.class);
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.test.benchmark;
+
+import org.eclipse.edc.catalog.spi.Dataset;
+import org.eclipse.edc.catalog.spi.DatasetResolver;
+import org.eclipse.edc.connector.asset.CriterionToAssetPredicateConverterImpl;
+import org.eclipse.edc.connector.catalog.DatasetResolverImpl;
+import org.eclipse.edc.connector.contract.spi.offer.ContractDefinitionResolver;
+import org.eclipse.edc.connector.contract.spi.types.offer.ContractDefinition;
+import org.eclipse.edc.connector.defaults.storage.assetindex.InMemoryAssetIndex;
+import org.eclipse.edc.connector.defaults.storage.policydefinition.InMemoryPolicyDefinitionStore;
+import org.eclipse.edc.connector.policy.spi.PolicyDefinition;
+import org.eclipse.edc.spi.agent.ParticipantAgent;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.util.concurrency.LockManager;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+import static org.eclipse.edc.test.benchmark.BenchmarkData.CATEGORY_PROPERTY;
+
+/**
+ * Queries a page of datasets from a large in-memory asset index, either with a single contract definition that
+ * selects all assets or with one contract definition per asset category.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DatasetResolverBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+
+    @Param({ "1000", "10000", "100000" })
+    private int assets;
+
+    @Param({ "all", "category" })
+    private String selector;
+
+    private final ParticipantAgent agent = new ParticipantAgent(Map.of(), Map.of());
+    private DatasetResolver datasetResolver;
+
+    @Setup
+    public void setUp() {
+        var assetIndex = new InMemoryAssetIndex();
+        BenchmarkData.assets(assets).forEach(assetIndex::create);
+
+        var policyStore = new InMemoryPolicyDefinitionStore(new LockManager(new ReentrantReadWriteLock()));
+        policyStore.create(PolicyDefinition.Builder.newInstance().id("policy-0").policy(BenchmarkData.policy(3)).build());
+
+        var definitions = "all".equals(selector)
+                ? List.of(ContractDefinition.Builder.newInstance().id("definition").accessPolicyId("policy-0").contractPolicyId("policy-0").build())
+                : BenchmarkData.contractDefinitions(BenchmarkData.CATEGORIES, 1);
+
+        datasetResolver = new DatasetResolverImpl(new StaticContractDefinitionResolver(definitions), assetIndex, policyStore,
+                (asset, dataAddress) -> List.of(), new CriterionToAssetPredicateConverterImpl());
+    }
+
+    @Benchmark
+    public List<Dataset> firstPage() {
+        var querySpec = QuerySpec.Builder.newInstance().offset(0).limit(PAGE_SIZE).build();
+        return datasetResolver.query(agent, querySpec).toList();
+    }
+
+    @Benchmark
+    public List<Dataset> lastPage() {
+        var querySpec = QuerySpec.Builder.newInstance().offset(assets - PAGE_SIZE).limit(PAGE_SIZE).build();
+        return datasetResolver.query(agent, querySpec).toList();
+    }
+
+    @Benchmark
+    public List<Dataset> filteredPage() {
+        var querySpec = QuerySpec.Builder.newInstance().offset(0).limit(PAGE_SIZE)
+                .filter(new Criterion(CATEGORY_PROPERTY, "=", "category-3"))
+                .build();
+        return datasetResolver.query(agent, querySpec).toList();
+    }
+
+    /**
+     * Grants every definition to every agent, so the benchmark measures the resolution of the datasets only.
+     */
+    private record StaticContractDefinitionResolver(List<ContractDefinition> definitions) implements ContractDefinitionResolver {
+
+        @Override
+        public @NotNull Stream<ContractDefinition> definitionsFor(ParticipantAgent agent) {
+            return definitions.stream();
+        }
+
+        @Override
+        public @Nullable ContractDefinition definitionFor(ParticipantAgent agent, String definitionId) {
+            return definitions.stream().filter(definition -> definition.getId().equals(definitionId)).findFirst().orElse(null);
+        }
+    }
+}
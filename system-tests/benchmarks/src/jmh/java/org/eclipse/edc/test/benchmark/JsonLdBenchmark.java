@@ -0,0 +1,114 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.test.benchmark;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import org.eclipse.edc.jsonld.TitaniumJsonLd;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.CONTEXT;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.ID;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.TYPE;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.VOCAB;
+import static org.eclipse.edc.jsonld.spi.Namespaces.DCAT_PREFIX;
+import static org.eclipse.edc.jsonld.spi.Namespaces.DCAT_SCHEMA;
+import static org.eclipse.edc.policy.model.OdrlNamespace.ODRL_PREFIX;
+import static org.eclipse.edc.policy.model.OdrlNamespace.ODRL_SCHEMA;
+import static org.eclipse.edc.spi.CoreConstants.EDC_NAMESPACE;
+
+/**
+ * Expands and compacts a catalog-like JSON-LD document with a growing number of datasets. The context is inlined, so
+ * no remote document is loaded.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonLdBenchmark {
+
+    @Param({ "1", "50" })
+    private int datasets;
+
+    private TitaniumJsonLd jsonLd;
+    private JsonObject compacted;
+    private JsonObject expanded;
+
+    @Setup
+    public void setUp() {
+        jsonLd = new TitaniumJsonLd(new Monitor() {
+        });
+        jsonLd.registerNamespace(DCAT_PREFIX, DCAT_SCHEMA);
+        jsonLd.registerNamespace(ODRL_PREFIX, ODRL_SCHEMA);
+
+        var datasetArray = Json.createArrayBuilder();
+        IntStream.range(0, datasets).mapToObj(this::dataset).forEach(datasetArray::add);
+        compacted = Json.createObjectBuilder()
+                .add(CONTEXT, Json.createObjectBuilder()
+                        .add(VOCAB, EDC_NAMESPACE)
+                        .add(DCAT_PREFIX, DCAT_SCHEMA)
+                        .add(ODRL_PREFIX, ODRL_SCHEMA))
+                .add(ID, "catalog")
+                .add(TYPE, "dcat:Catalog")
+                .add("participantId", "provider")
+                .add("dcat:dataset", datasetArray)
+                .build();
+        expanded = jsonLd.expand(compacted).orElseThrow(failure -> new IllegalStateException(failure.getFailureDetail()));
+    }
+
+    @Benchmark
+    public Result<JsonObject> expand() {
+        return jsonLd.expand(compacted);
+    }
+
+    @Benchmark
+    public Result<JsonObject> compact() {
+        return jsonLd.compact(expanded);
+    }
+
+    private JsonObject dataset(int index) {
+        var constraint = Json.createObjectBuilder()
+                .add("odrl:leftOperand", "region")
+                .add("odrl:operator", Json.createObjectBuilder().add(ID, "odrl:eq"))
+                .add("odrl:rightOperand", "eu");
+        var policy = Json.createObjectBuilder()
+                .add(ID, "offer-" + index)
+                .add(TYPE, "odrl:Offer")
+                .add("odrl:permission", Json.createObjectBuilder()
+                        .add("odrl:action", Json.createObjectBuilder().add(ID, "odrl:use"))
+                        .add("odrl:constraint", constraint));
+        return Json.createObjectBuilder()
+                .add(ID, "asset-" + index)
+                .add(TYPE, "dcat:Dataset")
+                .add("name", "Asset " + index)
+                .add("contenttype", "application/json")
+                .add("odrl:hasPolicy", policy)
+                .add("dcat:distribution", Json.createObjectBuilder()
+                        .add(TYPE, "dcat:Distribution")
+                        .add("dcat:accessService", "data-service"))
+                .build();
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.test.benchmark;
+
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.connector.dataplane.util.sink.ParallelSink;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Transfers in-memory parts through a {@link ParallelSink} that discards the data, to measure the overhead of the
+ * partitioning and of the dispatching to the executor for different part and partition sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ParallelSinkBenchmark {
+
+    private static final int PARTS = 64;
+    private static final int THREADS = 4;
+
+    @Param({ "1024", "1048576" })
+    private int partSize;
+
+    @Param({ "1", "5", "20" })
+    private int partitionSize;
+
+    private ExecutorService executorService;
+    private DataSource source;
+    private DiscardingSink sink;
+
+    @Setup
+    public void setUp() {
+        executorService = Executors.newFixedThreadPool(THREADS);
+        var content = BenchmarkData.bytes(partSize);
+        var parts = IntStream.range(0, PARTS)
+                .<DataSource.Part>mapToObj(i -> new InMemoryPart("part-" + i, content))
+                .toList();
+        source = () -> StreamResult.success(parts.stream());
+        sink = DiscardingSink.Builder.newInstance()
+                .requestId("benchmark")
+                .partitionSize(partitionSize)
+                .executorService(executorService)
+                .monitor(new Monitor() {
+                })
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Benchmark
+    public StreamResult<Void> transfer() {
+        return sink.transfer(source).join();
+    }
+
+    private record InMemoryPart(String name, byte[] content) implements DataSource.Part {
+
+        @Override
+        public long size() {
+            return content.length;
+        }
+
+        @Override
+        public InputStream openStream() {
+            return new ByteArrayInputStream(content);
+        }
+    }
+
+    private static class DiscardingSink extends ParallelSink {
+
+        @Override
+        protected StreamResult<Void> transferParts(List<DataSource.Part> parts) {
+            for (var part : parts) {
+                try (var stream = part.openStream()) {
+                    stream.transferTo(OutputStream.nullOutputStream());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            return StreamResult.success();
+        }
+
+        private static class Builder extends ParallelSink.Builder<Builder, DiscardingSink> {
+
+            private Builder() {
+                super(new DiscardingSink());
+            }
+
+            static Builder newInstance() {
+                return new Builder();
+            }
+
+            @Override
+            protected void validate() {
+            }
+        }
+    }
+}
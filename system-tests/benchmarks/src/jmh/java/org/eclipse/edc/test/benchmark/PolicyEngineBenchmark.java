@@ -0,0 +1,71 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.test.benchmark;
+
+import org.eclipse.edc.policy.engine.PolicyEngineImpl;
+import org.eclipse.edc.policy.engine.RuleBindingRegistryImpl;
+import org.eclipse.edc.policy.engine.ScopeFilter;
+import org.eclipse.edc.policy.engine.spi.PolicyContextImpl;
+import org.eclipse.edc.policy.engine.spi.PolicyEngine;
+import org.eclipse.edc.policy.model.Permission;
+import org.eclipse.edc.policy.model.Policy;
+import org.eclipse.edc.spi.result.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Evaluates a policy whose permission has a growing number of constraints, each bound to an atomic constraint
+ * function in the evaluated scope.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PolicyEngineBenchmark {
+
+    private static final String SCOPE = "benchmark";
+
+    @Param({ "1", "10", "50" })
+    private int constraints;
+
+    private PolicyEngine policyEngine;
+    private Policy policy;
+
+    @Setup
+    public void setUp() {
+        var bindingRegistry = new RuleBindingRegistryImpl();
+        policyEngine = new PolicyEngineImpl(new ScopeFilter(bindingRegistry));
+        bindingRegistry.bind(BenchmarkData.USE_ACTION, SCOPE);
+        for (var i = 0; i < constraints; i++) {
+            var key = "constraint-" + i;
+            var expected = "value-" + i;
+            bindingRegistry.bind(key, SCOPE);
+            policyEngine.registerFunction(SCOPE, Permission.class, key, (operator, rightValue, permission, context) -> expected.equals(rightValue));
+        }
+        policy = BenchmarkData.policy(constraints);
+    }
+
+    @Benchmark
+    public Result<Void> evaluate() {
+        return policyEngine.evaluate(SCOPE, policy, PolicyContextImpl.Builder.newInstance().build());
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.test.benchmark;
+
+import org.eclipse.edc.connector.contract.spi.types.offer.ContractDefinition;
+import org.eclipse.edc.connector.core.store.ReflectionBasedQueryResolver;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.QueryResolver;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.query.SortOrder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Filters and sorts contract definitions with the {@link ReflectionBasedQueryResolver}, as the in-memory stores do.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReflectionBasedQueryResolverBenchmark {
+
+    private static final int POLICIES = 100;
+
+    @Param({ "1000", "10000" })
+    private int entities;
+
+    private final QueryResolver<ContractDefinition> queryResolver = new ReflectionBasedQueryResolver<>(ContractDefinition.class);
+    private final QuerySpec filter = QuerySpec.Builder.newInstance()
+            .filter(new Criterion("accessPolicyId", "=", "policy-7"))
+            .limit(50)
+            .build();
+    private final QuerySpec filterAndSort = QuerySpec.Builder.newInstance()
+            .filter(new Criterion("contractPolicyId", "in", List.of("policy-1", "policy-2", "policy-3")))
+            .sortField("id")
+            .sortOrder(SortOrder.DESC)
+            .limit(50)
+            .build();
+    private List<ContractDefinition> definitions;
+
+    @Setup
+    public void setUp() {
+        definitions = BenchmarkData.contractDefinitions(entities, POLICIES);
+    }
+
+    @Benchmark
+    public List<ContractDefinition> filter() {
+        return queryResolver.query(definitions.stream(), filter).toList();
+    }
+
+    @Benchmark
+    public List<ContractDefinition> filterAndSort() {
+        return queryResolver.query(definitions.stream(), filterAndSort).toList();
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.test.benchmark;
+
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.SqlQueryExecutor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Runs the statements typical of the SQL stores through the {@link SqlQueryExecutor} against a PostgreSQL database
+ * started in a container, as the upsert uses the PostgreSQL {@code INSERT ... ON CONFLICT} form. The connection does
+ * not come from a pool, so every statement is prepared anew, which is the worst case for the executor.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SqlQueryExecutorBenchmark {
+
+    private static final String FIND_BY_ID = "SELECT * FROM benchmark_entity WHERE id = ?";
+    private static final String FIND_PAGE = "SELECT * FROM benchmark_entity WHERE state = ? ORDER BY id LIMIT ? OFFSET ?";
+    private static final String UPSERT = "INSERT INTO benchmark_scratch VALUES (?, ?, ?) " +
+            "ON CONFLICT (id) DO UPDATE SET state = EXCLUDED.state, properties = EXCLUDED.properties";
+    private static final String POSTGRES_IMAGE_NAME = "postgres:14.2";
+    private static final int STATES = 10;
+    private static final int BATCH_SIZE = 100;
+
+    @Param({ "10000" })
+    private int rows;
+
+    private final QueryExecutor queryExecutor = new SqlQueryExecutor();
+    private PostgreSQLContainer<?> postgres;
+    private Connection connection;
+    private List<Object[]> batch;
+    private int next;
+
+    @Setup
+    public void setUp() throws SQLException {
+        postgres = new PostgreSQLContainer<>(POSTGRES_IMAGE_NAME);
+        postgres.start();
+        connection = DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+        for (var table : List.of("benchmark_entity", "benchmark_scratch")) {
+            queryExecutor.execute(connection, "DROP TABLE IF EXISTS " + table);
+            queryExecutor.execute(connection, "CREATE TABLE " + table + " (id VARCHAR PRIMARY KEY, state INTEGER, properties VARCHAR)");
+        }
+
+        var random = BenchmarkData.random();
+        var entities = IntStream.range(0, rows)
+                .mapToObj(i -> new Object[]{ "entity-" + i, random.nextInt(STATES), "{\"key\":\"value-" + i + "\"}" })
+                .toList();
+        queryExecutor.executeBatch(connection, "INSERT INTO benchmark_entity VALUES (?, ?, ?)", entities);
+
+        batch = IntStream.range(0, BATCH_SIZE)
+                .mapToObj(i -> new Object[]{ "scratch-" + i, i % STATES, "{\"key\":\"value-" + i + "\"}" })
+                .toList();
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.close();
+        postgres.stop();
+    }
+
+    @Benchmark
+    public String findById() {
+        next = (next + 1) % rows;
+        return queryExecutor.single(connection, false, resultSet -> resultSet.getString("properties"), FIND_BY_ID, "entity-" + next);
+    }
+
+    @Benchmark
+    public List<String> findPage() {
+        try (var stream = queryExecutor.query(connection, false, resultSet -> resultSet.getString("id"), FIND_PAGE, 3, 50, 100)) {
+            return stream.toList();
+        }
+    }
+
+    @Benchmark
+    public int upsertOneByOne() {
+        var updated = 0;
+        for (var row : batch) {
+            updated += queryExecutor.execute(connection, UPSERT, row);
+        }
+        return updated;
+    }
+
+    @Benchmark
+    public int[] upsertBatch() {
+        return queryExecutor.executeBatch(connection, UPSERT, batch);
+    }
+}